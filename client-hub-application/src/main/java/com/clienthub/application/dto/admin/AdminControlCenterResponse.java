@@ -8,5 +8,6 @@ public record AdminControlCenterResponse(
         List<OperationalAlert> alerts,
         List<AdminEventItem> recentEvents,
         List<AdminAuditLogResponse> recentAuditLogs,
-        List<AdminFeatureFlag> flags
+        List<AdminFeatureFlag> flags,
+        List<String> degradedSections
 ) {}
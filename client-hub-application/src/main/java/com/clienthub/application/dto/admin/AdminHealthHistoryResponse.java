@@ -0,0 +1,10 @@
+package com.clienthub.application.dto.admin;
+
+import java.util.List;
+
+public record AdminHealthHistoryResponse(
+        List<HealthSample> database,
+        List<HealthSample> redis,
+        List<HealthSample> aiEngine,
+        List<HealthSample> blockchain
+) {}
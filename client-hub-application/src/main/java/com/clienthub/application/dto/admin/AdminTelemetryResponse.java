@@ -0,0 +1,9 @@
+package com.clienthub.application.dto.admin;
+
+import java.util.List;
+
+public record AdminTelemetryResponse(
+        TelemetrySample latest,
+        List<TelemetrySample> history,
+        List<OperationalAlert> alerts
+) {}
@@ -0,0 +1,9 @@
+package com.clienthub.application.dto.admin;
+
+import java.time.Instant;
+
+public record HealthSample(
+        Instant sampledAt,
+        String status,
+        long latencyMs
+) {}
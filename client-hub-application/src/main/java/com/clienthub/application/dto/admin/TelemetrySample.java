@@ -0,0 +1,17 @@
+package com.clienthub.application.dto.admin;
+
+import java.time.Instant;
+
+/** One in-process telemetry reading; pool figures are null when the data source is not a started Hikari pool. */
+public record TelemetrySample(
+        Instant sampledAt,
+        long heapUsedMb,
+        long heapCommittedMb,
+        long heapMaxMb,
+        long gcTimeMs,
+        int liveThreads,
+        Integer poolActive,
+        Integer poolIdle,
+        Integer poolPending,
+        Integer poolTotal
+) {}
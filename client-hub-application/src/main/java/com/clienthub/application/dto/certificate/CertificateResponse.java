@@ -1,5 +1,6 @@
 package com.clienthub.application.dto.certificate;
 
+import com.clienthub.domain.enums.CertificateStatus;
 import java.time.Instant;
 import java.util.UUID;
 
@@ -11,6 +12,7 @@ public class CertificateResponse {
     private String tokenId;
     private String metadataUri;
     private String transactionHash;
+    private CertificateStatus status;
     private Instant mintedAt;
 
     public CertificateResponse() {}
@@ -36,6 +38,9 @@ public class CertificateResponse {
     public String getTransactionHash() { return transactionHash; }
     public void setTransactionHash(String transactionHash) { this.transactionHash = transactionHash; }
 
+    public CertificateStatus getStatus() { return status; }
+    public void setStatus(CertificateStatus status) { this.status = status; }
+
     public Instant getMintedAt() { return mintedAt; }
     public void setMintedAt(Instant mintedAt) { this.mintedAt = mintedAt; }
 
@@ -51,6 +56,7 @@ public class CertificateResponse {
         private String tokenId;
         private String metadataUri;
         private String transactionHash;
+        private CertificateStatus status;
         private Instant mintedAt;
 
         public CertificateResponseBuilder id(Long id) { this.id = id; return this; }
@@ -60,6 +66,7 @@ public class CertificateResponse {
         public CertificateResponseBuilder tokenId(String tokenId) { this.tokenId = tokenId; return this; }
         public CertificateResponseBuilder metadataUri(String metadataUri) { this.metadataUri = metadataUri; return this; }
         public CertificateResponseBuilder transactionHash(String transactionHash) { this.transactionHash = transactionHash; return this; }
+        public CertificateResponseBuilder status(CertificateStatus status) { this.status = status; return this; }
         public CertificateResponseBuilder mintedAt(Instant mintedAt) { this.mintedAt = mintedAt; return this; }
 
         public CertificateResponse build() {
@@ -71,6 +78,7 @@ public class CertificateResponse {
             res.setTokenId(tokenId);
             res.setMetadataUri(metadataUri);
             res.setTransactionHash(transactionHash);
+            res.setStatus(status);
             res.setMintedAt(mintedAt);
             return res;
         }
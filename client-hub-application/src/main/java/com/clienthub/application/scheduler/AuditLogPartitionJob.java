@@ -0,0 +1,48 @@
+package com.clienthub.application.scheduler;
+
+import com.clienthub.application.service.AuditArchiveService;
+import com.clienthub.common.context.TenantContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class AuditLogPartitionJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditLogPartitionJob.class);
+
+    private final AuditArchiveService archiveService;
+
+    @Value("${audit.partition.enabled:true}")
+    private boolean partitionEnabled;
+
+    @Value("${audit.archive.enabled:false}")
+    private boolean archiveEnabled;
+
+    public AuditLogPartitionJob(AuditArchiveService archiveService) {
+        this.archiveService = archiveService;
+    }
+
+    /**
+     * Runs every day at 1:30 AM.
+     * Creates upcoming monthly audit log partitions and archives old, fully anchored months.
+     */
+    @Scheduled(cron = "${audit.partition.cron:0 30 1 * * ?}")
+    public void maintainPartitions() {
+        if (!partitionEnabled) return;
+        TenantContext.setSystemContext();
+        try {
+            archiveService.ensureFuturePartitions();
+            if (archiveEnabled) {
+                int archived = archiveService.archiveEligiblePartitions();
+                logger.info("Audit log partition maintenance archived {} months", archived);
+            }
+        } catch (Exception e) {
+            logger.error("Audit log partition maintenance failed", e);
+        } finally {
+            TenantContext.clear();
+        }
+    }
+}
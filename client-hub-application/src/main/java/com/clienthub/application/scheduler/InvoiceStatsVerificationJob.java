@@ -0,0 +1,42 @@
+package com.clienthub.application.scheduler;
+
+import com.clienthub.application.service.InvoiceStatsService;
+import com.clienthub.common.context.TenantContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class InvoiceStatsVerificationJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(InvoiceStatsVerificationJob.class);
+
+    private final InvoiceStatsService invoiceStatsService;
+
+    @Value("${invoice.stats.verification.enabled:true}")
+    private boolean enabled;
+
+    public InvoiceStatsVerificationJob(InvoiceStatsService invoiceStatsService) {
+        this.invoiceStatsService = invoiceStatsService;
+    }
+
+    /**
+     * Runs every day at 3:15 AM.
+     * Recounts invoices per tenant and status and repairs counters that no longer match.
+     */
+    @Scheduled(cron = "${invoice.stats.verification.cron:0 15 3 * * ?}")
+    public void verifyInvoiceStats() {
+        if (!enabled) return;
+        TenantContext.setSystemContext();
+        try {
+            int drifted = invoiceStatsService.verify();
+            logger.info("Tenant invoice stats verification finished with {} corrections", drifted);
+        } catch (Exception e) {
+            logger.error("Tenant invoice stats verification failed", e);
+        } finally {
+            TenantContext.clear();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.clienthub.application.scheduler;
+
+import com.clienthub.application.service.SbtService;
+import com.clienthub.common.context.TenantContext;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/** Drains the SBT mint outbox: metadata upload and minting run here, outside the invoice status change. */
+@Component
+@ConditionalOnProperty(name = "blockchain.enabled", havingValue = "true")
+public class SbtMintJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(SbtMintJob.class);
+
+    private final SbtService sbtService;
+    private final ScheduledExecutorService leaseKeeper =
+            Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("sbt-mint-lease").daemon().factory());
+
+    @Value("${sbt.mint.batch_size:20}")
+    private int batchSize;
+
+    @Value("${sbt.mint.lease_seconds:300}")
+    private long leaseSeconds;
+
+    public SbtMintJob(SbtService sbtService) {
+        this.sbtService = sbtService;
+    }
+
+    @Scheduled(fixedDelayString = "${sbt.mint.delay_ms:5000}")
+    public void processOutbox() {
+        TenantContext.setSystemContext();
+        try {
+            List<SbtService.MintRequest> claimed = sbtService.claimDueMints(batchSize, Duration.ofSeconds(leaseSeconds));
+            for (SbtService.MintRequest request : claimed) {
+                mint(request);
+            }
+        } catch (Exception e) {
+            logger.error("SBT mint outbox processing failed", e);
+        } finally {
+            TenantContext.clear();
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        leaseKeeper.shutdownNow();
+    }
+
+    /** A mint can outlast its lease, so the lease is renewed every third of it until the mint finishes. */
+    private void mint(SbtService.MintRequest request) {
+        Duration lease = Duration.ofSeconds(leaseSeconds);
+        long renewEveryMs = Math.max(1000, lease.toMillis() / 3);
+        ScheduledFuture<?> renewal = leaseKeeper.scheduleAtFixedRate(
+                () -> renewLease(request, lease), renewEveryMs, renewEveryMs, TimeUnit.MILLISECONDS);
+        try {
+            sbtService.completeMint(request.outboxId(), sbtService.mint(request));
+        } catch (Exception e) {
+            logger.warn("SBT mint for invoice {} failed, will retry: {}", request.invoiceId(), e.getMessage());
+            sbtService.recordMintFailure(request.outboxId(), e.getMessage());
+        } finally {
+            renewal.cancel(false);
+        }
+    }
+
+    private void renewLease(SbtService.MintRequest request, Duration lease) {
+        TenantContext.setSystemContext();
+        try {
+            sbtService.extendLease(request.outboxId(), lease);
+        } catch (Exception e) {
+            logger.warn("Unable to extend the SBT mint lease for invoice {}: {}", request.invoiceId(), e.getMessage());
+        } finally {
+            TenantContext.clear();
+        }
+    }
+}
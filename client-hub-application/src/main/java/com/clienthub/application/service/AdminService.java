@@ -4,23 +4,28 @@ import com.clienthub.application.dto.admin.AdminAuditLogResponse;
 import com.clienthub.application.dto.admin.AdminControlCenterResponse;
 import com.clienthub.application.dto.admin.AdminEventItem;
 import com.clienthub.application.dto.admin.AdminFeatureFlag;
+import com.clienthub.application.dto.admin.AdminHealthHistoryResponse;
 import com.clienthub.application.dto.admin.AdminHealthResponse;
 import com.clienthub.application.dto.admin.AdminInvoiceResponse;
 import com.clienthub.application.dto.admin.AdminProjectResponse;
+import com.clienthub.application.dto.admin.AdminTelemetryResponse;
 import com.clienthub.application.dto.admin.AdminUserDetailResponse;
 import com.clienthub.application.dto.admin.AdminUserResponse;
 import com.clienthub.application.dto.admin.ComponentHealth;
 import com.clienthub.application.dto.admin.ControlCenterSummary;
 import com.clienthub.application.dto.admin.ImpersonationResponse;
-import com.clienthub.application.dto.admin.JvmVitals;
 import com.clienthub.application.dto.admin.OperationalAlert;
 import com.clienthub.application.dto.analytics.AdminDashboardResponse;
+import com.clienthub.common.context.TenantContext;
 import com.clienthub.domain.entity.AuditLog;
 import com.clienthub.domain.entity.AuditAnchorMember;
 import com.clienthub.domain.entity.Invoice;
 import com.clienthub.domain.entity.User;
+import com.clienthub.domain.event.InvoiceStatusChangedEvent;
 import com.clienthub.domain.enums.AuditAction;
 import com.clienthub.domain.enums.AuditAnchorBatchStatus;
+import com.clienthub.domain.enums.AuditEventCategory;
+import com.clienthub.domain.enums.AuditEventSeverity;
 import com.clienthub.domain.enums.AuditRecordAnchorStatus;
 import com.clienthub.domain.enums.InvoiceStatus;
 import com.clienthub.domain.enums.ProjectStatus;
@@ -29,8 +34,10 @@ import com.clienthub.domain.repository.AuditLogRepository;
 import com.clienthub.domain.repository.AuditAnchorMemberRepository;
 import com.clienthub.domain.repository.InvoiceRepository;
 import com.clienthub.domain.repository.ProjectRepository;
+import com.clienthub.domain.repository.TenantInvoiceStatsRepository;
 import com.clienthub.domain.repository.UserRepository;
 import com.clienthub.infrastructure.security.JwtTokenProvider;
+import jakarta.annotation.PreDestroy;
 import jakarta.persistence.criteria.Predicate;
 import java.lang.management.ManagementFactory;
 import java.math.BigDecimal;
@@ -39,19 +46,29 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
 
 @Service
 @Transactional(readOnly = true)
@@ -62,31 +79,21 @@ public class AdminService {
             List.of(ProjectStatus.COMPLETED, ProjectStatus.CANCELLED);
     private static final List<InvoiceStatus> PAID_OR_REFUNDED_INVOICE_STATUSES =
             List.of(InvoiceStatus.PAID, InvoiceStatus.REFUNDED);
-    private static final List<AuditAction> AUTH_ACTIONS =
-            List.of(AuditAction.LOGIN, AuditAction.LOGIN_FAILED, AuditAction.LOGOUT,
-                    AuditAction.USER_LOCKED, AuditAction.USER_UNLOCKED, AuditAction.ADMIN_IMPERSONATION);
-    private static final List<AuditAction> WEB3_ACTIONS =
-            List.of(AuditAction.ANCHOR_SUCCESS, AuditAction.ANCHOR_FAILED);
-    private static final List<AuditAction> INVOICE_ACTIONS =
-            List.of(AuditAction.INVOICE_SENT, AuditAction.INVOICE_PAID, AuditAction.INVOICE_CANCELLED);
-    private static final List<AuditAction> CRITICAL_ACTIONS =
-            List.of(AuditAction.LOGIN_FAILED, AuditAction.USER_LOCKED, AuditAction.ANCHOR_FAILED);
-    private static final List<AuditAction> WARNING_ACTIONS =
-            List.of(AuditAction.DELETE, AuditAction.DISPUTE_OPENED, AuditAction.INVOICE_CANCELLED);
-    private static final List<AuditAction> SUCCESS_ACTIONS =
-            List.of(AuditAction.CREATE, AuditAction.INVOICE_PAID, AuditAction.ANCHOR_SUCCESS);
-    private static final List<String> KNOWN_ENTITY_CATEGORIES =
-            List.of("INVOICE", "PROJECT", "TASK", "USER", "SYSTEM");
 
     private final UserRepository userRepository;
     private final ProjectRepository projectRepository;
     private final InvoiceRepository invoiceRepository;
+    private final TenantInvoiceStatsRepository tenantInvoiceStatsRepository;
     private final AuditLogRepository auditLogRepository;
     private final AuditAnchorMemberRepository auditAnchorMemberRepository;
     private final JwtTokenProvider jwtTokenProvider;
-    private final JdbcTemplate jdbcTemplate;
-    private final RedisTemplate<String, Object> redisTemplate;
-    private final RestTemplate restTemplate;
+    private final SystemHealthSampler healthSampler;
+    private final JvmTelemetrySampler telemetrySampler;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ExecutorService sectionExecutor = new ThreadPoolExecutor(
+            6, 6, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(48),
+            Thread.ofPlatform().name("control-center-", 0).daemon().factory());
 
     @Value("${ai.ollama.url:http://localhost:11434}")
     private String ollamaUrl;
@@ -118,26 +125,29 @@ public class AdminService {
     @Value("${rate-limit.register:0}")
     private int registerRateLimit;
 
+    @Value("${admin.control_center.section_timeout_ms:2000}")
+    private long sectionTimeoutMs;
+
     public AdminService(UserRepository userRepository,
                         ProjectRepository projectRepository,
                         InvoiceRepository invoiceRepository,
+                        TenantInvoiceStatsRepository tenantInvoiceStatsRepository,
                         AuditLogRepository auditLogRepository,
                         AuditAnchorMemberRepository auditAnchorMemberRepository,
                         JwtTokenProvider jwtTokenProvider,
-                        JdbcTemplate jdbcTemplate,
-                        RedisTemplate<String, Object> redisTemplate,
-                        RestTemplateBuilder restTemplateBuilder) {
+                        SystemHealthSampler healthSampler,
+                        JvmTelemetrySampler telemetrySampler,
+                        ApplicationEventPublisher eventPublisher) {
         this.userRepository = userRepository;
         this.projectRepository = projectRepository;
         this.invoiceRepository = invoiceRepository;
+        this.tenantInvoiceStatsRepository = tenantInvoiceStatsRepository;
         this.auditLogRepository = auditLogRepository;
         this.auditAnchorMemberRepository = auditAnchorMemberRepository;
         this.jwtTokenProvider = jwtTokenProvider;
-        this.jdbcTemplate = jdbcTemplate;
-        this.redisTemplate = redisTemplate;
-        this.restTemplate = restTemplateBuilder.setConnectTimeout(Duration.ofSeconds(2))
-                                               .setReadTimeout(Duration.ofSeconds(5))
-                                               .build();
+        this.healthSampler = healthSampler;
+        this.telemetrySampler = telemetrySampler;
+        this.eventPublisher = eventPublisher;
     }
 
     public Page<AdminUserResponse> listUsers(Role role, Boolean active, String keyword, Pageable pageable) {
@@ -191,31 +201,100 @@ public class AdminService {
     public AdminDashboardResponse getPlatformAnalytics() {
         long totalUsers = userRepository.count();
         long totalProjects = projectRepository.count();
-        long totalInvoices = invoiceRepository.count();
-        BigDecimal totalRevenue = invoiceRepository.sumAmountByStatuses(List.of(InvoiceStatus.PAID));
+        long totalInvoices = tenantInvoiceStatsRepository.sumInvoiceCount();
+        BigDecimal totalRevenue = tenantInvoiceStatsRepository.sumAmountByStatuses(List.of(InvoiceStatus.PAID));
 
         return new AdminDashboardResponse(totalUsers, totalProjects, totalInvoices, totalRevenue, "Operational");
     }
 
+    /**
+     * Runs the independent sections concurrently under one shared deadline. A section that fails or is still
+     * running when the deadline passes is reported in {@code degradedSections} and falls back to an empty value,
+     * so one slow query cannot hold up the whole page.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public AdminControlCenterResponse getControlCenter() {
         AdminHealthResponse health = getSystemHealth();
-        ControlCenterSummary summary = buildSummary(health.overallStatus());
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(sectionTimeoutMs);
+
+        Future<ControlCenterSummary> summaryTask = submitSection(() -> buildSummary(health.overallStatus()));
+        Future<Long> failedLoginsTask = submitSection(() -> auditLogRepository.countByActionAndCreatedAtAfter(
+                AuditAction.LOGIN_FAILED,
+                Instant.now().minus(Duration.ofHours(24))));
+        Future<Long> unanchoredLogsTask = submitSection(() -> auditLogRepository.countWithoutConfirmedAnchor(
+                List.of(AuditAction.ANCHOR_SUCCESS, AuditAction.ANCHOR_FAILED),
+                AuditAnchorBatchStatus.CONFIRMED));
+        Future<List<AdminEventItem>> recentEventsTask = submitSection(() ->
+                listEvents(null, null, null, null, null, null, Pageable.ofSize(8)).getContent());
+        Future<List<AdminAuditLogResponse>> recentAuditLogsTask = submitSection(() ->
+                listRecentActivity(Pageable.ofSize(8)).getContent());
+
         List<AdminFeatureFlag> flags = getFeatureFlags();
-        List<OperationalAlert> alerts = buildOperationalAlerts(health, summary);
-        List<AdminEventItem> recentEvents = listEvents(null, null, null, null, null, null, Pageable.ofSize(8))
-                .getContent();
-        List<AdminAuditLogResponse> recentAuditLogs = listRecentActivity(Pageable.ofSize(8))
-                .getContent();
 
-        return new AdminControlCenterResponse(summary, health, alerts, recentEvents, recentAuditLogs, flags);
+        List<String> degradedSections = new ArrayList<>();
+        ControlCenterSummary summary = awaitSection("summary", summaryTask, deadline, degradedSections,
+                new ControlCenterSummary(BigDecimal.ZERO, 0, 0, 0, health.overallStatus()));
+        long failedLogins = awaitSection("alerts", failedLoginsTask, deadline, degradedSections, 0L);
+        long unanchoredLogs = awaitSection("alerts", unanchoredLogsTask, deadline, degradedSections, 0L);
+        List<AdminEventItem> recentEvents =
+                awaitSection("recentEvents", recentEventsTask, deadline, degradedSections, List.of());
+        List<AdminAuditLogResponse> recentAuditLogs =
+                awaitSection("recentAuditLogs", recentAuditLogsTask, deadline, degradedSections, List.of());
+
+        List<OperationalAlert> alerts = buildOperationalAlerts(health, summary, failedLogins, unanchoredLogs);
+
+        return new AdminControlCenterResponse(summary, health, alerts, recentEvents, recentAuditLogs, flags,
+                List.copyOf(degradedSections));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        sectionExecutor.shutdownNow();
+    }
+
+    /** Sections run outside the caller's transaction, each repository call in its own, under the caller's tenant. */
+    private <T> Future<T> submitSection(Callable<T> section) {
+        String tenantId = TenantContext.getTenantId();
+        try {
+            return sectionExecutor.submit(() -> {
+                if (tenantId != null) {
+                    TenantContext.setTenantId(tenantId);
+                }
+                try {
+                    return section.call();
+                } finally {
+                    TenantContext.clear();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private <T> T awaitSection(String name, Future<T> task, long deadline, List<String> degradedSections, T fallback) {
+        try {
+            return task.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            task.cancel(true);
+            logger.warn("Control center section {} did not finish within {}ms", name, sectionTimeoutMs);
+        } catch (ExecutionException e) {
+            logger.warn("Control center section {} failed: {}", name, e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            task.cancel(true);
+            Thread.currentThread().interrupt();
+        }
+        if (!degradedSections.contains(name)) {
+            degradedSections.add(name);
+        }
+        return fallback;
     }
 
     private ControlCenterSummary buildSummary(String systemStatus) {
         return new ControlCenterSummary(
-                invoiceRepository.sumAmountByStatuses(List.of(InvoiceStatus.PAID)),
+                tenantInvoiceStatsRepository.sumAmountByStatuses(List.of(InvoiceStatus.PAID)),
                 userRepository.countByLastLoginAtAfter(Instant.now().minus(Duration.ofHours(24))),
                 projectRepository.countByStatusNotIn(CLOSED_PROJECT_STATUSES),
-                invoiceRepository.countByStatusNotIn(PAID_OR_REFUNDED_INVOICE_STATUSES),
+                tenantInvoiceStatsRepository.sumInvoiceCountByStatusNotIn(PAID_OR_REFUNDED_INVOICE_STATUSES),
                 systemStatus);
     }
 
@@ -236,8 +315,11 @@ public class AdminService {
 
         logger.warn("AUDIT: Admin {} forced status of Invoice {} to {}. Reason: {}", adminId, invoiceId, status, reason);
 
+        InvoiceStatus previousStatus = invoice.getStatus();
         invoice.setStatus(status);
-        invoiceRepository.save(invoice);
+        Invoice saved = invoiceRepository.save(invoice);
+        // Cached dashboards and trust scores are dropped by the same event as any other status change.
+        eventPublisher.publishEvent(new InvoiceStatusChangedEvent(this, saved, previousStatus));
     }
 
     public ImpersonationResponse impersonate(UUID targetUserId, UUID adminId) {
@@ -279,10 +361,12 @@ public class AdminService {
             Instant from,
             Instant to,
             Pageable pageable) {
-        return auditLogRepository.findAll(
-                        buildAuditLogSpec(action, entityType, tenantId, anchored, anchorStatus, from, to),
-                        pageable)
-                .map(log -> AdminAuditLogResponse.from(log, isConfirmedAnchor(log.getId())));
+        Page<AuditLog> logs = auditLogRepository.findAll(
+                buildAuditLogSpec(action, entityType, tenantId, anchored, anchorStatus, from, to),
+                pageable);
+        Map<Long, AuditAnchorBatchStatus> batchStatuses = findAnchorBatchStatuses(logs.getContent());
+        return logs.map(log -> AdminAuditLogResponse.from(
+                log, batchStatuses.get(log.getId()) == AuditAnchorBatchStatus.CONFIRMED));
     }
 
     public Page<AdminEventItem> listEvents(
@@ -357,11 +441,13 @@ public class AdminService {
                         "audit.anchor.contract_address"));
     }
 
+    /** Served from the background sampler's last results; {@code checkedAt} is the age of the oldest of them. */
     public AdminHealthResponse getSystemHealth() {
-        ComponentHealth dbHealth = checkDatabase();
-        ComponentHealth redisHealth = checkRedis();
-        ComponentHealth aiHealth = checkAiEngine();
-        ComponentHealth blockchainHealth = checkBlockchainConfig();
+        ComponentHealth dbHealth = healthSampler.database();
+        ComponentHealth redisHealth = healthSampler.redis();
+        ComponentHealth aiHealth = healthSampler.aiEngine();
+        ComponentHealth blockchainHealth = healthSampler.blockchain();
+        Instant checkedAt = healthSampler.oldestSampleAt();
 
         String overallStatus = deriveOverallStatus(dbHealth, redisHealth, aiHealth, blockchainHealth);
 
@@ -371,9 +457,24 @@ public class AdminService {
                 redisHealth,
                 aiHealth,
                 blockchainHealth,
-                JvmVitals.current(),
+                telemetrySampler.latestVitals(),
                 ManagementFactory.getRuntimeMXBean().getUptime() / 1000,
-                Instant.now());
+                checkedAt != null ? checkedAt : Instant.now());
+    }
+
+    public AdminHealthHistoryResponse getHealthHistory() {
+        return new AdminHealthHistoryResponse(
+                healthSampler.databaseHistory(),
+                healthSampler.redisHistory(),
+                healthSampler.aiEngineHistory(),
+                healthSampler.blockchainHistory());
+    }
+
+    public AdminTelemetryResponse getTelemetry() {
+        return new AdminTelemetryResponse(
+                telemetrySampler.latest(),
+                telemetrySampler.history(),
+                telemetrySampler.alerts());
     }
 
     private Specification<AuditLog> buildAuditLogSpec(
@@ -467,23 +568,10 @@ public class AdminService {
         if (!isConfigured(category)) {
             return;
         }
-        switch (category) {
-            case "AUTH" -> predicates.add(root.get("action").in(AUTH_ACTIONS));
-            case "WEB3" -> predicates.add(root.get("action").in(WEB3_ACTIONS));
-            case "INVOICE" -> predicates.add(cb.or(
-                    root.get("action").in(INVOICE_ACTIONS),
-                    cb.equal(cb.upper(root.get("entityType")), "INVOICE")));
-            case "PROJECT", "TASK", "SYSTEM" ->
-                    predicates.add(cb.equal(cb.upper(root.get("entityType")), category));
-            case "USER" -> predicates.add(cb.and(
-                    cb.equal(cb.upper(root.get("entityType")), "USER"),
-                    cb.not(root.get("action").in(AUTH_ACTIONS))));
-            case "AUDIT" -> predicates.add(cb.and(
-                    cb.not(root.get("action").in(AUTH_ACTIONS)),
-                    cb.not(root.get("action").in(WEB3_ACTIONS)),
-                    cb.not(root.get("action").in(INVOICE_ACTIONS)),
-                    cb.not(cb.upper(root.get("entityType")).in(KNOWN_ENTITY_CATEGORIES))));
-            default -> predicates.add(cb.disjunction());
+        try {
+            predicates.add(cb.equal(root.get("eventCategory"), AuditEventCategory.valueOf(category)));
+        } catch (IllegalArgumentException e) {
+            predicates.add(cb.disjunction());
         }
     }
 
@@ -495,23 +583,18 @@ public class AdminService {
         if (!isConfigured(severity)) {
             return;
         }
-        switch (severity) {
-            case "CRITICAL" -> predicates.add(root.get("action").in(CRITICAL_ACTIONS));
-            case "WARNING" -> predicates.add(root.get("action").in(WARNING_ACTIONS));
-            case "SUCCESS" -> predicates.add(root.get("action").in(SUCCESS_ACTIONS));
-            case "INFO" -> predicates.add(cb.and(
-                    cb.not(root.get("action").in(CRITICAL_ACTIONS)),
-                    cb.not(root.get("action").in(WARNING_ACTIONS)),
-                    cb.not(root.get("action").in(SUCCESS_ACTIONS))));
-            default -> predicates.add(cb.disjunction());
+        try {
+            predicates.add(cb.equal(root.get("eventSeverity"), AuditEventSeverity.valueOf(severity)));
+        } catch (IllegalArgumentException e) {
+            predicates.add(cb.disjunction());
         }
     }
 
     private AdminEventItem toEventItem(AuditLog log) {
         String action = log.getAction() != null ? log.getAction().name() : "UNKNOWN";
         String entityType = isConfigured(log.getEntityType()) ? log.getEntityType() : "SYSTEM";
-        String category = deriveEventCategory(log);
-        String severity = deriveEventSeverity(log);
+        String category = log.getEventCategory().name();
+        String severity = log.getEventSeverity().name();
         String actor = isConfigured(log.getUserEmail()) ? log.getUserEmail() : "System";
 
         return new AdminEventItem(
@@ -529,60 +612,18 @@ public class AdminService {
                 log.getCreatedAt());
     }
 
-    private String deriveEventCategory(AuditLog log) {
-        AuditAction action = log.getAction();
-        String entityType = log.getEntityType() != null ? log.getEntityType().toUpperCase(Locale.ROOT) : "";
-        if (action == null) {
-            return "AUDIT";
-        }
-        if (AUTH_ACTIONS.contains(action)) {
-            return "AUTH";
-        }
-        if (action.name().startsWith("ANCHOR")) {
-            return "WEB3";
-        }
-        if (action.name().startsWith("INVOICE") || "INVOICE".equals(entityType)) {
-            return "INVOICE";
-        }
-        if ("PROJECT".equals(entityType)) {
-            return "PROJECT";
-        }
-        if ("TASK".equals(entityType)) {
-            return "TASK";
-        }
-        if ("USER".equals(entityType)) {
-            return "USER";
-        }
-        if ("SYSTEM".equals(entityType)) {
-            return "SYSTEM";
-        }
-        return "AUDIT";
-    }
-
-    private String deriveEventSeverity(AuditLog log) {
-        AuditAction action = log.getAction();
-        if (action == null) {
-            return "INFO";
-        }
-        return switch (action) {
-            case LOGIN_FAILED, USER_LOCKED, ANCHOR_FAILED -> "CRITICAL";
-            case DELETE, DISPUTE_OPENED, INVOICE_CANCELLED -> "WARNING";
-            case CREATE, INVOICE_PAID, ANCHOR_SUCCESS -> "SUCCESS";
-            default -> "INFO";
-        };
-    }
-
-    private List<OperationalAlert> buildOperationalAlerts(AdminHealthResponse health, ControlCenterSummary summary) {
+    private List<OperationalAlert> buildOperationalAlerts(AdminHealthResponse health,
+                                                          ControlCenterSummary summary,
+                                                          long failedLogins,
+                                                          long unanchoredLogs) {
         Instant now = Instant.now();
         List<OperationalAlert> alerts = new ArrayList<>();
         addHealthAlert(alerts, "database", "Database", health.database(), now);
         addHealthAlert(alerts, "redis", "Redis", health.redis(), now);
         addHealthAlert(alerts, "ai-engine", "AI Engine", health.aiEngine(), now);
         addHealthAlert(alerts, "blockchain", "Blockchain config", health.blockchain(), now);
+        alerts.addAll(telemetrySampler.alerts());
 
-        long failedLogins = auditLogRepository.countByActionAndCreatedAtAfter(
-                AuditAction.LOGIN_FAILED,
-                now.minus(Duration.ofHours(24)));
         if (failedLogins > 0) {
             alerts.add(new OperationalAlert(
                     "failed-logins-24h",
@@ -593,9 +634,6 @@ public class AdminService {
                     now));
         }
 
-        long unanchoredLogs = auditLogRepository.countWithoutConfirmedAnchor(
-                List.of(AuditAction.ANCHOR_SUCCESS, AuditAction.ANCHOR_FAILED),
-                AuditAnchorBatchStatus.CONFIRMED);
         if (unanchoredLogs > 0) {
             alerts.add(new OperationalAlert(
                     "unanchored-audit-logs",
@@ -619,10 +657,17 @@ public class AdminService {
         return alerts;
     }
 
-    private boolean isConfirmedAnchor(Long auditLogId) {
-        return auditAnchorMemberRepository.findByAuditLogId(auditLogId)
-                .map(member -> member.getBatch().getStatus() == AuditAnchorBatchStatus.CONFIRMED)
-                .orElse(false);
+    /** Resolves the anchor batch status of a whole page of audit logs in one query, keyed by audit log id. */
+    private Map<Long, AuditAnchorBatchStatus> findAnchorBatchStatuses(List<AuditLog> logs) {
+        if (logs.isEmpty()) {
+            return Map.of();
+        }
+        List<Long> auditLogIds = logs.stream().map(AuditLog::getId).toList();
+        return auditAnchorMemberRepository.findByAuditLogIdIn(auditLogIds).stream()
+                .collect(Collectors.toMap(
+                        AuditAnchorMember::getAuditLogId,
+                        member -> member.getBatch().getStatus(),
+                        (first, second) -> first));
     }
 
     private void addHealthAlert(List<OperationalAlert> alerts, String id, String label, ComponentHealth health, Instant now) {
@@ -651,58 +696,6 @@ public class AdminService {
         return "UP";
     }
 
-    private ComponentHealth checkDatabase() {
-        long start = System.currentTimeMillis();
-        try {
-            jdbcTemplate.execute("SELECT 1");
-            long latency = System.currentTimeMillis() - start;
-            if (latency > 500) {
-                return new ComponentHealth("DEGRADED", "Active (" + latency + "ms)", latency);
-            }
-            return new ComponentHealth("UP", "Active (" + latency + "ms)", latency);
-        } catch (Exception e) {
-            return new ComponentHealth("DOWN", "Disconnected", System.currentTimeMillis() - start);
-        }
-    }
-
-    private ComponentHealth checkRedis() {
-        long start = System.currentTimeMillis();
-        try {
-            String pingResult = redisTemplate.getConnectionFactory().getConnection().ping();
-            long latency = System.currentTimeMillis() - start;
-            if (latency > 500) {
-                return new ComponentHealth("DEGRADED", "Connected (" + latency + "ms)", latency);
-            }
-            return new ComponentHealth("UP", "Connected (" + pingResult + ", " + latency + "ms)", latency);
-        } catch (Exception e) {
-            return new ComponentHealth("DOWN", "Disconnected", System.currentTimeMillis() - start);
-        }
-    }
-
-    private ComponentHealth checkAiEngine() {
-        long start = System.currentTimeMillis();
-        try {
-            restTemplate.getForEntity(ollamaUrl + "/api/tags", String.class);
-            long latency = System.currentTimeMillis() - start;
-            if (latency > 5000) {
-                return new ComponentHealth("DEGRADED", "Operational (" + latency + "ms)", latency);
-            }
-            return new ComponentHealth("UP", "Operational (" + latency + "ms)", latency);
-        } catch (Exception e) {
-            return new ComponentHealth("DOWN", "Offline", System.currentTimeMillis() - start);
-        }
-    }
-
-    private ComponentHealth checkBlockchainConfig() {
-        if (!blockchainEnabled) {
-            return new ComponentHealth("UP", "Disabled", 0);
-        }
-        if (!isBlockchainConfigured()) {
-            return new ComponentHealth("DEGRADED", "Enabled but missing node or contract", 0);
-        }
-        return new ComponentHealth("UP", "Configured", 0);
-    }
-
     private boolean isBlockchainConfigured() {
         return blockchainEnabled && isConfigured(blockchainNodeUrl) && isConfigured(blockchainContractAddress);
     }
@@ -7,20 +7,23 @@ import com.clienthub.application.dto.analytics.TrustScoreResponse;
 import com.clienthub.application.exception.ResourceNotFoundException;
 import com.clienthub.common.service.TenantAwareService;
 import com.clienthub.domain.entity.Project;
+import com.clienthub.domain.entity.TenantInvoiceStats;
 import com.clienthub.domain.enums.InvoiceStatus;
 import com.clienthub.domain.enums.Role;
 import com.clienthub.domain.enums.TaskStatus;
 import com.clienthub.domain.repository.CommunicationThreadRepository;
-import com.clienthub.domain.repository.InvoiceRepository;
 import com.clienthub.domain.repository.ProjectMemberRepository;
 import com.clienthub.domain.repository.ProjectRepository;
 import com.clienthub.domain.repository.TaskRepository;
+import com.clienthub.domain.repository.TenantInvoiceStatsRepository;
 import com.clienthub.domain.repository.UserRepository;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.List;
 import java.util.UUID;
 
 @Service
@@ -28,24 +31,27 @@ import java.util.UUID;
 public class AnalyticsService extends TenantAwareService {
 
     private final TaskRepository taskRepository;
-    private final InvoiceRepository invoiceRepository;
+    private final TenantInvoiceStatsRepository tenantInvoiceStatsRepository;
     private final CommunicationThreadRepository threadRepository;
     private final UserRepository userRepository;
     private final ProjectRepository projectRepository;
     private final ProjectMemberRepository projectMemberRepository;
+    private final ReadModelCache readModelCache;
 
     public AnalyticsService(TaskRepository taskRepository,
-                            InvoiceRepository invoiceRepository,
+                            TenantInvoiceStatsRepository tenantInvoiceStatsRepository,
                             CommunicationThreadRepository threadRepository,
                             UserRepository userRepository,
                             ProjectRepository projectRepository,
-                            ProjectMemberRepository projectMemberRepository) {
+                            ProjectMemberRepository projectMemberRepository,
+                            ReadModelCache readModelCache) {
         this.taskRepository = taskRepository;
-        this.invoiceRepository = invoiceRepository;
+        this.tenantInvoiceStatsRepository = tenantInvoiceStatsRepository;
         this.threadRepository = threadRepository;
         this.userRepository = userRepository;
         this.projectRepository = projectRepository;
         this.projectMemberRepository = projectMemberRepository;
+        this.readModelCache = readModelCache;
     }
 
     public ProjectProgressResponse getProjectProgress(
@@ -77,9 +83,30 @@ public class AnalyticsService extends TenantAwareService {
     }
 
     public TrustScoreResponse getTrustScore(String tenantId) {
-        long paidInvoices = invoiceRepository.countByTenantIdAndStatus(tenantId, InvoiceStatus.PAID);
-        long draftInvoices = invoiceRepository.countByTenantIdAndStatus(tenantId, InvoiceStatus.DRAFT);
-        long totalInvoices = invoiceRepository.countByTenantId(tenantId);
+        return readModelCache.get("trust_score", tenantId, "tenant", List.of(ReadModelCache.INVOICES),
+                TrustScoreResponse.class, () -> computeTrustScore(tenantId));
+    }
+
+    public ResponseRateResponse getResponseRate(String tenantId) {
+        return readModelCache.get("response_rate", tenantId, "tenant", List.of(ReadModelCache.THREADS),
+                ResponseRateResponse.class, () -> computeResponseRate(tenantId));
+    }
+
+    /**
+     * The user count needs no tag of its own: row-level security scopes it to the tenant, and registration, the only
+     * way users are added, always creates a new tenant.
+     */
+    public AdminDashboardResponse getAdminDashboard(String tenantId) {
+        return readModelCache.get("admin_dashboard", tenantId, "tenant",
+                List.of(ReadModelCache.PROJECTS, ReadModelCache.INVOICES),
+                AdminDashboardResponse.class, () -> computeAdminDashboard(tenantId));
+    }
+
+    private TrustScoreResponse computeTrustScore(String tenantId) {
+        List<TenantInvoiceStats> stats = tenantInvoiceStatsRepository.findByIdTenantId(tenantId);
+        long paidInvoices = invoiceCount(stats, InvoiceStatus.PAID);
+        long draftInvoices = invoiceCount(stats, InvoiceStatus.DRAFT);
+        long totalInvoices = stats.stream().mapToLong(TenantInvoiceStats::getInvoiceCount).sum();
 
         long validTotal = totalInvoices - draftInvoices;
         int trustScore = validTotal == 0 ? 100 : (int) ((paidInvoices * 100) / validTotal);
@@ -87,7 +114,7 @@ public class AnalyticsService extends TenantAwareService {
         return new TrustScoreResponse(trustScore, paidInvoices, validTotal, "invoices");
     }
 
-    public ResponseRateResponse getResponseRate(String tenantId) {
+    private ResponseRateResponse computeResponseRate(String tenantId) {
         long totalThreads = threadRepository.countByTenantId(tenantId);
         long respondedThreads = threadRepository.countThreadsWithMultipleParticipantsByTenantId(tenantId);
 
@@ -96,12 +123,23 @@ public class AnalyticsService extends TenantAwareService {
         return new ResponseRateResponse(responseRate, respondedThreads, totalThreads, "percent");
     }
 
-    public AdminDashboardResponse getAdminDashboard(String tenantId) {
+    private AdminDashboardResponse computeAdminDashboard(String tenantId) {
         long totalUsers = userRepository.count();
         long totalProjects = projectRepository.countByTenantId(tenantId);
-        long totalInvoices = invoiceRepository.countByTenantId(tenantId);
-        BigDecimal totalRevenue = invoiceRepository.sumAmountByTenantIdAndStatuses(tenantId, java.util.List.of(InvoiceStatus.PAID));
+        List<TenantInvoiceStats> stats = tenantInvoiceStatsRepository.findByIdTenantId(tenantId);
+        long totalInvoices = stats.stream().mapToLong(TenantInvoiceStats::getInvoiceCount).sum();
+        BigDecimal totalRevenue = new BigDecimal(stats.stream()
+                .filter(row -> row.getId().getStatus() == InvoiceStatus.PAID)
+                .map(TenantInvoiceStats::getAmountTotal)
+                .reduce(BigInteger.ZERO, BigInteger::add));
 
         return new AdminDashboardResponse(totalUsers, totalProjects, totalInvoices, totalRevenue, "Stable");
     }
+
+    private long invoiceCount(List<TenantInvoiceStats> stats, InvoiceStatus status) {
+        return stats.stream()
+                .filter(row -> row.getId().getStatus() == status)
+                .mapToLong(TenantInvoiceStats::getInvoiceCount)
+                .sum();
+    }
 }
@@ -0,0 +1,378 @@
+package com.clienthub.application.service;
+
+import com.clienthub.domain.entity.AuditLog;
+import com.clienthub.domain.entity.AuditLogArchive;
+import com.clienthub.domain.enums.AuditAction;
+import com.clienthub.domain.enums.AuditLogArchiveStatus;
+import com.clienthub.domain.enums.AuditRecordAnchorStatus;
+import com.clienthub.domain.repository.AuditLogArchiveRepository;
+import com.clienthub.infrastructure.storage.AuditArchiveStorage;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Maintains the monthly partitions of {@code audit_logs}. Months older than the retention window whose records
+ * are all anchored are detached, written to cold storage as gzip NDJSON and dropped; their Merkle roots and
+ * proofs stay in the anchor tables, and {@link #findArchived(Collection)} rehydrates the records for audits.
+ */
+@Service
+public class AuditArchiveService {
+    private static final Logger log = LoggerFactory.getLogger(AuditArchiveService.class);
+    private static final Pattern PARTITION_NAME = Pattern.compile("audit_logs_p(\\d{4})(\\d{2})");
+    private static final String ARCHIVE_COLUMNS = """
+            id, tenant_id, user_id, user_email, user_role, action, entity_type, entity_id,
+            old_value::text AS old_value, new_value::text AS new_value, ip_address, created_at, data_hash,
+            anchor_status
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AuditLogArchiveRepository archiveRepository;
+    private final AuditArchiveStorage storage;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    /** Recently rehydrated records, least recently used first, bounded by record count rather than by month. */
+    private final Map<Long, AuditLog> rehydratedRecords = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, AuditLog> eldest) {
+            return size() > Math.max(0, cacheRecords);
+        }
+    };
+
+    @Value("${audit.archive.months_ahead:3}") private int monthsAhead;
+    @Value("${audit.archive.retention_months:12}") private int retentionMonths;
+    @Value("${audit.archive.cache_records:10000}") private int cacheRecords;
+    @Value("${audit.archive.fetch_size:1000}") private int fetchSize;
+
+    public AuditArchiveService(JdbcTemplate jdbcTemplate,
+                               AuditLogArchiveRepository archiveRepository,
+                               AuditArchiveStorage storage,
+                               ObjectMapper objectMapper,
+                               PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.archiveRepository = archiveRepository;
+        this.storage = storage;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public void ensureFuturePartitions() {
+        YearMonth current = YearMonth.now();
+        for (int offset = 0; offset <= Math.max(0, monthsAhead); offset++) {
+            jdbcTemplate.queryForObject("SELECT audit_logs_ensure_partition(?)", String.class,
+                    java.sql.Date.valueOf(current.plusMonths(offset).atDay(1)));
+        }
+    }
+
+    /** Archives every eligible month and resumes months that were detached but not yet stored. */
+    public int archiveEligiblePartitions() {
+        int archived = 0;
+        for (AuditLogArchive detached : archiveRepository.findByStatusOrderByRangeStartAsc(AuditLogArchiveStatus.DETACHED)) {
+            store(detached);
+            archived++;
+        }
+
+        YearMonth cutoff = YearMonth.now().minusMonths(Math.max(1, retentionMonths));
+        List<String> partitions = jdbcTemplate.queryForList("""
+                SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid
+                WHERE i.inhparent = 'audit_logs'::regclass
+                ORDER BY c.relname
+                """, String.class);
+        for (String partition : partitions) {
+            YearMonth month = month(partition);
+            if (month == null || !month.isBefore(cutoff)) continue;
+            if (!fullyAnchored(partition)) {
+                log.info("Audit log partition {} still has unanchored records; keeping it attached", partition);
+                continue;
+            }
+            AuditLogArchive archive = transactionTemplate.execute(status -> {
+                jdbcTemplate.queryForList("SELECT audit_logs_detach_partition(?)", partition);
+                return archiveRepository.save(new AuditLogArchive(partition, start(month), start(month.plusMonths(1))));
+            });
+            store(archive);
+            archived++;
+        }
+        return archived;
+    }
+
+    public Optional<AuditLog> findArchived(long auditLogId) {
+        return Optional.ofNullable(findArchived(List.of(auditLogId)).get(auditLogId));
+    }
+
+    public Map<Long, AuditLog> findArchived(Collection<Long> auditLogIds) {
+        if (auditLogIds == null || auditLogIds.isEmpty()) return Map.of();
+        Map<Long, AuditLog> result = new HashMap<>();
+        Set<Long> missing = new HashSet<>();
+        synchronized (rehydratedRecords) {
+            for (Long id : auditLogIds) {
+                AuditLog cached = rehydratedRecords.get(id);
+                if (cached != null) result.put(id, cached);
+                else missing.add(id);
+            }
+        }
+        if (missing.isEmpty()) return result;
+
+        long minId = missing.stream().mapToLong(Long::longValue).min().orElseThrow();
+        long maxId = missing.stream().mapToLong(Long::longValue).max().orElseThrow();
+        for (AuditLogArchive archive : archiveRepository.findArchivedOverlapping(minId, maxId)) {
+            Set<Long> wanted = new HashSet<>();
+            for (Long id : missing) {
+                if (id >= archive.getFirstLogId() && id <= archive.getLastLogId()) wanted.add(id);
+            }
+            if (wanted.isEmpty()) continue;
+            Map<Long, AuditLog> found = rehydrate(archive, wanted);
+            result.putAll(found);
+            missing.removeAll(found.keySet());
+            synchronized (rehydratedRecords) {
+                rehydratedRecords.putAll(found);
+            }
+            if (missing.isEmpty()) break;
+        }
+        return result;
+    }
+
+    /**
+     * Latest archived record of an entity, searching months newest first and stopping at the first month that has
+     * one. Months ending before {@code since} are skipped since the entity cannot appear in them. Every candidate
+     * month is read in full, so this is a fallback for when {@code audit_logs} no longer holds the entity's history.
+     */
+    public Optional<AuditLog> findLatestArchived(String entityType, String entityId, String tenantId, Instant since) {
+        List<AuditLogArchive> archives = archiveRepository.findByStatusOrderByRangeStartAsc(AuditLogArchiveStatus.ARCHIVED);
+        for (int i = archives.size() - 1; i >= 0; i--) {
+            AuditLogArchive archive = archives.get(i);
+            if (since != null && !archive.getRangeEnd().isAfter(since)) break;
+            AuditLog[] latest = new AuditLog[1];
+            scan(archive, line -> line.contains(entityId), value -> {
+                if (entityType.equals(value.getEntityType()) && entityId.equals(value.getEntityId())
+                        && tenantId.equals(value.getTenantId())
+                        && (latest[0] == null || value.getId() > latest[0].getId())) {
+                    latest[0] = value;
+                }
+            });
+            if (latest[0] != null) return Optional.of(latest[0]);
+        }
+        return Optional.empty();
+    }
+
+    private void store(AuditLogArchive archive) {
+        String partition = archive.getPartitionName();
+        Path file = null;
+        try {
+            file = Files.createTempFile(partition, ".ndjson.gz");
+            MessageDigest digest = sha256();
+            ArchiveWriter writer;
+            try (OutputStream out = new GZIPOutputStream(new DigestOutputStream(Files.newOutputStream(file), digest))) {
+                writer = new ArchiveWriter(out);
+                JdbcTemplate exportTemplate = new JdbcTemplate(Objects.requireNonNull(jdbcTemplate.getDataSource()));
+                exportTemplate.setFetchSize(Math.max(1, fetchSize));
+                transactionTemplate.executeWithoutResult(status -> exportTemplate.query(
+                        "SELECT " + ARCHIVE_COLUMNS + " FROM " + partitionTable(partition) + " ORDER BY id", writer));
+                writer.flush();
+            }
+
+            String key = "audit-logs/" + partition + ".ndjson.gz";
+            storage.store(key, file);
+            String checksum = HexFormat.of().formatHex(digest.digest());
+            transactionTemplate.executeWithoutResult(status -> {
+                AuditLogArchive managed = archiveRepository.findById(archive.getId()).orElseThrow();
+                managed.setRecordCount(writer.count);
+                managed.setFirstLogId(writer.firstId);
+                managed.setLastLogId(writer.lastId);
+                managed.setStorageKey(key);
+                managed.setSha256(checksum);
+                managed.setStatus(AuditLogArchiveStatus.ARCHIVED);
+                managed.setArchivedAt(Instant.now());
+                jdbcTemplate.queryForList("SELECT audit_logs_drop_detached_partition(?)", partition);
+            });
+            log.info("Archived audit log partition {} with {} records to {}", partition, writer.count, key);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to archive audit log partition " + partition, e);
+        } finally {
+            if (file != null) {
+                try { Files.deleteIfExists(file); } catch (IOException ignored) { }
+            }
+        }
+    }
+
+    /**
+     * Streams an archived month and keeps only the requested records, so memory follows the request rather than
+     * the month.
+     */
+    private Map<Long, AuditLog> rehydrate(AuditLogArchive archive, Set<Long> wanted) {
+        Map<Long, AuditLog> found = new HashMap<>();
+        scan(archive, line -> {
+            if (found.size() == wanted.size()) return false;
+            Long id = leadingId(line);
+            return id == null || wanted.contains(id);
+        }, value -> {
+            if (wanted.contains(value.getId())) found.put(value.getId(), value);
+        });
+        return found;
+    }
+
+    /**
+     * Parses the lines of an archive that pass {@code candidate} and hands the records to {@code sink}. The whole
+     * file is read because the checksum covers it, and a mismatch fails the scan, so callers must not publish what
+     * the sink collected until this returns.
+     */
+    private void scan(AuditLogArchive archive, LinePredicate candidate, Consumer<AuditLog> sink) {
+        MessageDigest digest = sha256();
+        try (InputStream raw = new DigestInputStream(storage.open(archive.getStorageKey()), digest);
+             BufferedReader reader = new BufferedReader(new InputStreamReader(new GZIPInputStream(raw), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank() && candidate.test(line)) sink.accept(fromJson(objectMapper.readTree(line)));
+            }
+            raw.transferTo(OutputStream.nullOutputStream());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read audit archive " + archive.getStorageKey(), e);
+        }
+        if (archive.getSha256() != null && !archive.getSha256().equalsIgnoreCase(HexFormat.of().formatHex(digest.digest()))) {
+            throw new IllegalStateException("Audit archive checksum mismatch for " + archive.getPartitionName());
+        }
+    }
+
+    @FunctionalInterface
+    private interface LinePredicate {
+        boolean test(String line) throws IOException;
+    }
+
+    /** Reads the id that the archive writer puts first on each line without parsing the rest of the record. */
+    private Long leadingId(String line) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(line)) {
+            if (parser.nextToken() == JsonToken.START_OBJECT
+                    && parser.nextToken() == JsonToken.FIELD_NAME
+                    && "id".equals(parser.currentName())
+                    && parser.nextToken() == JsonToken.VALUE_NUMBER_INT) {
+                return parser.getLongValue();
+            }
+        }
+        return null;
+    }
+
+    private boolean fullyAnchored(String partition) {
+        Boolean pending = jdbcTemplate.queryForObject("SELECT EXISTS (SELECT 1 FROM " + partitionTable(partition)
+                + " WHERE anchor_status <> 'VERIFIED' AND action NOT IN ('ANCHOR_SUCCESS', 'ANCHOR_FAILED'))",
+                Boolean.class);
+        return !Boolean.TRUE.equals(pending);
+    }
+
+    private AuditLog fromJson(JsonNode node) {
+        return AuditLog.restore(
+                node.get("id").asLong(),
+                text(node, "tenantId"),
+                text(node, "userId") == null ? null : UUID.fromString(text(node, "userId")),
+                text(node, "userEmail"),
+                text(node, "userRole"),
+                text(node, "action") == null ? null : AuditAction.valueOf(text(node, "action")),
+                text(node, "entityType"),
+                text(node, "entityId"),
+                text(node, "oldValue"),
+                text(node, "newValue"),
+                text(node, "ipAddress"),
+                text(node, "createdAt") == null ? null : Instant.parse(text(node, "createdAt")),
+                text(node, "dataHash"),
+                text(node, "anchorStatus") == null ? null : AuditRecordAnchorStatus.valueOf(text(node, "anchorStatus")));
+    }
+
+    private String text(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+
+    private String partitionTable(String partition) {
+        if (!PARTITION_NAME.matcher(partition).matches()) {
+            throw new IllegalArgumentException("Not an audit log partition: " + partition);
+        }
+        return partition;
+    }
+
+    private YearMonth month(String partition) {
+        Matcher matcher = PARTITION_NAME.matcher(partition);
+        if (!matcher.matches()) return null;
+        return YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)));
+    }
+
+    private Instant start(YearMonth month) {
+        return month.atDay(1).atStartOfDay(ZoneId.systemDefault()).toInstant();
+    }
+
+    private MessageDigest sha256() {
+        try { return MessageDigest.getInstance("SHA-256"); }
+        catch (NoSuchAlgorithmException e) { throw new IllegalStateException("SHA-256 is unavailable", e); }
+    }
+
+    private final class ArchiveWriter implements RowCallbackHandler {
+        private final Writer writer;
+        private long count;
+        private Long firstId;
+        private Long lastId;
+
+        private ArchiveWriter(OutputStream out) {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            long id = rs.getLong("id");
+            ObjectNode node = objectMapper.createObjectNode();
+            node.put("id", id);
+            node.put("tenantId", rs.getString("tenant_id"));
+            node.put("userId", rs.getString("user_id"));
+            node.put("userEmail", rs.getString("user_email"));
+            node.put("userRole", rs.getString("user_role"));
+            node.put("action", rs.getString("action"));
+            node.put("entityType", rs.getString("entity_type"));
+            node.put("entityId", rs.getString("entity_id"));
+            node.put("oldValue", rs.getString("old_value"));
+            node.put("newValue", rs.getString("new_value"));
+            node.put("ipAddress", rs.getString("ip_address"));
+            node.put("createdAt", rs.getTimestamp("created_at").toInstant().toString());
+            node.put("dataHash", rs.getString("data_hash"));
+            node.put("anchorStatus", rs.getString("anchor_status"));
+            try {
+                writer.write(objectMapper.writeValueAsString(node));
+                writer.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            if (firstId == null) firstId = id;
+            lastId = id;
+            count++;
+        }
+
+        private void flush() throws IOException {
+            writer.flush();
+        }
+    }
+}
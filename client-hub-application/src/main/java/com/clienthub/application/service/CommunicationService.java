@@ -6,9 +6,11 @@ import com.clienthub.application.exception.ResourceNotFoundException;
 import com.clienthub.application.exception.TaskNotFoundException;
 import com.clienthub.domain.entity.*;
 import com.clienthub.domain.enums.*;
+import com.clienthub.domain.event.ThreadChangedEvent;
 import com.clienthub.domain.repository.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.AccessDeniedException;
@@ -31,6 +33,7 @@ public class CommunicationService extends TenantAwareService {
     private final UserService userService;
     private final TargetAccessService targetAccessService;
     private final AttachmentService attachmentService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public CommunicationService(CommunicationThreadRepository threadRepository,
                                 CommentRepository commentRepository,
@@ -38,7 +41,8 @@ public class CommunicationService extends TenantAwareService {
                                 UserRepository userRepository,
                                 UserService userService,
                                 TargetAccessService targetAccessService,
-                                AttachmentService attachmentService) {
+                                AttachmentService attachmentService,
+                                ApplicationEventPublisher eventPublisher) {
         this.threadRepository = threadRepository;
         this.commentRepository = commentRepository;
         this.notificationRepository = notificationRepository;
@@ -46,6 +50,7 @@ public class CommunicationService extends TenantAwareService {
         this.userService = userService;
         this.targetAccessService = targetAccessService;
         this.attachmentService = attachmentService;
+        this.eventPublisher = eventPublisher;
     }
 
     @LogAudit(action = AuditAction.CREATE, entityType = "COMMENT", entityId = "#result.id")
@@ -64,6 +69,11 @@ public class CommunicationService extends TenantAwareService {
                 .orElseGet(() -> createThread(
                         targetType, authorizedTarget.targetId(), tenantId, author, "General Discussion"));
 
+        // Without the lock two first comments by one author could both see no earlier comment and count twice.
+        threadRepository.findByIdForUpdate(thread.getId());
+        boolean firstTimeAuthor = !commentRepository.existsByThreadIdAndAuthorIdAndTenantId(
+                thread.getId(), authorId, tenantId);
+
         Comment comment = new Comment();
         comment.setTenantId(tenantId);
         comment.setContent(content);
@@ -74,6 +84,10 @@ public class CommunicationService extends TenantAwareService {
         }
 
         Comment savedComment = commentRepository.save(comment);
+        if (firstTimeAuthor) {
+            threadRepository.adjustDistinctParticipantCount(thread.getId(), 1);
+        }
+        eventPublisher.publishEvent(new ThreadChangedEvent(this, tenantId, thread.getId()));
 
         User recipientForNotification = authorizedTarget.notificationRecipient();
         if (recipientForNotification != null && !recipientForNotification.getId().equals(authorId)) {
@@ -134,7 +148,14 @@ public class CommunicationService extends TenantAwareService {
             throw new AccessDeniedException("You do not have permission to delete this comment");
         }
 
+        Long threadId = comment.getThread().getId();
+        UUID authorId = comment.getAuthor().getId();
+        threadRepository.findByIdForUpdate(threadId);
         commentRepository.delete(comment);
+        if (!commentRepository.existsByThreadIdAndAuthorIdAndTenantId(threadId, authorId, tenantId)) {
+            threadRepository.adjustDistinctParticipantCount(threadId, -1);
+        }
+        eventPublisher.publishEvent(new ThreadChangedEvent(this, tenantId, threadId));
     }
 
     private CommunicationThread createThread(CommentTargetType targetType, String targetId,
@@ -3,20 +3,18 @@ package com.clienthub.application.service;
 import com.clienthub.application.dto.dashboard.DashboardStatsResponse;
 import com.clienthub.application.exception.ResourceNotFoundException;
 import com.clienthub.common.service.TenantAwareService;
-import com.clienthub.domain.entity.User;
 import com.clienthub.domain.enums.InvoiceStatus;
 import com.clienthub.domain.enums.ProjectStatus;
 import com.clienthub.domain.enums.Role;
 import com.clienthub.domain.enums.TaskStatus;
-import com.clienthub.domain.repository.InvoiceRepository;
-import com.clienthub.domain.repository.ProjectRepository;
-import com.clienthub.domain.repository.TaskRepository;
+import com.clienthub.domain.repository.DashboardAggregate;
 import com.clienthub.domain.repository.UserRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Service
@@ -30,67 +28,41 @@ public class DashboardService extends TenantAwareService {
     private static final List<InvoiceStatus> AWAITING_PAYMENT_STATUSES =
             List.of(InvoiceStatus.SENT);
 
-    private final ProjectRepository projectRepository;
-    private final TaskRepository taskRepository;
-    private final InvoiceRepository invoiceRepository;
     private final UserRepository userRepository;
+    private final ReadModelCache readModelCache;
 
-    public DashboardService(ProjectRepository projectRepository,
-                            TaskRepository taskRepository,
-                            InvoiceRepository invoiceRepository,
-                            UserRepository userRepository) {
-        this.projectRepository = projectRepository;
-        this.taskRepository = taskRepository;
-        this.invoiceRepository = invoiceRepository;
+    public DashboardService(UserRepository userRepository, ReadModelCache readModelCache) {
         this.userRepository = userRepository;
+        this.readModelCache = readModelCache;
     }
 
-    public DashboardStatsResponse getSummaryStats(UUID currentUserId) {
+    /**
+     * Totals for the landing page in one statement, cached per user and role. The role comes from the authenticated
+     * principal; the query itself still checks that the actor belongs to the current tenant.
+     */
+    public DashboardStatsResponse getSummaryStats(UUID currentUserId, Role role) {
         String tenantId = getCurrentTenantId();
-        User actor = userRepository.findByIdAndTenantId(currentUserId, tenantId)
-                .orElseThrow(() -> new ResourceNotFoundException("User", "id", currentUserId));
-
-        long activeProjects = countActiveProjects(actor, tenantId);
-        long pendingTasks = countPendingTasks(actor, tenantId);
-        BigDecimal awaitingPayment = sumAwaitingPayment(actor, tenantId);
+        // Administrators see tenant-wide totals; everyone else only their own projects, tasks and invoices.
+        List<String> tags = role == Role.ADMIN
+                ? List.of(ReadModelCache.PROJECTS, ReadModelCache.TASKS, ReadModelCache.INVOICES)
+                : List.of(ReadModelCache.userTag(currentUserId));
+        DashboardAggregate totals = readModelCache.get("dashboard", tenantId, currentUserId + ":" + role, tags,
+                DashboardAggregate.class, () -> load(currentUserId, role, tenantId).orElse(null));
+        if (totals == null) throw new ResourceNotFoundException("User", "id", currentUserId);
 
         return new DashboardStatsResponse(
-                activeProjects, pendingTasks, awaitingPayment, BigDecimal.ZERO);
-    }
-
-    private long countActiveProjects(User actor, String tenantId) {
-        return switch (actor.getRole()) {
-            case CLIENT -> projectRepository.countOwnerProjectsByUserIdAndTenantIdAndStatusIn(
-                    actor.getId(), tenantId, ACTIVE_PROJECT_STATUSES);
-            case FREELANCER -> projectRepository.countMemberProjectsByUserIdAndTenantIdAndStatusIn(
-                    actor.getId(), tenantId, ACTIVE_PROJECT_STATUSES);
-            case ADMIN -> projectRepository.countByTenantIdAndStatusIn(
-                    tenantId, ACTIVE_PROJECT_STATUSES);
-        };
+                totals.activeProjects(), totals.pendingTasks(), new BigDecimal(totals.awaitingPayment()),
+                BigDecimal.ZERO);
     }
 
-    private long countPendingTasks(User actor, String tenantId) {
-        return switch (actor.getRole()) {
-            case CLIENT -> taskRepository.countByProjectOwnerIdAndTenantIdAndStatusIn(
-                    actor.getId(), tenantId, PENDING_TASK_STATUSES);
-            case FREELANCER -> taskRepository.countByAssignedToIdAndTenantIdAndStatusIn(
-                    actor.getId(), tenantId, PENDING_TASK_STATUSES);
-            case ADMIN -> taskRepository.countByTenantIdAndStatusIn(
-                    tenantId, PENDING_TASK_STATUSES);
+    private Optional<DashboardAggregate> load(UUID currentUserId, Role role, String tenantId) {
+        return switch (role) {
+            case CLIENT -> userRepository.findClientDashboard(currentUserId, tenantId,
+                    ACTIVE_PROJECT_STATUSES, PENDING_TASK_STATUSES, AWAITING_PAYMENT_STATUSES);
+            case FREELANCER -> userRepository.findFreelancerDashboard(currentUserId, tenantId,
+                    ACTIVE_PROJECT_STATUSES, PENDING_TASK_STATUSES, AWAITING_PAYMENT_STATUSES);
+            case ADMIN -> userRepository.findAdminDashboard(currentUserId, tenantId,
+                    ACTIVE_PROJECT_STATUSES, PENDING_TASK_STATUSES, AWAITING_PAYMENT_STATUSES);
         };
     }
-
-    private BigDecimal sumAwaitingPayment(User actor, String tenantId) {
-        Role role = actor.getRole();
-        if (role == Role.CLIENT) {
-            return invoiceRepository.sumAmountByTenantIdAndClientIdAndStatuses(
-                    tenantId, actor.getId(), AWAITING_PAYMENT_STATUSES);
-        }
-        if (role == Role.FREELANCER) {
-            return invoiceRepository.sumAmountByTenantIdAndFreelancerIdAndStatuses(
-                    tenantId, actor.getId(), AWAITING_PAYMENT_STATUSES);
-        }
-        return invoiceRepository.sumAmountByTenantIdAndStatuses(
-                tenantId, AWAITING_PAYMENT_STATUSES);
-    }
 }
@@ -50,6 +50,7 @@ public class InvoiceService extends TenantAwareService {
     private final AuditLogRepository auditLogRepository;
     private final AuditProofReader auditProofReader;
     private final ApplicationEventPublisher eventPublisher;
+    private final AuditArchiveService archiveService;
 
     @Value("${blockchain.enabled:false}")
     private boolean blockchainEnabled;
@@ -62,7 +63,8 @@ public class InvoiceService extends TenantAwareService {
                           NotificationProducerService notificationProducerService,
                           AuditLogRepository auditLogRepository,
                           AuditProofReader auditProofReader,
-                          ApplicationEventPublisher eventPublisher) {
+                          ApplicationEventPublisher eventPublisher,
+                          AuditArchiveService archiveService) {
         this.invoiceRepository = invoiceRepository;
         this.projectRepository = projectRepository;
         this.projectMemberRepository = projectMemberRepository;
@@ -72,6 +74,7 @@ public class InvoiceService extends TenantAwareService {
         this.auditLogRepository = auditLogRepository;
         this.auditProofReader = auditProofReader;
         this.eventPublisher = eventPublisher;
+        this.archiveService = archiveService;
     }
 
     public InvoiceResponse createInvoice(InvoiceRequest request, UUID currentUserId) {
@@ -240,8 +243,11 @@ public class InvoiceService extends TenantAwareService {
     }
 
     private java.util.Optional<Long> latestInvoiceAuditId(Invoice invoice) {
+        String invoiceId = String.valueOf(invoice.getId());
         return auditLogRepository.findFirstByEntityTypeAndEntityIdAndTenantIdOrderByCreatedAtDescIdDesc(
-                        "INVOICE", String.valueOf(invoice.getId()), invoice.getTenantId())
+                        "INVOICE", invoiceId, invoice.getTenantId())
+                .or(() -> archiveService.findLatestArchived(
+                        "INVOICE", invoiceId, invoice.getTenantId(), invoice.getCreatedAt()))
                 .map(com.clienthub.domain.entity.AuditLog::getId);
     }
 
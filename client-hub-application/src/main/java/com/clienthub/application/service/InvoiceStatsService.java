@@ -0,0 +1,35 @@
+package com.clienthub.application.service;
+
+import com.clienthub.domain.repository.TenantInvoiceStatsRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Checks the trigger-maintained {@code tenant_invoice_stats} counters against the invoices they summarize and
+ * repairs any drift, e.g. after invoices were edited with the triggers disabled.
+ */
+@Service
+public class InvoiceStatsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(InvoiceStatsService.class);
+
+    private final TenantInvoiceStatsRepository tenantInvoiceStatsRepository;
+
+    public InvoiceStatsService(TenantInvoiceStatsRepository tenantInvoiceStatsRepository) {
+        this.tenantInvoiceStatsRepository = tenantInvoiceStatsRepository;
+    }
+
+    /** Returns the number of tenant/status counters that had drifted and were corrected. */
+    @Transactional
+    public int verify() {
+        tenantInvoiceStatsRepository.lockForVerification();
+        int drifted = tenantInvoiceStatsRepository.clearStatsWithoutInvoices()
+                + tenantInvoiceStatsRepository.reconcileStatsWithInvoices();
+        if (drifted > 0) {
+            logger.warn("Corrected {} drifted tenant invoice counters", drifted);
+        }
+        return drifted;
+    }
+}
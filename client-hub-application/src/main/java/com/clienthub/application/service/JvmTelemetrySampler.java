@@ -0,0 +1,203 @@
+package com.clienthub.application.service;
+
+import com.clienthub.application.dto.admin.JvmVitals;
+import com.clienthub.application.dto.admin.OperationalAlert;
+import com.clienthub.application.dto.admin.TelemetrySample;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.MemoryUsage;
+import java.lang.management.ThreadMXBean;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Records heap, GC time, thread and connection pool figures on a fixed schedule into a bounded history and
+ * re-evaluates the JVM alerts as each sample arrives, so the control center reads vitals, trends and alerts from
+ * memory instead of querying MX beans per request.
+ */
+@Component
+public class JvmTelemetrySampler {
+
+    private static final Logger logger = LoggerFactory.getLogger(JvmTelemetrySampler.class);
+    private static final int SUSTAINED_SAMPLES = 3;
+
+    private final DataSource dataSource;
+    private final Clock clock;
+    private final MemoryMXBean memoryBean = ManagementFactory.getMemoryMXBean();
+    private final ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+    private final List<GarbageCollectorMXBean> gcBeans = ManagementFactory.getGarbageCollectorMXBeans();
+
+    private final Deque<TelemetrySample> history = new ArrayDeque<>();
+    private final Map<String, OperationalAlert> activeAlerts = new LinkedHashMap<>();
+    private volatile TelemetrySample latest;
+    private volatile List<OperationalAlert> alerts = List.of();
+    private long lastGcTimeMs = -1;
+    private int heapStreak;
+    private int poolStreak;
+
+    @Value("${admin.telemetry.history_size:90}")
+    private int historySize;
+
+    @Value("${admin.telemetry.heap_warning_percent:85}")
+    private int heapWarningPercent;
+
+    @Value("${admin.telemetry.heap_critical_percent:95}")
+    private int heapCriticalPercent;
+
+    @Value("${admin.telemetry.gc_warning_percent:10}")
+    private int gcWarningPercent;
+
+    @Autowired
+    public JvmTelemetrySampler(DataSource dataSource) {
+        this(dataSource, Clock.systemUTC());
+    }
+
+    JvmTelemetrySampler(DataSource dataSource, Clock clock) {
+        this.dataSource = dataSource;
+        this.clock = clock;
+    }
+
+    @Scheduled(fixedDelayString = "${admin.telemetry.interval_ms:10000}")
+    public void sample() {
+        MemoryUsage heap = memoryBean.getHeapMemoryUsage();
+        long gcTimeMs = gcBeans.stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionTime)
+                .filter(time -> time > 0)
+                .sum();
+        long gcDeltaMs = lastGcTimeMs < 0 ? 0 : Math.max(0, gcTimeMs - lastGcTimeMs);
+        lastGcTimeMs = gcTimeMs;
+        HikariPoolMXBean pool = hikariPool();
+
+        record(new TelemetrySample(
+                clock.instant(),
+                toMb(heap.getUsed()),
+                toMb(heap.getCommitted()),
+                toMb(heap.getMax() > 0 ? heap.getMax() : heap.getCommitted()),
+                gcDeltaMs,
+                threadBean.getThreadCount(),
+                pool != null ? pool.getActiveConnections() : null,
+                pool != null ? pool.getIdleConnections() : null,
+                pool != null ? pool.getThreadsAwaitingConnection() : null,
+                pool != null ? pool.getTotalConnections() : null));
+    }
+
+    public TelemetrySample latest() {
+        return latest;
+    }
+
+    public synchronized List<TelemetrySample> history() {
+        return List.copyOf(history);
+    }
+
+    public List<OperationalAlert> alerts() {
+        return alerts;
+    }
+
+    /** Vitals from the last sample; before the first sample they are read directly. */
+    public JvmVitals latestVitals() {
+        TelemetrySample sample = latest;
+        if (sample == null) {
+            return JvmVitals.current();
+        }
+        return new JvmVitals(
+                sample.heapUsedMb(),
+                sample.heapMaxMb(),
+                Math.max(sample.heapCommittedMb() - sample.heapUsedMb(), 0),
+                Runtime.getRuntime().availableProcessors());
+    }
+
+    synchronized void record(TelemetrySample sample) {
+        TelemetrySample previous = latest;
+        history.addLast(sample);
+        while (history.size() > Math.max(1, historySize)) {
+            history.removeFirst();
+        }
+        latest = sample;
+        evaluate(sample, previous);
+        alerts = List.copyOf(activeAlerts.values());
+    }
+
+    private void evaluate(TelemetrySample sample, TelemetrySample previous) {
+        Instant at = sample.sampledAt();
+
+        long heapPercent = sample.heapMaxMb() > 0 ? sample.heapUsedMb() * 100 / sample.heapMaxMb() : 0;
+        heapStreak = heapPercent >= heapWarningPercent ? heapStreak + 1 : 0;
+        if (heapStreak >= SUSTAINED_SAMPLES) {
+            raise("jvm-heap-pressure",
+                    heapPercent >= heapCriticalPercent ? "CRITICAL" : "WARNING",
+                    "Heap usage is high",
+                    heapPercent + "% of the maximum heap is in use and has stayed above "
+                            + heapWarningPercent + "% for " + heapStreak + " samples.",
+                    "Review the heap trend for a leak or raise the maximum heap size.",
+                    at);
+        } else {
+            activeAlerts.remove("jvm-heap-pressure");
+        }
+
+        long elapsedMs = previous != null ? Duration.between(previous.sampledAt(), at).toMillis() : 0;
+        long gcPercent = elapsedMs > 0 ? sample.gcTimeMs() * 100 / elapsedMs : 0;
+        if (gcPercent >= gcWarningPercent) {
+            raise("jvm-gc-overhead",
+                    "WARNING",
+                    "Garbage collection overhead",
+                    "The JVM spent " + gcPercent + "% of the last " + elapsedMs + "ms collecting garbage.",
+                    "Check heap sizing and allocation-heavy endpoints.",
+                    at);
+        } else {
+            activeAlerts.remove("jvm-gc-overhead");
+        }
+
+        Integer pending = sample.poolPending();
+        poolStreak = pending != null && pending > 0 ? poolStreak + 1 : 0;
+        if (poolStreak >= SUSTAINED_SAMPLES) {
+            raise("db-pool-saturated",
+                    sample.poolTotal() != null && pending >= sample.poolTotal() ? "CRITICAL" : "WARNING",
+                    "Connection pool is saturated",
+                    pending + " threads are waiting for one of " + sample.poolTotal() + " database connections.",
+                    "Look for long transactions or raise the pool size.",
+                    at);
+        } else {
+            activeAlerts.remove("db-pool-saturated");
+        }
+    }
+
+    /** Keeps the time an alert was first raised while its condition persists. */
+    private void raise(String id, String severity, String title, String message, String action, Instant at) {
+        OperationalAlert existing = activeAlerts.get(id);
+        activeAlerts.put(id, new OperationalAlert(
+                id, severity, title, message, action, existing != null ? existing.createdAt() : at));
+    }
+
+    private HikariPoolMXBean hikariPool() {
+        try {
+            if (dataSource != null && dataSource.isWrapperFor(HikariDataSource.class)) {
+                return dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+            }
+        } catch (SQLException e) {
+            logger.debug("Connection pool stats unavailable: {}", e.getMessage());
+        }
+        return null;
+    }
+
+    private static long toMb(long bytes) {
+        return Math.max(bytes, 0) / (1024 * 1024);
+    }
+}
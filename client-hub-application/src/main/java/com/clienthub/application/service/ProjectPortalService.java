@@ -46,6 +46,7 @@ public class ProjectPortalService extends TenantAwareService {
     private final AuditLogRepository auditLogRepository;
     private final AuditProofReader auditProofReader;
     private final AttachmentService attachmentService;
+    private final AuditArchiveService archiveService;
 
     public ProjectPortalService(ProjectRepository projectRepository,
                                 ProjectMemberRepository projectMemberRepository,
@@ -54,7 +55,8 @@ public class ProjectPortalService extends TenantAwareService {
                                 CommentRepository commentRepository,
                                 AuditLogRepository auditLogRepository,
                                 AuditProofReader auditProofReader,
-                                AttachmentService attachmentService) {
+                                AttachmentService attachmentService,
+                                AuditArchiveService archiveService) {
         this.projectRepository = projectRepository;
         this.projectMemberRepository = projectMemberRepository;
         this.taskRepository = taskRepository;
@@ -63,6 +65,7 @@ public class ProjectPortalService extends TenantAwareService {
         this.auditLogRepository = auditLogRepository;
         this.auditProofReader = auditProofReader;
         this.attachmentService = attachmentService;
+        this.archiveService = archiveService;
     }
 
     public List<ProjectFileResponse> getProjectFiles(UUID projectId, UUID currentUserId, Role callerRole) {
@@ -147,7 +150,7 @@ public class ProjectPortalService extends TenantAwareService {
                                                     Role callerRole, boolean verify) {
         String tenantId = getCurrentTenantId();
         validateProjectAccess(projectId, currentUserId, callerRole, tenantId);
-        AuditLog log = auditLogRepository.findById(auditLogId)
+        AuditLog log = findAuditLog(auditLogId)
                 .filter(value -> tenantId.equals(value.getTenantId()))
                 .orElseThrow(() -> new ResourceNotFoundException("AuditLog", "id", auditLogId));
 
@@ -164,6 +167,11 @@ public class ProjectPortalService extends TenantAwareService {
         return verify ? auditProofReader.verifyUserProof(auditLogId) : auditProofReader.getUserProof(auditLogId);
     }
 
+    /** Records of archived months are no longer in {@code audit_logs} but still have proofs. */
+    private java.util.Optional<AuditLog> findAuditLog(long auditLogId) {
+        return auditLogRepository.findById(auditLogId).or(() -> archiveService.findArchived(auditLogId));
+    }
+
     private boolean belongsToProject(AuditLog log, UUID projectId, TargetIndex targets, Set<String> commentIds) {
         return switch (normalize(log.getEntityType())) {
             case "PROJECT" -> projectId.toString().equals(log.getEntityId());
@@ -7,6 +7,7 @@ import com.clienthub.domain.entity.ProjectMemberId;
 import com.clienthub.domain.entity.User;
 import com.clienthub.domain.enums.ProjectStatus;
 import com.clienthub.domain.enums.Role;
+import com.clienthub.domain.event.ProjectChangedEvent;
 import com.clienthub.application.dto.project.ProjectMemberResponse;
 import com.clienthub.application.dto.project.ProjectFreelancerSearchResponse;
 import com.clienthub.application.dto.project.ProjectRequest;
@@ -18,6 +19,7 @@ import com.clienthub.domain.repository.ProjectRepository;
 import com.clienthub.domain.repository.UserRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -25,6 +27,7 @@ import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
@@ -41,17 +44,28 @@ public class ProjectService extends TenantAwareService {
     private final UserRepository userRepository;
     private final ProjectMapper projectMapper;
     private final NotificationProducerService notificationProducerService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public ProjectService(ProjectRepository projectRepository,
                           ProjectMemberRepository projectMemberRepository,
                           UserRepository userRepository,
                           ProjectMapper projectMapper,
-                          NotificationProducerService notificationProducerService) {
+                          NotificationProducerService notificationProducerService,
+                          ApplicationEventPublisher eventPublisher) {
         this.projectRepository = projectRepository;
         this.projectMemberRepository = projectMemberRepository;
         this.userRepository = userRepository;
         this.projectMapper = projectMapper;
         this.notificationProducerService = notificationProducerService;
+        this.eventPublisher = eventPublisher;
+    }
+
+    private Set<UUID> ownerAndMembers(Project project, String tenantId) {
+        Set<UUID> users = new HashSet<>();
+        if (project.getOwner() != null) users.add(project.getOwner().getId());
+        projectMemberRepository.findByIdProjectIdAndTenantId(project.getId(), tenantId)
+                .forEach(member -> users.add(member.getId().getUserId()));
+        return users;
     }
 
     private void validateUserTenant(User user, String expectedTenantId) {
@@ -97,6 +111,7 @@ public class ProjectService extends TenantAwareService {
         project.setStatus(ProjectStatus.PLANNING);
 
         Project savedProject = projectRepository.save(project);
+        eventPublisher.publishEvent(new ProjectChangedEvent(this, tenantId, savedProject.getId(), Set.of(userId), false));
 
         logger.info("[AUDIT] Project created: id={}, title='{}', owner={}, tenant={}",
                 savedProject.getId(), savedProject.getTitle(), userId, tenantId);
@@ -169,6 +184,10 @@ public class ProjectService extends TenantAwareService {
 
         projectMapper.updateEntityFromRequest(request, project);
         Project updatedProject = projectRepository.save(project);
+        if (updatedProject.getStatus() != oldStatus) {
+            eventPublisher.publishEvent(new ProjectChangedEvent(
+                    this, tenantId, projectId, ownerAndMembers(project, tenantId), false));
+        }
 
         if (oldStatus != ProjectStatus.COMPLETED && updatedProject.getStatus() == ProjectStatus.COMPLETED) {
             notificationProducerService.notifyProjectCompleted(updatedProject);
@@ -195,7 +214,9 @@ public class ProjectService extends TenantAwareService {
         logger.info("[AUDIT] Deleting project: id={}, title='{}', user={} (Note: Related tasks will cascade delete)",
                 projectId, project.getTitle(), currentUserId);
 
+        Set<UUID> affected = ownerAndMembers(project, tenantId);
         projectRepository.deleteById(projectId);
+        eventPublisher.publishEvent(new ProjectChangedEvent(this, tenantId, projectId, affected, true));
     }
 
     public ProjectMemberResponse addMember(UUID projectId, UUID memberUserId, UUID currentUserId, boolean isAdmin) {
@@ -225,6 +246,7 @@ public class ProjectService extends TenantAwareService {
         membership.setTenantId(tenantId);
 
         ProjectMember savedMembership = projectMemberRepository.save(membership);
+        eventPublisher.publishEvent(new ProjectChangedEvent(this, tenantId, projectId, Set.of(memberUserId), false));
         logger.info("[AUDIT] Project member added: projectId={}, memberId={}, actor={}, tenant={}",
                 projectId, memberUserId, currentUserId, tenantId);
 
@@ -244,6 +266,7 @@ public class ProjectService extends TenantAwareService {
                         "ProjectMember", "projectId+userId", projectId + ":" + memberUserId));
 
         projectMemberRepository.delete(membership);
+        eventPublisher.publishEvent(new ProjectChangedEvent(this, tenantId, projectId, Set.of(memberUserId), false));
         logger.info("[AUDIT] Project member removed: projectId={}, memberId={}, actor={}, tenant={}",
                 projectId, memberUserId, currentUserId, tenantId);
     }
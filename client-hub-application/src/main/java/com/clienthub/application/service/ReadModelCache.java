@@ -0,0 +1,152 @@
+package com.clienthub.application.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Redis cache for dashboard and analytics read models. Every entry records the versions of the tags it was computed
+ * from (a user, or one of a tenant's invoices, tasks, projects or threads); domain events bump exactly those tags, so
+ * an entry whose versions no longer match is counted as a stale read and recomputed. The TTL only bounds the memory
+ * held by entries; tag versions are kept without expiry, one small key per tenant tag and user.
+ * Redis is best effort: when it is unreachable every read goes to the database.
+ */
+@Component
+public class ReadModelCache {
+    private static final Logger log = LoggerFactory.getLogger(ReadModelCache.class);
+    private static final String KEY_PREFIX = "readmodel:";
+    static final String REQUESTS_METRIC = "readmodel.cache.requests";
+    static final String HIT_RATIO_METRIC = "readmodel.cache.hit_ratio";
+    static final String INVALIDATIONS_METRIC = "readmodel.cache.invalidations";
+
+    public static final String INVOICES = "invoices";
+    public static final String TASKS = "tasks";
+    public static final String PROJECTS = "projects";
+    public static final String THREADS = "threads";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, ModelStats> stats = new ConcurrentHashMap<>();
+
+    @Value("${readmodel.cache.enabled:true}") private boolean enabled;
+    @Value("${readmodel.cache.ttl_seconds:86400}") private long ttlSeconds;
+
+    public ReadModelCache(StringRedisTemplate redisTemplate, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public static String userTag(UUID userId) {
+        return "user:" + userId;
+    }
+
+    /**
+     * Returns the cached {@code model} for {@code subject}, or computes it with {@code loader}. Tag versions are read
+     * in the same round trip as the entry and stored with the computed value, so an invalidation that lands while
+     * the loader runs makes the stored value stale rather than silently current. Null results are not cached.
+     */
+    public <T> T get(String model, String tenantId, String subject, List<String> tags, Class<T> type,
+                     Supplier<T> loader) {
+        if (!enabled) return loader.get();
+        String entryKey = KEY_PREFIX + model + ":" + tenantId + ":" + subject;
+        List<String> keys = new ArrayList<>();
+        keys.add(entryKey);
+        tags.forEach(tag -> keys.add(tagKey(tenantId, tag)));
+
+        List<Long> versions;
+        try {
+            List<String> values = redisTemplate.opsForValue().multiGet(keys);
+            if (values == null || values.size() != keys.size()) throw new IllegalStateException("Incomplete MGET");
+            versions = values.subList(1, values.size()).stream()
+                    .map(version -> version == null ? 0L : Long.parseLong(version))
+                    .toList();
+            String cached = values.getFirst();
+            if (cached != null) {
+                CachedEntry entry = objectMapper.readValue(cached, CachedEntry.class);
+                if (entry.versions().equals(versions)) {
+                    record(model, "hit");
+                    return objectMapper.treeToValue(entry.value(), type);
+                }
+                record(model, "stale");
+            } else {
+                record(model, "miss");
+            }
+        } catch (Exception e) {
+            log.debug("Read model cache unavailable for {}: {}", model, e.getMessage());
+            record(model, "error");
+            return loader.get();
+        }
+
+        T value = loader.get();
+        if (value == null) return null;
+        try {
+            String entry = objectMapper.writeValueAsString(new CachedEntry(versions, objectMapper.valueToTree(value)));
+            redisTemplate.opsForValue().set(entryKey, entry, Duration.ofSeconds(Math.max(1, ttlSeconds)));
+        } catch (Exception e) {
+            log.debug("Unable to store read model {} in Redis: {}", model, e.getMessage());
+        }
+        return value;
+    }
+
+    /** Bumps the version of each tag, which makes every entry computed from it stale. */
+    public void invalidate(String tenantId, Collection<String> tags) {
+        if (!enabled || tenantId == null) return;
+        for (String tag : tags) {
+            String key = tagKey(tenantId, tag);
+            try {
+                // Tags never expire: a recreated tag would restart at 1 and match entries still cached under it.
+                redisTemplate.opsForValue().increment(key);
+                meterRegistry.counter(INVALIDATIONS_METRIC, "tag", tag.startsWith("user:") ? "user" : tag).increment();
+            } catch (Exception e) {
+                log.warn("Unable to invalidate read model tag {} for tenant {}: {}", tag, tenantId, e.getMessage());
+            }
+        }
+    }
+
+    private String tagKey(String tenantId, String tag) {
+        return KEY_PREFIX + "tag:" + tenantId + ":" + tag;
+    }
+
+    private void record(String model, String result) {
+        meterRegistry.counter(REQUESTS_METRIC, "model", model, "result", result).increment();
+        ModelStats modelStats = stats.computeIfAbsent(model, name -> {
+            ModelStats created = new ModelStats();
+            Gauge.builder(HIT_RATIO_METRIC, created, ModelStats::hitRatio)
+                    .tag("model", name)
+                    .register(meterRegistry);
+            return created;
+        });
+        modelStats.requests.increment();
+        if ("hit".equals(result)) modelStats.hits.increment();
+    }
+
+    record CachedEntry(List<Long> versions, JsonNode value) {}
+
+    private static final class ModelStats {
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder requests = new LongAdder();
+
+        double hitRatio() {
+            long total = requests.sum();
+            return total == 0 ? 0 : (double) hits.sum() / total;
+        }
+    }
+}
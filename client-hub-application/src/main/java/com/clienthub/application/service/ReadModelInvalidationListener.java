@@ -0,0 +1,61 @@
+package com.clienthub.application.service;
+
+import com.clienthub.domain.entity.Invoice;
+import com.clienthub.domain.event.InvoiceStatusChangedEvent;
+import com.clienthub.domain.event.ProjectChangedEvent;
+import com.clienthub.domain.event.TaskChangedEvent;
+import com.clienthub.domain.event.ThreadChangedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Invalidates cached read models once the write that changed them has committed.
+ */
+@Component
+public class ReadModelInvalidationListener {
+    private final ReadModelCache readModelCache;
+
+    public ReadModelInvalidationListener(ReadModelCache readModelCache) {
+        this.readModelCache = readModelCache;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onInvoiceChanged(InvoiceStatusChangedEvent event) {
+        Invoice invoice = event.getInvoice();
+        List<UUID> parties = new ArrayList<>();
+        if (invoice.getClient() != null) parties.add(invoice.getClient().getId());
+        if (invoice.getFreelancer() != null) parties.add(invoice.getFreelancer().getId());
+        readModelCache.invalidate(invoice.getTenantId(), tags(ReadModelCache.INVOICES, parties));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        readModelCache.invalidate(event.getTenantId(), tags(ReadModelCache.TASKS, event.getAffectedUserIds()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        List<String> tags = tags(ReadModelCache.PROJECTS, event.getAffectedUserIds());
+        // Deleting a project removes its tasks with it.
+        if (event.isDeleted()) tags.add(ReadModelCache.TASKS);
+        readModelCache.invalidate(event.getTenantId(), tags);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onThreadChanged(ThreadChangedEvent event) {
+        readModelCache.invalidate(event.getTenantId(), List.of(ReadModelCache.THREADS));
+    }
+
+    private List<String> tags(String tenantTag, Collection<UUID> userIds) {
+        List<String> tags = new ArrayList<>();
+        tags.add(tenantTag);
+        userIds.forEach(userId -> tags.add(ReadModelCache.userTag(userId)));
+        return tags;
+    }
+}
@@ -1,10 +1,14 @@
 package com.clienthub.application.service;
 
+import com.clienthub.domain.entity.IpfsPin;
+import com.clienthub.domain.repository.IpfsPinRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
@@ -12,20 +16,27 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
+import java.security.MessageDigest;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Service
 @ConditionalOnProperty(name = "blockchain.enabled", havingValue = "true")
 public class SbtMetadataService {
     private static final Logger logger = LoggerFactory.getLogger(SbtMetadataService.class);
+    private static final int MAX_CACHED_PINS = 10_000;
     
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
+    private final ObjectMapper canonicalMapper;
+    private final IpfsPinRepository pinRepository;
+    private final Map<String, String> pinnedCids = new ConcurrentHashMap<>();
     
     @Value("${pinata.api.key:}")
     private String pinataApiKey;
@@ -36,14 +47,26 @@ public class SbtMetadataService {
     @Value("${pinata.api.jwt:}")
     private String pinataJwt;
 
-    private static final String PINATA_API_URL = "https://api.pinata.cloud/pinning/pinJSONToIPFS";
+    @Value("${pinata.api.url:https://api.pinata.cloud/pinning/pinJSONToIPFS}")
+    private String pinataApiUrl;
 
-    public SbtMetadataService(RestTemplate restTemplate, ObjectMapper objectMapper) {
+    public SbtMetadataService(RestTemplate restTemplate, ObjectMapper objectMapper, IpfsPinRepository pinRepository) {
         this.restTemplate = restTemplate;
         this.objectMapper = objectMapper;
+        this.canonicalMapper = objectMapper.copy().configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+        this.pinRepository = pinRepository;
     }
 
     public String generateAndUploadMetadata(String freelancerName, String projectName, UUID projectId, String clientName) {
+        return generateAndUploadMetadata(freelancerName, projectName, projectId, clientName, Instant.now());
+    }
+
+    /**
+     * Builds the certificate metadata and pins it, unless a document with the same content was pinned before.
+     * {@code completedAt} is part of the content, so pass a stable value (the payment time) to make retries hit.
+     */
+    public String generateAndUploadMetadata(String freelancerName, String projectName, UUID projectId, String clientName,
+                                            Instant completedAt) {
         try {
             Map<String, Object> metadata = new HashMap<>();
             metadata.put("name", "ClientHub Work Certificate: " + projectName);
@@ -54,52 +77,83 @@ public class SbtMetadataService {
             attributes.put("freelancer", freelancerName);
             attributes.put("project", projectName);
             attributes.put("projectId", projectId.toString());
-            attributes.put("completionDate", DateTimeFormatter.ISO_LOCAL_DATE.withZone(ZoneId.of("UTC")).format(Instant.now()));
+            attributes.put("completionDate", DateTimeFormatter.ISO_LOCAL_DATE.withZone(ZoneId.of("UTC")).format(completedAt));
             attributes.put("clientAttestation", "Work verified and payment released by " + clientName);
             
             metadata.put("attributes", attributes);
-            
-            // For IPFS Pinata integration
-            Map<String, Object> pinataPayload = new HashMap<>();
-            Map<String, Object> pinataOptions = new HashMap<>();
-            pinataOptions.put("cidVersion", 1);
-            pinataPayload.put("pinataOptions", pinataOptions);
-            
-            Map<String, Object> pinataMetadata = new HashMap<>();
-            pinataMetadata.put("name", "CH_Certificate_" + projectId.toString() + ".json");
-            pinataPayload.put("pinataMetadata", pinataMetadata);
-            pinataPayload.put("pinataContent", metadata);
 
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            
-            // Prefer JWT if available, else fallback to API Key/Secret
-            if (pinataJwt != null && !pinataJwt.isEmpty()) {
-                headers.setBearerAuth(pinataJwt);
-            } else if (pinataApiKey != null && !pinataApiKey.isEmpty()) {
-                headers.set("pinata_api_key", pinataApiKey);
-                headers.set("pinata_secret_api_key", pinataApiSecret);
-            } else {
+            if (!hasCredentials()) {
                 logger.warn("Pinata credentials not found. Simulating IPFS upload for development.");
                 String simulatedCid = "QmSimulatedCIDForProject" + projectId.toString().substring(0, 8);
                 return "ipfs://" + simulatedCid;
             }
+            return "ipfs://" + pin(metadata, "CH_Certificate_" + projectId + ".json");
+        } catch (Exception e) {
+            // Minting runs from the outbox, which retries: fail instead of minting against a placeholder CID
+            throw new IllegalStateException("Error uploading SBT metadata to IPFS", e);
+        }
+    }
 
-            HttpEntity<Map<String, Object>> request = new HttpEntity<>(pinataPayload, headers);
-            ResponseEntity<Map> response = restTemplate.postForEntity(PINATA_API_URL, request, Map.class);
-            
-            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                String ipfsHash = (String) response.getBody().get("IpfsHash");
-                logger.info("Successfully uploaded metadata to IPFS. Hash: {}", ipfsHash);
-                return "ipfs://" + ipfsHash;
-            } else {
-                throw new RuntimeException("Failed to upload metadata to Pinata. Status: " + response.getStatusCode());
+    /**
+     * Returns the CID of {@code content}, keyed by the SHA-256 of its canonical JSON (map keys sorted). Only content
+     * that was never pinned before is uploaded.
+     */
+    String pin(Object content, String name) throws Exception {
+        byte[] canonical = canonicalMapper.writeValueAsBytes(content);
+        String contentHash = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(canonical));
+
+        String cid = pinnedCids.get(contentHash);
+        if (cid != null) return cid;
+        cid = pinRepository.findById(contentHash).map(IpfsPin::getCid).orElse(null);
+        if (cid == null) {
+            cid = upload(content, name);
+            try {
+                pinRepository.save(new IpfsPin(contentHash, cid, canonical.length));
+            } catch (DataIntegrityViolationException e) {
+                logger.debug("IPFS pin {} was recorded concurrently", contentHash);
             }
-            
-        } catch (Exception e) {
-            logger.error("Error uploading SBT metadata to IPFS", e);
-            // Return a placeholder or simulated CID so flow doesn't break in dev if API is down
-            return "ipfs://QmErrorFallbackCID";
+        } else {
+            logger.debug("Skipping IPFS upload of {}: already pinned as {}", name, cid);
         }
+        if (pinnedCids.size() < MAX_CACHED_PINS) pinnedCids.put(contentHash, cid);
+        return cid;
+    }
+
+    private String upload(Object content, String name) {
+        // For IPFS Pinata integration
+        Map<String, Object> pinataPayload = new HashMap<>();
+        Map<String, Object> pinataOptions = new HashMap<>();
+        pinataOptions.put("cidVersion", 1);
+        pinataPayload.put("pinataOptions", pinataOptions);
+
+        Map<String, Object> pinataMetadata = new HashMap<>();
+        pinataMetadata.put("name", name);
+        pinataPayload.put("pinataMetadata", pinataMetadata);
+        pinataPayload.put("pinataContent", content);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        // Prefer JWT if available, else fallback to API Key/Secret
+        if (pinataJwt != null && !pinataJwt.isEmpty()) {
+            headers.setBearerAuth(pinataJwt);
+        } else {
+            headers.set("pinata_api_key", pinataApiKey);
+            headers.set("pinata_secret_api_key", pinataApiSecret);
+        }
+
+        HttpEntity<Map<String, Object>> request = new HttpEntity<>(pinataPayload, headers);
+        ResponseEntity<Map> response = restTemplate.postForEntity(pinataApiUrl, request, Map.class);
+
+        if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null
+                && response.getBody().get("IpfsHash") instanceof String ipfsHash) {
+            logger.info("Successfully uploaded metadata to IPFS. Hash: {}", ipfsHash);
+            return ipfsHash;
+        }
+        throw new IllegalStateException("Failed to upload metadata to Pinata. Status: " + response.getStatusCode());
+    }
+
+    private boolean hasCredentials() {
+        return (pinataJwt != null && !pinataJwt.isEmpty()) || (pinataApiKey != null && !pinataApiKey.isEmpty());
     }
 }
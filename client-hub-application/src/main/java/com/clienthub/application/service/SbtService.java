@@ -5,15 +5,27 @@ import com.clienthub.application.exception.ResourceNotFoundException;
 import com.clienthub.common.service.TenantAwareService;
 import com.clienthub.domain.entity.Certificate;
 import com.clienthub.domain.entity.Invoice;
+import com.clienthub.domain.entity.SbtMintOutbox;
+import com.clienthub.domain.enums.CertificateStatus;
+import com.clienthub.domain.enums.InvoiceStatus;
+import com.clienthub.domain.enums.SbtMintStatus;
+import com.clienthub.domain.event.InvoiceStatusChangedEvent;
 import com.clienthub.domain.repository.CertificateRepository;
 import com.clienthub.domain.repository.InvoiceRepository;
+import com.clienthub.domain.repository.SbtMintOutboxRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -22,17 +34,32 @@ import java.util.stream.Collectors;
 public class SbtService extends TenantAwareService {
     
     private static final Logger logger = LoggerFactory.getLogger(SbtService.class);
+    private static final long MAX_RETRY_DELAY_SECONDS = 3600;
 
     private final CertificateRepository certificateRepository;
     private final InvoiceRepository invoiceRepository;
     private final SbtMetadataService sbtMetadataService;
+    private final SbtMintOutboxRepository outboxRepository;
+
+    @Value("${sbt.mint.max_attempts:8}")
+    private int maxAttempts;
+
+    @Value("${sbt.mint.retry_base_seconds:30}")
+    private long retryBaseSeconds;
+
+    public record MintRequest(Long outboxId, Long invoiceId, String freelancerName, String projectTitle,
+                              UUID projectId, String clientName, Instant completedAt) {}
+
+    public record MintResult(String metadataUri, String tokenId, String transactionHash) {}
 
     public SbtService(CertificateRepository certificateRepository, 
                       InvoiceRepository invoiceRepository, 
-                      SbtMetadataService sbtMetadataService) {
+                      SbtMetadataService sbtMetadataService,
+                      SbtMintOutboxRepository outboxRepository) {
         this.certificateRepository = certificateRepository;
         this.invoiceRepository = invoiceRepository;
         this.sbtMetadataService = sbtMetadataService;
+        this.outboxRepository = outboxRepository;
     }
 
     @Transactional
@@ -40,26 +67,100 @@ public class SbtService extends TenantAwareService {
         String tenantId = getCurrentTenantId();
         Invoice invoice = invoiceRepository.findByIdAndTenantId(invoiceId, tenantId)
                 .orElseThrow(() -> new ResourceNotFoundException("Invoice not found"));
-        mintCertificateForInvoice(invoice);
+        enqueueMint(invoice);
     }
 
-    private void mintCertificateForInvoice(Invoice invoice) {
+    /**
+     * Records the mint as a PENDING certificate plus an outbox row in the caller's transaction, so the PAID
+     * transition and the mint request commit together. The remote work happens later in {@code SbtMintJob}.
+     */
+    private void enqueueMint(Invoice invoice) {
         String tenantId = invoice.getTenantId();
         UUID freelancerId = invoice.getFreelancer().getId();
         UUID projectId = invoice.getProject().getId();
 
-        // Check if certificate already exists
+        if (outboxRepository.existsByInvoiceId(invoice.getId())) {
+            logger.debug("SBT mint for invoice {} is already queued", invoice.getId());
+            return;
+        }
         if (certificateRepository.findByProjectIdAndUserIdAndTenantId(projectId, freelancerId, tenantId).isPresent()) {
             logger.info("Certificate already exists for Project {} and Freelancer {}", projectId, freelancerId);
             return;
         }
 
-        // Upload metadata to IPFS
+        Certificate certificate = certificateRepository.save(Certificate.builder()
+                .tenantId(tenantId)
+                .user(invoice.getFreelancer())
+                .project(invoice.getProject())
+                .status(CertificateStatus.PENDING)
+                .build());
+        // A concurrent PAID transition may have queued the invoice since the check above; the insert then does
+        // nothing instead of failing the payment, and this transaction's certificate is dropped.
+        if (outboxRepository.enqueue(tenantId, invoice.getId(), certificate.getId(), Instant.now()) == 0) {
+            certificateRepository.delete(certificate);
+            logger.debug("SBT mint for invoice {} was queued concurrently", invoice.getId());
+            return;
+        }
+        logger.info("Queued SBT mint for invoice {} (certificate {})", invoice.getId(), certificate.getId());
+    }
+
+    @EventListener
+    @Transactional
+    public void onInvoiceStatusChanged(InvoiceStatusChangedEvent event) {
+        if (event.getInvoice().getStatus() == InvoiceStatus.PAID) {
+            enqueueMint(event.getInvoice());
+        }
+    }
+
+    /**
+     * Claims due outbox rows with SKIP LOCKED and leases them for {@code lease}: the worker extends the lease while
+     * it mints, and one that dies mid-mint leaves the row to be picked up again once the lease expires. Rows whose certificate is already minted are completed.
+     */
+    @Transactional
+    public List<MintRequest> claimDueMints(int limit, Duration lease) {
+        Instant now = Instant.now();
+        List<MintRequest> claimed = new ArrayList<>();
+        for (SbtMintOutbox entry : outboxRepository.findDueForUpdate(now, Math.max(1, limit))) {
+            Optional<Certificate> certificate = certificateRepository.findById(entry.getCertificateId());
+            Optional<Invoice> invoice = invoiceRepository.findById(entry.getInvoiceId());
+            if (certificate.isEmpty() || invoice.isEmpty()) {
+                markFailed(entry, certificate.orElse(null), "certificate or invoice no longer exists");
+                continue;
+            }
+            if (certificate.get().getStatus() == CertificateStatus.MINTED) {
+                entry.setStatus(SbtMintStatus.COMPLETED);
+                entry.setCompletedAt(now);
+                continue;
+            }
+            entry.setAttempts(entry.getAttempts() + 1);
+            entry.setNextAttemptAt(now.plus(lease));
+            Invoice paid = invoice.get();
+            claimed.add(new MintRequest(
+                    entry.getId(),
+                    entry.getInvoiceId(),
+                    paid.getFreelancer().getFullName(),
+                    paid.getProject().getTitle(),
+                    paid.getProject().getId(),
+                    paid.getClient().getFullName(),
+                    paid.getPaidAt() != null ? paid.getPaidAt() : now));
+        }
+        return claimed;
+    }
+
+    /** Keeps a claimed mint leased for another {@code lease}; called periodically while the mint is running. */
+    @Transactional
+    public boolean extendLease(Long outboxId, Duration lease) {
+        return outboxRepository.extendLease(outboxId, Instant.now().plus(lease)) > 0;
+    }
+
+    /** Uploads the metadata and mints the token; no transaction is held during these remote calls. */
+    public MintResult mint(MintRequest request) {
         String metadataUri = sbtMetadataService.generateAndUploadMetadata(
-                invoice.getFreelancer().getFullName(),
-                invoice.getProject().getTitle(),
-                projectId,
-                invoice.getClient().getFullName()
+                request.freelancerName(),
+                request.projectTitle(),
+                request.projectId(),
+                request.clientName(),
+                request.completedAt()
         );
 
         // TODO: In a fully integrated Web3 environment, we would call the WorkCertificate smart contract here
@@ -67,30 +168,58 @@ public class SbtService extends TenantAwareService {
         // For now, we simulate the minting process.
         String simulatedTokenId = UUID.randomUUID().toString().substring(0, 8);
         String simulatedTxHash = "0x" + UUID.randomUUID().toString().replace("-", "") + UUID.randomUUID().toString().replace("-", "");
+        return new MintResult(metadataUri, simulatedTokenId, simulatedTxHash);
+    }
 
-        Certificate certificate = Certificate.builder()
-                .tenantId(tenantId)
-                .user(invoice.getFreelancer())
-                .project(invoice.getProject())
-                .tokenId(simulatedTokenId)
-                .metadataUri(metadataUri)
-                .transactionHash(simulatedTxHash)
-                .build();
+    @Transactional
+    public void completeMint(Long outboxId, MintResult result) {
+        SbtMintOutbox entry = outboxRepository.findById(outboxId)
+                .orElseThrow(() -> new ResourceNotFoundException("SbtMintOutbox", "id", outboxId));
+        if (entry.getStatus() != SbtMintStatus.PENDING) return;
+        Certificate certificate = certificateRepository.findById(entry.getCertificateId())
+                .orElseThrow(() -> new ResourceNotFoundException("Certificate", "id", entry.getCertificateId()));
 
-        certificateRepository.save(certificate);
-        logger.info("Minted SBT Certificate {} for Freelancer {} on Project {}", simulatedTokenId, freelancerId, projectId);
+        Instant now = Instant.now();
+        certificate.setTokenId(result.tokenId());
+        certificate.setMetadataUri(result.metadataUri());
+        certificate.setTransactionHash(result.transactionHash());
+        certificate.setStatus(CertificateStatus.MINTED);
+        certificate.setMintedAt(now);
+        entry.setStatus(SbtMintStatus.COMPLETED);
+        entry.setCompletedAt(now);
+        entry.setLastError(null);
+        logger.info("Minted SBT Certificate {} for invoice {}", result.tokenId(), entry.getInvoiceId());
     }
 
-    @org.springframework.context.event.EventListener
+    /** Backs off exponentially from {@code sbt.mint.retry_base_seconds}; gives up after {@code sbt.mint.max_attempts}. */
     @Transactional
-    public void onInvoiceStatusChanged(com.clienthub.domain.event.InvoiceStatusChangedEvent event) {
-        if (event.getInvoice().getStatus() == com.clienthub.domain.enums.InvoiceStatus.PAID) {
-            try {
-                mintCertificateForInvoice(event.getInvoice());
-            } catch (Exception e) {
-                logger.error("Failed to mint SBT for invoice " + event.getInvoice().getId(), e);
+    public void recordMintFailure(Long outboxId, String error) {
+        outboxRepository.findById(outboxId).ifPresent(entry -> {
+            if (entry.getStatus() != SbtMintStatus.PENDING) return;
+            if (entry.getAttempts() >= Math.max(1, maxAttempts)) {
+                markFailed(entry, certificateRepository.findById(entry.getCertificateId()).orElse(null), error);
+                return;
             }
+            long delay = Math.min(MAX_RETRY_DELAY_SECONDS,
+                    Math.max(1, retryBaseSeconds) << Math.min(20, Math.max(0, entry.getAttempts() - 1)));
+            entry.setLastError(truncate(error));
+            entry.setNextAttemptAt(Instant.now().plusSeconds(delay));
+        });
+    }
+
+    private void markFailed(SbtMintOutbox entry, Certificate certificate, String error) {
+        entry.setStatus(SbtMintStatus.FAILED);
+        entry.setLastError(truncate(error));
+        if (certificate != null && certificate.getStatus() != CertificateStatus.MINTED) {
+            certificate.setStatus(CertificateStatus.FAILED);
         }
+        logger.error("Giving up SBT mint for invoice {} after {} attempts: {}",
+                entry.getInvoiceId(), entry.getAttempts(), error);
+    }
+
+    private static String truncate(String error) {
+        if (error == null) return null;
+        return error.length() <= 2000 ? error : error.substring(0, 2000);
     }
 
     @Transactional(readOnly = true)
@@ -105,6 +234,7 @@ public class SbtService extends TenantAwareService {
                         .tokenId(cert.getTokenId())
                         .metadataUri(cert.getMetadataUri())
                         .transactionHash(cert.getTransactionHash())
+                        .status(cert.getStatus())
                         .mintedAt(cert.getMintedAt())
                         .build())
                 .collect(Collectors.toList());
@@ -0,0 +1,279 @@
+package com.clienthub.application.service;
+
+import com.clienthub.application.dto.admin.ComponentHealth;
+import com.clienthub.application.dto.admin.HealthSample;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Probes the database, Redis, the AI engine and the blockchain configuration in the background, each on its own
+ * schedule and time limit, so admin health reads are served from the last sample instead of blocking on a slow
+ * dependency. A probe that is still running when its next turn comes is skipped rather than stacked.
+ */
+@Component
+public class SystemHealthSampler {
+
+    private static final Logger logger = LoggerFactory.getLogger(SystemHealthSampler.class);
+    private static final ComponentHealth NOT_SAMPLED = new ComponentHealth("UNKNOWN", "Not sampled yet", 0);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RestTemplate restTemplate;
+    private final Clock clock;
+    private final ExecutorService probeExecutor =
+            Executors.newFixedThreadPool(4, Thread.ofPlatform().name("health-probe-", 0).daemon().factory());
+
+    private final Probe database = new Probe();
+    private final Probe redis = new Probe();
+    private final Probe aiEngine = new Probe();
+    private final Probe blockchain = new Probe();
+
+    @Value("${ai.ollama.url:http://localhost:11434}")
+    private String ollamaUrl;
+
+    @Value("${blockchain.enabled:false}")
+    private boolean blockchainEnabled;
+
+    @Value("${blockchain.node_url:}")
+    private String blockchainNodeUrl;
+
+    @Value("${blockchain.contract_address:}")
+    private String blockchainContractAddress;
+
+    @Value("${admin.health.probe_timeout_ms:3000}")
+    private long probeTimeoutMs;
+
+    @Value("${admin.health.history_size:120}")
+    private int historySize;
+
+    @Autowired
+    public SystemHealthSampler(JdbcTemplate jdbcTemplate,
+                               RedisTemplate<String, Object> redisTemplate,
+                               RestTemplateBuilder restTemplateBuilder) {
+        this(jdbcTemplate, redisTemplate, restTemplateBuilder, Clock.systemUTC());
+    }
+
+    SystemHealthSampler(JdbcTemplate jdbcTemplate,
+                        RedisTemplate<String, Object> redisTemplate,
+                        RestTemplateBuilder restTemplateBuilder,
+                        Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.redisTemplate = redisTemplate;
+        this.restTemplate = restTemplateBuilder.setConnectTimeout(Duration.ofSeconds(2))
+                                               .setReadTimeout(Duration.ofSeconds(5))
+                                               .build();
+        this.clock = clock;
+    }
+
+    @Scheduled(fixedDelayString = "${admin.health.database_interval_ms:15000}")
+    public void sampleDatabase() {
+        sample(database, this::checkDatabase);
+    }
+
+    @Scheduled(fixedDelayString = "${admin.health.redis_interval_ms:15000}")
+    public void sampleRedis() {
+        sample(redis, this::checkRedis);
+    }
+
+    @Scheduled(fixedDelayString = "${admin.health.ai_interval_ms:60000}")
+    public void sampleAiEngine() {
+        sample(aiEngine, this::checkAiEngine);
+    }
+
+    @Scheduled(fixedDelayString = "${admin.health.blockchain_interval_ms:60000}")
+    public void sampleBlockchain() {
+        sample(blockchain, this::checkBlockchainConfig);
+    }
+
+    public ComponentHealth database() {
+        return database.latest();
+    }
+
+    public ComponentHealth redis() {
+        return redis.latest();
+    }
+
+    public ComponentHealth aiEngine() {
+        return aiEngine.latest();
+    }
+
+    public ComponentHealth blockchain() {
+        return blockchain.latest();
+    }
+
+    /** When the least recent of the current samples was taken; empty until every component has been probed. */
+    public Instant oldestSampleAt() {
+        Instant oldest = null;
+        for (Probe probe : List.of(database, redis, aiEngine, blockchain)) {
+            Instant sampledAt = probe.sampledAt();
+            if (sampledAt == null) {
+                return null;
+            }
+            if (oldest == null || sampledAt.isBefore(oldest)) {
+                oldest = sampledAt;
+            }
+        }
+        return oldest;
+    }
+
+    public List<HealthSample> databaseHistory() {
+        return database.history();
+    }
+
+    public List<HealthSample> redisHistory() {
+        return redis.history();
+    }
+
+    public List<HealthSample> aiEngineHistory() {
+        return aiEngine.history();
+    }
+
+    public List<HealthSample> blockchainHistory() {
+        return blockchain.history();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        probeExecutor.shutdownNow();
+    }
+
+    CompletableFuture<ComponentHealth> sample(Probe probe, Supplier<ComponentHealth> check) {
+        if (!probe.inFlight.compareAndSet(false, true)) {
+            return CompletableFuture.completedFuture(probe.latest());
+        }
+        CompletableFuture<ComponentHealth> running;
+        try {
+            running = CompletableFuture.supplyAsync(check, probeExecutor);
+        } catch (RuntimeException e) {
+            probe.inFlight.set(false);
+            throw e;
+        }
+        running.whenComplete((health, error) -> probe.inFlight.set(false));
+
+        // The copy times out on its own; the probe itself keeps its in-flight slot until it really returns. A probe
+        // that has returned gives up its slot before the caller sees the result, so an immediate next sample runs.
+        return running.copy()
+                .completeOnTimeout(
+                        new ComponentHealth("DOWN", "Timed out after " + probeTimeoutMs + "ms", probeTimeoutMs),
+                        probeTimeoutMs, TimeUnit.MILLISECONDS)
+                .exceptionally(error -> {
+                    logger.debug("Health probe failed: {}", error.getMessage());
+                    return new ComponentHealth("DOWN", "Probe failed", 0);
+                })
+                .thenApply(health -> {
+                    probe.record(health, clock.instant(), historySize);
+                    if (running.isDone()) {
+                        probe.inFlight.set(false);
+                    }
+                    return health;
+                });
+    }
+
+    private ComponentHealth checkDatabase() {
+        long start = System.currentTimeMillis();
+        try {
+            jdbcTemplate.execute("SELECT 1");
+            long latency = System.currentTimeMillis() - start;
+            if (latency > 500) {
+                return new ComponentHealth("DEGRADED", "Active (" + latency + "ms)", latency);
+            }
+            return new ComponentHealth("UP", "Active (" + latency + "ms)", latency);
+        } catch (Exception e) {
+            return new ComponentHealth("DOWN", "Disconnected", System.currentTimeMillis() - start);
+        }
+    }
+
+    private ComponentHealth checkRedis() {
+        long start = System.currentTimeMillis();
+        try {
+            String pingResult = redisTemplate.execute((RedisCallback<String>) RedisConnection::ping);
+            long latency = System.currentTimeMillis() - start;
+            if (latency > 500) {
+                return new ComponentHealth("DEGRADED", "Connected (" + latency + "ms)", latency);
+            }
+            return new ComponentHealth("UP", "Connected (" + pingResult + ", " + latency + "ms)", latency);
+        } catch (Exception e) {
+            return new ComponentHealth("DOWN", "Disconnected", System.currentTimeMillis() - start);
+        }
+    }
+
+    private ComponentHealth checkAiEngine() {
+        long start = System.currentTimeMillis();
+        try {
+            restTemplate.getForEntity(ollamaUrl + "/api/tags", String.class);
+            long latency = System.currentTimeMillis() - start;
+            if (latency > 5000) {
+                return new ComponentHealth("DEGRADED", "Operational (" + latency + "ms)", latency);
+            }
+            return new ComponentHealth("UP", "Operational (" + latency + "ms)", latency);
+        } catch (Exception e) {
+            return new ComponentHealth("DOWN", "Offline", System.currentTimeMillis() - start);
+        }
+    }
+
+    private ComponentHealth checkBlockchainConfig() {
+        if (!blockchainEnabled) {
+            return new ComponentHealth("UP", "Disabled", 0);
+        }
+        if (!isConfigured(blockchainNodeUrl) || !isConfigured(blockchainContractAddress)) {
+            return new ComponentHealth("DEGRADED", "Enabled but missing node or contract", 0);
+        }
+        return new ComponentHealth("UP", "Configured", 0);
+    }
+
+    private boolean isConfigured(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    static final class Probe {
+        private final AtomicBoolean inFlight = new AtomicBoolean();
+        private final Deque<HealthSample> history = new ArrayDeque<>();
+        private volatile ComponentHealth latest = NOT_SAMPLED;
+        private volatile Instant sampledAt;
+
+        ComponentHealth latest() {
+            return latest;
+        }
+
+        Instant sampledAt() {
+            return sampledAt;
+        }
+
+        synchronized List<HealthSample> history() {
+            return List.copyOf(history);
+        }
+
+        synchronized void record(ComponentHealth health, Instant at, int limit) {
+            latest = health;
+            sampledAt = at;
+            history.addLast(new HealthSample(at, health.status(), health.latencyMs()));
+            while (history.size() > Math.max(1, limit)) {
+                history.removeFirst();
+            }
+        }
+    }
+}
@@ -17,10 +17,12 @@ import com.clienthub.domain.enums.AuditAction;
 import com.clienthub.domain.enums.Role;
 import com.clienthub.domain.enums.TaskPriority;
 import com.clienthub.domain.enums.TaskStatus;
+import com.clienthub.domain.event.TaskChangedEvent;
 import com.clienthub.domain.repository.ProjectMemberRepository;
 import com.clienthub.domain.repository.ProjectRepository;
 import com.clienthub.domain.repository.TaskRepository;
 import com.clienthub.domain.repository.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
@@ -29,7 +31,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
@@ -42,19 +46,22 @@ public class TaskService extends TenantAwareService {
     private final UserRepository userRepository;
     private final TaskMapper taskMapper;
     private final NotificationProducerService notificationProducerService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public TaskService(TaskRepository taskRepository,
                        ProjectRepository projectRepository,
                        ProjectMemberRepository projectMemberRepository,
                        UserRepository userRepository,
                        TaskMapper taskMapper,
-                       NotificationProducerService notificationProducerService) {
+                       NotificationProducerService notificationProducerService,
+                       ApplicationEventPublisher eventPublisher) {
         this.taskRepository = taskRepository;
         this.projectRepository = projectRepository;
         this.projectMemberRepository = projectMemberRepository;
         this.userRepository = userRepository;
         this.taskMapper = taskMapper;
         this.notificationProducerService = notificationProducerService;
+        this.eventPublisher = eventPublisher;
     }
 
     @LogAudit(action = AuditAction.CREATE, entityType = "TASK", entityId = "#result.id")
@@ -80,6 +87,7 @@ public class TaskService extends TenantAwareService {
         }
 
         Task savedTask = taskRepository.save(task);
+        publishChanged(savedTask, Set.of());
         return taskMapper.toResponse(savedTask);
     }
 
@@ -113,6 +121,7 @@ public class TaskService extends TenantAwareService {
         Task task = loadTask(taskId, tenantId);
         User actor = loadActor(currentUserId, tenantId);
         TaskAccessPolicy.requireReadOrUpdateAccess(task, actor);
+        Set<UUID> previouslyAffected = affectedUsers(task);
 
         Project effectiveProject = task.getProject();
         boolean movingProject = request.getProjectId() != null
@@ -149,6 +158,7 @@ public class TaskService extends TenantAwareService {
         task.setAssignedTo(effectiveAssignee);
 
         Task updatedTask = taskRepository.save(task);
+        publishChanged(updatedTask, previouslyAffected);
         return taskMapper.toResponse(updatedTask);
     }
 
@@ -164,6 +174,7 @@ public class TaskService extends TenantAwareService {
         task.setStatus(newStatus);
 
         Task updatedTask = taskRepository.save(task);
+        publishChanged(updatedTask, Set.of());
         if (oldStatus != TaskStatus.DONE && newStatus == TaskStatus.DONE) {
             notificationProducerService.notifyTaskCompleted(updatedTask);
         }
@@ -188,6 +199,7 @@ public class TaskService extends TenantAwareService {
         TaskAccessPolicy.requireOwnerOrAdmin(
                 task, actor, "Only the project owner or Administrator can delete this task");
         taskRepository.delete(task);
+        publishChanged(task, Set.of());
     }
 
     @LogAudit(action = AuditAction.UPDATE, entityType = "TASK", entityId = "#taskId")
@@ -198,9 +210,11 @@ public class TaskService extends TenantAwareService {
         TaskAccessPolicy.requireOwnerOrAdmin(
                 task, actor, "Only the project owner or Administrator can assign this task");
         User assignee = loadEligibleAssignee(userId, task.getProject().getId(), tenantId);
+        Set<UUID> previouslyAffected = affectedUsers(task);
 
         task.setAssignedTo(assignee);
         Task updatedTask = taskRepository.save(task);
+        publishChanged(updatedTask, previouslyAffected);
         return taskMapper.toResponse(updatedTask);
     }
 
@@ -210,12 +224,29 @@ public class TaskService extends TenantAwareService {
         Task task = loadTask(taskId, tenantId);
         User actor = loadActor(currentUserId, tenantId);
         TaskAccessPolicy.requireUnassignAccess(task, actor);
+        Set<UUID> previouslyAffected = affectedUsers(task);
 
         task.setAssignedTo(null);
         Task updatedTask = taskRepository.save(task);
+        publishChanged(updatedTask, previouslyAffected);
         return taskMapper.toResponse(updatedTask);
     }
 
+    private void publishChanged(Task task, Set<UUID> previouslyAffected) {
+        Set<UUID> affected = new HashSet<>(previouslyAffected);
+        affected.addAll(affectedUsers(task));
+        eventPublisher.publishEvent(new TaskChangedEvent(this, task.getTenantId(), task.getId(), affected));
+    }
+
+    private Set<UUID> affectedUsers(Task task) {
+        Set<UUID> users = new HashSet<>();
+        if (task.getProject() != null && task.getProject().getOwner() != null) {
+            users.add(task.getProject().getOwner().getId());
+        }
+        if (task.getAssignedTo() != null) users.add(task.getAssignedTo().getId());
+        return users;
+    }
+
     private User loadActor(UUID currentUserId, String tenantId) {
         return userRepository.findByIdAndTenantId(currentUserId, tenantId)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "id", currentUserId));
@@ -0,0 +1,52 @@
+package com.clienthub.application.scheduler;
+
+import com.clienthub.application.service.SbtService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SbtMintJobTest {
+    @Mock private SbtService sbtService;
+
+    private SbtMintJob job;
+
+    @AfterEach
+    void tearDown() {
+        job.shutdown();
+    }
+
+    @Test
+    void leaseIsRenewedWhileAMintOutlastsIt() {
+        job = new SbtMintJob(sbtService);
+        ReflectionTestUtils.setField(job, "batchSize", 5);
+        ReflectionTestUtils.setField(job, "leaseSeconds", 3L);
+        SbtService.MintRequest request = new SbtService.MintRequest(
+                3L, 7L, "Fran", "Website", UUID.randomUUID(), "Cleo", Instant.now());
+        SbtService.MintResult result = new SbtService.MintResult("ipfs://cid", "token", "0xtx");
+        when(sbtService.claimDueMints(anyInt(), any(Duration.class))).thenReturn(List.of(request));
+        when(sbtService.mint(request)).thenAnswer(call -> {
+            Thread.sleep(1500);
+            return result;
+        });
+
+        job.processOutbox();
+
+        verify(sbtService, atLeastOnce()).extendLease(eq(3L), eq(Duration.ofSeconds(3)));
+        verify(sbtService).completeMint(3L, result);
+        verify(sbtService, never()).recordMintFailure(any(), any());
+    }
+}
@@ -1,42 +1,58 @@
 package com.clienthub.application.service;
 
+import com.clienthub.application.dto.admin.AdminAuditLogResponse;
 import com.clienthub.application.dto.admin.AdminEventItem;
 import com.clienthub.application.dto.admin.AdminFeatureFlag;
 import com.clienthub.application.dto.admin.AdminControlCenterResponse;
+import com.clienthub.application.dto.admin.ComponentHealth;
+import com.clienthub.application.dto.admin.OperationalAlert;
+import com.clienthub.domain.entity.AuditAnchorBatch;
+import com.clienthub.domain.entity.AuditAnchorMember;
 import com.clienthub.domain.entity.AuditLog;
+import com.clienthub.domain.entity.Invoice;
+import com.clienthub.domain.event.InvoiceStatusChangedEvent;
+import com.clienthub.domain.enums.AuditAnchorBatchStatus;
 import com.clienthub.domain.enums.AuditAction;
+import com.clienthub.domain.enums.InvoiceStatus;
 import com.clienthub.domain.repository.AuditLogRepository;
 import com.clienthub.domain.repository.AuditAnchorMemberRepository;
 import com.clienthub.domain.repository.InvoiceRepository;
 import com.clienthub.domain.repository.ProjectRepository;
+import com.clienthub.domain.repository.TenantInvoiceStatsRepository;
 import com.clienthub.domain.repository.UserRepository;
 import com.clienthub.infrastructure.security.JwtTokenProvider;
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.util.ReflectionTestUtils;
-import org.springframework.web.client.RestTemplate;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyList;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -51,6 +67,9 @@ class AdminServiceTest {
     @Mock
     private InvoiceRepository invoiceRepository;
 
+    @Mock
+    private TenantInvoiceStatsRepository tenantInvoiceStatsRepository;
+
     @Mock
     private AuditLogRepository auditLogRepository;
 
@@ -61,13 +80,13 @@ class AdminServiceTest {
     private JwtTokenProvider jwtTokenProvider;
 
     @Mock
-    private JdbcTemplate jdbcTemplate;
+    private SystemHealthSampler healthSampler;
 
     @Mock
-    private RedisTemplate<String, Object> redisTemplate;
+    private JvmTelemetrySampler telemetrySampler;
 
     @Mock
-    private RestTemplate restTemplate;
+    private ApplicationEventPublisher eventPublisher;
 
     private AdminService adminService;
 
@@ -77,12 +96,19 @@ class AdminServiceTest {
                 userRepository,
                 projectRepository,
                 invoiceRepository,
+                tenantInvoiceStatsRepository,
                 auditLogRepository,
                 auditAnchorMemberRepository,
                 jwtTokenProvider,
-                jdbcTemplate,
-                redisTemplate,
-                new RestTemplateBuilder());
+                healthSampler,
+                telemetrySampler,
+                eventPublisher);
+        ReflectionTestUtils.setField(adminService, "sectionTimeoutMs", 2000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        adminService.shutdown();
     }
 
     @Test
@@ -146,21 +172,47 @@ class AdminServiceTest {
         assertEquals("default", event.tenantId());
     }
 
+    @Test
+    @DisplayName("Should resolve anchor confirmation for a page of audit logs in one lookup")
+    void listRecentActivity_ShouldBatchAnchorLookup() {
+        AuditLog confirmed = auditLog(1L);
+        AuditLog pending = auditLog(2L);
+        AuditLog unanchored = auditLog(3L);
+        AuditAnchorBatch confirmedBatch = new AuditAnchorBatch();
+        confirmedBatch.setStatus(AuditAnchorBatchStatus.CONFIRMED);
+        AuditAnchorBatch pendingBatch = new AuditAnchorBatch();
+        pendingBatch.setStatus(AuditAnchorBatchStatus.SUBMITTED);
+
+        when(auditLogRepository.findAll(any(Specification.class), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(confirmed, pending, unanchored)));
+        when(auditAnchorMemberRepository.findByAuditLogIdIn(List.of(1L, 2L, 3L))).thenReturn(List.of(
+                new AuditAnchorMember(confirmedBatch, 1L, 0, "leaf-1", "[]"),
+                new AuditAnchorMember(pendingBatch, 2L, 0, "leaf-2", "[]")));
+
+        Page<AdminAuditLogResponse> page = adminService.listRecentActivity(PageRequest.of(0, 10));
+
+        assertEquals(List.of(true, false, false), page.map(AdminAuditLogResponse::isAnchored).getContent());
+        verify(auditAnchorMemberRepository, times(1)).findByAuditLogIdIn(anyCollection());
+        verify(auditAnchorMemberRepository, never()).findByAuditLogId(any());
+    }
+
     @Test
     @DisplayName("Should aggregate summary and derive operational alerts")
     void getControlCenter_ShouldAggregateSummaryAndAlerts() {
-        ReflectionTestUtils.setField(adminService, "ollamaUrl", "http://localhost:11434");
-        ReflectionTestUtils.setField(adminService, "ollamaModel", "llama3.2:3b");
-        ReflectionTestUtils.setField(adminService, "restTemplate", restTemplate);
-
-        when(restTemplate.getForEntity(anyString(), eq(String.class))).thenThrow(new RuntimeException("offline"));
-        when(invoiceRepository.sumAmountByStatuses(anyList())).thenReturn(BigDecimal.valueOf(1200));
+        ComponentHealth up = new ComponentHealth("UP", "Active", 1);
+        when(healthSampler.database()).thenReturn(up);
+        when(healthSampler.redis()).thenReturn(up);
+        when(healthSampler.aiEngine()).thenReturn(new ComponentHealth("DOWN", "Offline", 3000));
+        when(healthSampler.blockchain()).thenReturn(up);
+        when(tenantInvoiceStatsRepository.sumAmountByStatuses(anyList())).thenReturn(BigDecimal.valueOf(1200));
         when(userRepository.countByLastLoginAtAfter(any(Instant.class))).thenReturn(3L);
         when(projectRepository.countByStatusNotIn(anyList())).thenReturn(4L);
-        when(invoiceRepository.countByStatusNotIn(anyList())).thenReturn(2L);
+        when(tenantInvoiceStatsRepository.sumInvoiceCountByStatusNotIn(anyList())).thenReturn(2L);
         when(auditLogRepository.countByActionAndCreatedAtAfter(eq(AuditAction.LOGIN_FAILED), any(Instant.class)))
                 .thenReturn(11L);
         when(auditLogRepository.countWithoutConfirmedAnchor(anyList(), eq(com.clienthub.domain.enums.AuditAnchorBatchStatus.CONFIRMED))).thenReturn(5L);
+        when(telemetrySampler.alerts()).thenReturn(List.of(new OperationalAlert(
+                "jvm-heap-pressure", "WARNING", "Heap usage is high", "90%", "Review heap", Instant.now())));
         when(auditLogRepository.findAll(any(Specification.class), any(Pageable.class))).thenReturn(new PageImpl<>(List.of()));
 
         AdminControlCenterResponse response = adminService.getControlCenter();
@@ -172,5 +224,69 @@ class AdminServiceTest {
         assertTrue(response.alerts().stream().anyMatch(alert -> alert.id().equals("failed-logins-24h") && alert.severity().equals("CRITICAL")));
         assertTrue(response.alerts().stream().anyMatch(alert -> alert.id().equals("unanchored-audit-logs")));
         assertTrue(response.alerts().stream().anyMatch(alert -> alert.id().equals("unpaid-invoices")));
+        assertTrue(response.alerts().stream().anyMatch(alert -> alert.id().equals("health-ai-engine")));
+        assertTrue(response.alerts().stream().anyMatch(alert -> alert.id().equals("jvm-heap-pressure")));
+        assertEquals("DEGRADED", response.health().overallStatus());
+        assertTrue(response.degradedSections().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should return the other sections and mark a slow one degraded")
+    void getControlCenter_ShouldMarkSlowSectionDegraded() {
+        ReflectionTestUtils.setField(adminService, "sectionTimeoutMs", 200L);
+        ComponentHealth up = new ComponentHealth("UP", "Active", 1);
+        when(healthSampler.database()).thenReturn(up);
+        when(healthSampler.redis()).thenReturn(up);
+        when(healthSampler.aiEngine()).thenReturn(up);
+        when(healthSampler.blockchain()).thenReturn(up);
+        CountDownLatch release = new CountDownLatch(1);
+        when(tenantInvoiceStatsRepository.sumAmountByStatuses(anyList())).thenAnswer(call -> {
+            release.await();
+            return BigDecimal.ONE;
+        });
+        when(auditLogRepository.countByActionAndCreatedAtAfter(eq(AuditAction.LOGIN_FAILED), any(Instant.class)))
+                .thenReturn(2L);
+        when(auditLogRepository.findAll(any(Specification.class), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(new AuditLog(
+                        "default", null, "admin@test.com", "ADMIN", AuditAction.LOGIN,
+                        "USER", "user-1", null, null, "127.0.0.1", "hash"))));
+
+        long start = System.nanoTime();
+        AdminControlCenterResponse response = adminService.getControlCenter();
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        release.countDown();
+
+        assertEquals(List.of("summary"), response.degradedSections());
+        assertEquals(BigDecimal.ZERO, response.summary().totalRevenue());
+        assertEquals(response.health().overallStatus(), response.summary().systemStatus());
+        assertEquals(1, response.recentEvents().size());
+        assertEquals(1, response.recentAuditLogs().size());
+        assertTrue(response.alerts().stream().anyMatch(alert -> alert.id().equals("failed-logins-24h")));
+        assertTrue(elapsedMs < 1500, "control center waited " + elapsedMs + "ms");
+    }
+
+    @Test
+    @DisplayName("A forced invoice status change publishes the status event that invalidates cached read models")
+    void forceInvoiceStatus_ShouldPublishStatusChange() {
+        Invoice invoice = new Invoice();
+        invoice.setStatus(InvoiceStatus.SENT);
+        when(invoiceRepository.findById(7L)).thenReturn(Optional.of(invoice));
+        when(invoiceRepository.save(invoice)).thenReturn(invoice);
+
+        adminService.forceInvoiceStatus(7L, InvoiceStatus.PAID, "Paid off-platform", UUID.randomUUID());
+
+        ArgumentCaptor<InvoiceStatusChangedEvent> event = ArgumentCaptor.forClass(InvoiceStatusChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(invoice, event.getValue().getInvoice());
+        assertEquals(InvoiceStatus.PAID, invoice.getStatus());
+        assertEquals(InvoiceStatus.SENT, event.getValue().getPreviousStatus());
+    }
+
+    private static AuditLog auditLog(Long id) {
+        AuditLog log = new AuditLog(
+                "default", null, "admin@test.com", "ADMIN", AuditAction.UPDATE,
+                "PROJECT", "project-1", null, null, "127.0.0.1", "hash-" + id);
+        ReflectionTestUtils.setField(log, "id", id);
+        return log;
     }
 }
@@ -1,17 +1,21 @@
 package com.clienthub.application.service;
 
 import com.clienthub.application.dto.analytics.ProjectProgressResponse;
+import com.clienthub.application.dto.analytics.TrustScoreResponse;
 import com.clienthub.application.exception.ResourceNotFoundException;
 import com.clienthub.common.context.TenantContext;
 import com.clienthub.domain.entity.Project;
+import com.clienthub.domain.entity.TenantInvoiceStats;
+import com.clienthub.domain.entity.TenantInvoiceStatsId;
 import com.clienthub.domain.entity.User;
+import com.clienthub.domain.enums.InvoiceStatus;
 import com.clienthub.domain.enums.Role;
 import com.clienthub.domain.enums.TaskStatus;
 import com.clienthub.domain.repository.CommunicationThreadRepository;
-import com.clienthub.domain.repository.InvoiceRepository;
 import com.clienthub.domain.repository.ProjectMemberRepository;
 import com.clienthub.domain.repository.ProjectRepository;
 import com.clienthub.domain.repository.TaskRepository;
+import com.clienthub.domain.repository.TenantInvoiceStatsRepository;
 import com.clienthub.domain.repository.UserRepository;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -22,11 +26,16 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.access.AccessDeniedException;
 
+import java.math.BigInteger;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -41,11 +50,12 @@ class AnalyticsServiceTest {
     private static final UUID OWNER_ID = UUID.randomUUID();
 
     @Mock private TaskRepository taskRepository;
-    @Mock private InvoiceRepository invoiceRepository;
+    @Mock private TenantInvoiceStatsRepository tenantInvoiceStatsRepository;
     @Mock private CommunicationThreadRepository threadRepository;
     @Mock private UserRepository userRepository;
     @Mock private ProjectRepository projectRepository;
     @Mock private ProjectMemberRepository projectMemberRepository;
+    @Mock private ReadModelCache readModelCache;
 
     private AnalyticsService analyticsService;
     private Project project;
@@ -55,11 +65,14 @@ class AnalyticsServiceTest {
         TenantContext.setTenantId(TENANT_ID);
         analyticsService = new AnalyticsService(
                 taskRepository,
-                invoiceRepository,
+                tenantInvoiceStatsRepository,
                 threadRepository,
                 userRepository,
                 projectRepository,
-                projectMemberRepository);
+                projectMemberRepository,
+                readModelCache);
+        lenient().when(readModelCache.get(any(), any(), any(), any(), any(), any()))
+                .thenAnswer(call -> ((Supplier<?>) call.getArgument(5)).get());
 
         User owner = user(OWNER_ID, Role.CLIENT, TENANT_ID);
         project = new Project();
@@ -194,6 +207,25 @@ class AnalyticsServiceTest {
                 PROJECT_ID, TENANT_ID, TaskStatus.DONE)).thenReturn(2L);
     }
 
+    @Test
+    @DisplayName("Trust score is derived from the tenant invoice counters")
+    void trustScoreReadsTenantInvoiceStats() {
+        when(tenantInvoiceStatsRepository.findByIdTenantId(TENANT_ID)).thenReturn(List.of(
+                stats(InvoiceStatus.PAID, 3),
+                stats(InvoiceStatus.DRAFT, 2),
+                stats(InvoiceStatus.SENT, 1)));
+
+        TrustScoreResponse response = analyticsService.getTrustScore(TENANT_ID);
+
+        assertEquals(75, response.trustScore());
+        assertEquals(3L, response.paidInvoices());
+        assertEquals(4L, response.totalInvoices());
+    }
+
+    private TenantInvoiceStats stats(InvoiceStatus status, long count) {
+        return new TenantInvoiceStats(new TenantInvoiceStatsId(TENANT_ID, status), count, BigInteger.valueOf(100 * count));
+    }
+
     private void verifyNoTaskCounts() {
         verify(taskRepository, never()).countByProjectIdAndTenantId(PROJECT_ID, TENANT_ID);
         verify(taskRepository, never()).countByProjectIdAndTenantIdAndStatus(
@@ -0,0 +1,156 @@
+package com.clienthub.application.service;
+
+import com.clienthub.domain.entity.AuditLog;
+import com.clienthub.domain.entity.AuditLogArchive;
+import com.clienthub.domain.enums.AuditAction;
+import com.clienthub.domain.enums.AuditLogArchiveStatus;
+import com.clienthub.domain.enums.AuditRecordAnchorStatus;
+import com.clienthub.domain.repository.AuditLogArchiveRepository;
+import com.clienthub.infrastructure.storage.AuditArchiveStorage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuditArchiveServiceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private AuditLogArchiveRepository archiveRepository;
+
+    @Mock
+    private AuditArchiveStorage storage;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private AuditArchiveService archiveService;
+
+    @BeforeEach
+    void setUp() {
+        archiveService = new AuditArchiveService(jdbcTemplate, archiveRepository, storage, new ObjectMapper(),
+                transactionManager);
+        ReflectionTestUtils.setField(archiveService, "cacheRecords", 2);
+    }
+
+    @Test
+    void findArchivedKeepsOnlyRequestedRecordsAndReusesThem() throws Exception {
+        byte[] content = gzip("""
+                {"id":41,"tenantId":"default","userId":null,"userEmail":"admin@clienthub.io","userRole":"ADMIN","action":"UPDATE","entityType":"PROJECT","entityId":"p-1","oldValue":null,"newValue":"{\\"name\\":\\"Alpha\\"}","ipAddress":"127.0.0.1","createdAt":"2025-01-15T10:00:00Z","dataHash":"hash-41","anchorStatus":"VERIFIED"}
+                {"id":42,"tenantId":"default","userId":null,"userEmail":null,"userRole":null,"action":"CREATE","entityType":"TASK","entityId":"t-1","oldValue":null,"newValue":null,"ipAddress":null,"createdAt":"2025-01-16T10:00:00Z","dataHash":"hash-42","anchorStatus":"VERIFIED"}
+                """);
+        AuditLogArchive archive = archive(content, sha256(content));
+        when(archiveRepository.findArchivedOverlapping(anyLong(), anyLong())).thenReturn(List.of(archive));
+        when(storage.open(archive.getStorageKey())).thenAnswer(invocation -> new ByteArrayInputStream(content));
+
+        Map<Long, AuditLog> first = archiveService.findArchived(List.of(41L, 99L));
+        AuditLog again = archiveService.findArchived(41L).orElseThrow();
+        verify(storage, times(1)).open(archive.getStorageKey());
+        AuditLog second = archiveService.findArchived(42L).orElseThrow();
+
+        assertThat(first).containsOnlyKeys(41L);
+        AuditLog restored = first.get(41L);
+        assertThat(restored.getAction()).isEqualTo(AuditAction.UPDATE);
+        assertThat(restored.getNewValue()).isEqualTo("{\"name\":\"Alpha\"}");
+        assertThat(restored.getCreatedAt()).isEqualTo(Instant.parse("2025-01-15T10:00:00Z"));
+        assertThat(restored.getAnchorStatus()).isEqualTo(AuditRecordAnchorStatus.VERIFIED);
+        assertThat(again).isSameAs(restored);
+        assertThat(second.getEntityId()).isEqualTo("t-1");
+        verify(storage, times(2)).open(archive.getStorageKey());
+    }
+
+    @Test
+    void findArchivedEvictsLeastRecentlyUsedRecordsBeyondCacheSize() throws Exception {
+        ReflectionTestUtils.setField(archiveService, "cacheRecords", 1);
+        byte[] content = gzip("""
+                {"id":41,"action":"UPDATE","createdAt":"2025-01-15T10:00:00Z"}
+                {"id":42,"action":"CREATE","createdAt":"2025-01-16T10:00:00Z"}
+                """);
+        AuditLogArchive archive = archive(content, sha256(content));
+        when(archiveRepository.findArchivedOverlapping(anyLong(), anyLong())).thenReturn(List.of(archive));
+        when(storage.open(archive.getStorageKey())).thenAnswer(invocation -> new ByteArrayInputStream(content));
+
+        archiveService.findArchived(41L).orElseThrow();
+        archiveService.findArchived(42L).orElseThrow();
+        archiveService.findArchived(42L).orElseThrow();
+        archiveService.findArchived(41L).orElseThrow();
+
+        verify(storage, times(3)).open(archive.getStorageKey());
+    }
+
+    @Test
+    void findLatestArchivedReturnsNewestRecordOfEntity() throws Exception {
+        byte[] content = gzip("""
+                {"id":41,"tenantId":"default","action":"CREATE","entityType":"INVOICE","entityId":"7","createdAt":"2025-01-15T10:00:00Z"}
+                {"id":42,"tenantId":"default","action":"UPDATE","entityType":"INVOICE","entityId":"7","createdAt":"2025-01-16T10:00:00Z"}
+                {"id":43,"tenantId":"other","action":"UPDATE","entityType":"INVOICE","entityId":"7","createdAt":"2025-01-17T10:00:00Z"}
+                """);
+        AuditLogArchive archive = archive(content, sha256(content));
+        when(archiveRepository.findByStatusOrderByRangeStartAsc(AuditLogArchiveStatus.ARCHIVED)).thenReturn(List.of(archive));
+        when(storage.open(archive.getStorageKey())).thenReturn(new ByteArrayInputStream(content));
+
+        assertThat(archiveService.findLatestArchived("INVOICE", "7", "default", Instant.parse("2025-01-10T00:00:00Z")))
+                .get().extracting(AuditLog::getId).isEqualTo(42L);
+        assertThat(archiveService.findLatestArchived("INVOICE", "7", "default", Instant.parse("2025-03-01T00:00:00Z")))
+                .isEmpty();
+    }
+
+    @Test
+    void findArchivedRejectsArchiveWithWrongChecksum() throws Exception {
+        byte[] content = gzip("{\"id\":41,\"action\":\"UPDATE\",\"createdAt\":\"2025-01-15T10:00:00Z\"}\n");
+        AuditLogArchive archive = archive(content, "0".repeat(64));
+        when(archiveRepository.findArchivedOverlapping(anyLong(), anyLong())).thenReturn(List.of(archive));
+        when(storage.open(archive.getStorageKey())).thenReturn(new ByteArrayInputStream(content));
+
+        assertThatThrownBy(() -> archiveService.findArchived(41L))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("checksum");
+    }
+
+    private AuditLogArchive archive(byte[] content, String checksum) {
+        AuditLogArchive archive = new AuditLogArchive("audit_logs_p202501",
+                Instant.parse("2025-01-01T00:00:00Z"), Instant.parse("2025-02-01T00:00:00Z"));
+        archive.setStatus(AuditLogArchiveStatus.ARCHIVED);
+        archive.setStorageKey("audit-logs/audit_logs_p202501.ndjson.gz");
+        archive.setFirstLogId(41L);
+        archive.setLastLogId(42L);
+        archive.setRecordCount(2);
+        archive.setSha256(checksum);
+        return archive;
+    }
+
+    private byte[] gzip(String value) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(value.getBytes(StandardCharsets.UTF_8));
+        }
+        return bytes.toByteArray();
+    }
+
+    private String sha256(byte[] value) throws Exception {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(value));
+    }
+}
@@ -0,0 +1,149 @@
+package com.clienthub.application.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuditExportServiceTest {
+    private static final Instant FROM = Instant.parse("2026-01-01T00:00:00Z");
+    private static final Instant TO = Instant.parse("2026-02-01T00:00:00Z");
+
+    @Mock private JdbcTemplate jdbcTemplate;
+    @Mock private PlatformTransactionManager transactionManager;
+    @Mock private Connection connection;
+    @Mock private PreparedStatement statement;
+
+    private AuditExportService exportService;
+
+    @BeforeEach
+    void setUp() {
+        exportService = new AuditExportService(jdbcTemplate, new ObjectMapper(), transactionManager);
+        ReflectionTestUtils.setField(exportService, "fetchSize", 500);
+    }
+
+    @Test
+    void csvExportStreamsFilteredRowsThroughACursor() throws Exception {
+        List<String> sql = stubRows(
+                row(1L, "LOGIN", "AUTH", "admin@test.com", null),
+                row(2L, "UPDATE", "PROJECT", "a,b@test.com", "{\"name\":\"Say \\\"hi\\\"\"}"));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        long written = exportService.export(AuditExportService.Format.CSV, FROM, TO, "tenant-1", "auth", output);
+
+        assertThat(written).isEqualTo(2);
+        assertThat(sql.getFirst())
+                .contains("created_at >= ?", "created_at < ?", "tenant_id = ?", "event_category = ?")
+                .endsWith("ORDER BY created_at, id");
+        verify(statement).setFetchSize(500);
+        verify(statement).setObject(3, "tenant-1");
+        verify(statement).setObject(4, "AUTH");
+        verify(transactionManager).commit(any());
+
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertThat(lines).hasSize(3);
+        assertThat(lines[0]).startsWith("id,tenant_id,created_at,action,event_category");
+        assertThat(lines[1]).startsWith("1,tenant-1,2026-01-15T10:00:00Z,LOGIN,AUTH,");
+        assertThat(lines[2]).contains(",\"a,b@test.com\",").endsWith(",\"{\"\"name\"\":\"\"Say \\\"\"hi\\\"\"\"\"}\"");
+    }
+
+    @Test
+    void ndjsonExportWritesOneObjectPerLine() throws Exception {
+        stubRows(row(7L, "ANCHOR_FAILED", "WEB3", null, null));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        exportService.export(AuditExportService.Format.NDJSON, null, null, null, null, output);
+
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(1);
+        JsonNode line = new ObjectMapper().readTree(lines[0]);
+        assertThat(line.get("id").asLong()).isEqualTo(7L);
+        assertThat(line.get("category").asText()).isEqualTo("WEB3");
+        assertThat(line.get("createdAt").asText()).isEqualTo("2026-01-15T10:00:00Z");
+        assertThat(line.get("userEmail").isNull()).isTrue();
+        verify(statement, never()).setObject(anyInt(), any());
+    }
+
+    @Test
+    void rejectsUnknownFormatCategoryAndEmptyRange() {
+        assertThat(AuditExportService.Format.from("ndjson")).isEqualTo(AuditExportService.Format.NDJSON);
+        assertThatThrownBy(() -> AuditExportService.Format.from("xml"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> exportService.checkRequest("BILLING", null, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> exportService.checkRequest(null, TO, FROM))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @SafeVarargs
+    private List<String> stubRows(Map<String, Object>... rows) throws Exception {
+        List<String> sql = new ArrayList<>();
+        when(connection.prepareStatement(anyString())).thenAnswer(call -> {
+            sql.add(call.getArgument(0));
+            return statement;
+        });
+        doAnswer(call -> {
+            PreparedStatementCreator creator = call.getArgument(0);
+            RowCallbackHandler handler = call.getArgument(1);
+            creator.createPreparedStatement(connection);
+            for (Map<String, Object> row : rows) {
+                ResultSet rs = mock(ResultSet.class);
+                lenient().when(rs.getString(anyString())).thenAnswer(get -> {
+                    Object value = row.get(get.<String>getArgument(0));
+                    return value != null ? value.toString() : null;
+                });
+                lenient().when(rs.getLong("id")).thenReturn((Long) row.get("id"));
+                lenient().when(rs.getTimestamp("created_at")).thenReturn((Timestamp) row.get("created_at"));
+                handler.processRow(rs);
+            }
+            return null;
+        }).when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+        return sql;
+    }
+
+    private static Map<String, Object> row(long id, String action, String category, String email, String newValue) {
+        Map<String, Object> row = new HashMap<>();
+        row.put("id", id);
+        row.put("tenant_id", "tenant-1");
+        row.put("created_at", Timestamp.from(Instant.parse("2026-01-15T10:00:00Z")));
+        row.put("action", action);
+        row.put("event_category", category);
+        row.put("event_severity", "INFO");
+        row.put("entity_type", "USER");
+        row.put("entity_id", "user-" + id);
+        row.put("user_email", email);
+        row.put("anchor_status", "WAITING");
+        row.put("data_hash", "hash-" + id);
+        row.put("new_value", newValue);
+        return row;
+    }
+}
@@ -77,6 +77,9 @@ class InvoiceServiceTest {
     @Mock
     private ApplicationEventPublisher eventPublisher;
 
+    @Mock
+    private AuditArchiveService archiveService;
+
     @InjectMocks
     private InvoiceService invoiceService;
 
@@ -0,0 +1,86 @@
+package com.clienthub.application.service;
+
+import com.clienthub.application.dto.admin.OperationalAlert;
+import com.clienthub.application.dto.admin.TelemetrySample;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JvmTelemetrySamplerTest {
+    private static final Instant START = Instant.parse("2026-01-01T00:00:00Z");
+
+    private JvmTelemetrySampler sampler;
+
+    @BeforeEach
+    void setUp() {
+        sampler = new JvmTelemetrySampler(null, Clock.fixed(START, ZoneOffset.UTC));
+        ReflectionTestUtils.setField(sampler, "historySize", 4);
+        ReflectionTestUtils.setField(sampler, "heapWarningPercent", 85);
+        ReflectionTestUtils.setField(sampler, "heapCriticalPercent", 95);
+        ReflectionTestUtils.setField(sampler, "gcWarningPercent", 10);
+    }
+
+    @Test
+    void heapAlertIsRaisedOnlyWhenPressureIsSustainedAndClearsOnRecovery() {
+        sampler.record(sample(0, 900, 0, 0));
+        sampler.record(sample(10, 900, 0, 0));
+        assertThat(sampler.alerts()).isEmpty();
+
+        sampler.record(sample(20, 900, 0, 0));
+        sampler.record(sample(30, 960, 0, 0));
+
+        assertThat(sampler.alerts()).singleElement().satisfies(alert -> {
+            assertThat(alert.id()).isEqualTo("jvm-heap-pressure");
+            assertThat(alert.severity()).isEqualTo("CRITICAL");
+            assertThat(alert.createdAt()).isEqualTo(START.plusSeconds(20));
+        });
+
+        sampler.record(sample(40, 400, 0, 0));
+        assertThat(sampler.alerts()).isEmpty();
+    }
+
+    @Test
+    void gcOverheadAndPoolWaitersRaiseTheirOwnAlerts() {
+        sampler.record(sample(0, 100, 0, 2));
+        sampler.record(sample(10, 100, 2_000, 2));
+        sampler.record(sample(20, 100, 0, 2));
+
+        assertThat(sampler.alerts()).extracting(OperationalAlert::id).containsExactly("db-pool-saturated");
+
+        sampler.record(sample(30, 100, 1_500, 0));
+        assertThat(sampler.alerts()).extracting(OperationalAlert::id).containsExactly("jvm-gc-overhead");
+    }
+
+    @Test
+    void historyKeepsTheMostRecentSamplesAndVitalsComeFromTheLatest() {
+        for (int second = 0; second < 60; second += 10) {
+            sampler.record(sample(second, 100 + second, 0, 0));
+        }
+
+        assertThat(sampler.history()).extracting(TelemetrySample::heapUsedMb).containsExactly(120L, 130L, 140L, 150L);
+        assertThat(sampler.latestVitals().usedMemoryMb()).isEqualTo(150L);
+        assertThat(sampler.latestVitals().freeMemoryMb()).isEqualTo(50L);
+    }
+
+    @Test
+    void sampleReadsTheRunningJvmWithoutAPool() {
+        sampler.sample();
+
+        TelemetrySample sample = sampler.latest();
+        assertThat(sample.sampledAt()).isEqualTo(START);
+        assertThat(sample.heapMaxMb()).isPositive();
+        assertThat(sample.liveThreads()).isPositive();
+        assertThat(sample.poolTotal()).isNull();
+    }
+
+    private static TelemetrySample sample(int second, long heapUsedMb, long gcTimeMs, int poolPending) {
+        return new TelemetrySample(START.plusSeconds(second), heapUsedMb, 200, 1000, gcTimeMs, 40,
+                10, 0, poolPending, 10);
+    }
+}
@@ -83,6 +83,9 @@ class ProjectPortalServiceTest {
     @Mock
     private AttachmentService attachmentService;
 
+    @Mock
+    private AuditArchiveService archiveService;
+
     @InjectMocks
     private ProjectPortalService projectPortalService;
 
@@ -341,6 +344,25 @@ class ProjectPortalServiceTest {
         verify(auditProofReader, never()).getUserProof(99L);
     }
 
+    @Test
+    void getActivityProof_FallsBackToArchivedAuditRecord() {
+        Project project = createProject(OWNER_ID);
+        AuditLog archived = new AuditLog(TENANT_ID, OWNER_ID, "client@demo.com", "CLIENT",
+                AuditAction.UPDATE, "PROJECT", PROJECT_ID.toString(), null, "{}", null, "hash");
+        setAuditId(archived, 99L);
+        var proof = com.clienthub.application.dto.audit.UserAuditProofResponse.notAvailable();
+
+        when(projectRepository.findByIdAndTenantId(PROJECT_ID, TENANT_ID)).thenReturn(Optional.of(project));
+        when(taskRepository.findIdsByProjectIdAndTenantId(PROJECT_ID, TENANT_ID)).thenReturn(List.of(TASK_ID));
+        when(invoiceRepository.findIdsByProjectIdAndTenantId(PROJECT_ID, TENANT_ID)).thenReturn(List.of(INVOICE_ID));
+        when(commentRepository.findProjectScopedComments(any(), any(), any(), any())).thenReturn(List.of());
+        when(auditLogRepository.findById(99L)).thenReturn(Optional.empty());
+        when(archiveService.findArchived(99L)).thenReturn(Optional.of(archived));
+        when(auditProofReader.getUserProof(99L)).thenReturn(proof);
+
+        assertEquals(proof, projectPortalService.getActivityProof(PROJECT_ID, 99L, OWNER_ID, Role.CLIENT, false));
+    }
+
     private void setAuditId(AuditLog auditLog, Long id) {
         try {
             var field = AuditLog.class.getDeclaredField("id");
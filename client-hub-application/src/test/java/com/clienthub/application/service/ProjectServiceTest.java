@@ -5,6 +5,7 @@ import com.clienthub.domain.entity.Project;
 import com.clienthub.domain.entity.User;
 import com.clienthub.domain.enums.ProjectStatus;
 import com.clienthub.domain.enums.Role;
+import com.clienthub.domain.event.ProjectChangedEvent;
 import com.clienthub.application.dto.project.ProjectRequest;
 import com.clienthub.application.dto.project.ProjectResponse;
 import com.clienthub.application.dto.project.ProjectFreelancerSearchResponse;
@@ -22,6 +23,7 @@ import org.mockito.InjectMocks;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -32,6 +34,7 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -56,6 +59,9 @@ class ProjectServiceTest {
     @Mock
     private NotificationProducerService notificationProducerService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private ProjectService projectService;
 
@@ -492,6 +498,8 @@ class ProjectServiceTest {
 
         assertEquals(freelancerId, response.getUserId());
         verify(projectMemberRepository).save(any());
+        verify(eventPublisher).publishEvent(argThat((ProjectChangedEvent event) ->
+                event.getAffectedUserIds().equals(Set.of(freelancerId)) && !event.isDeleted()));
     }
 
     @Test
@@ -0,0 +1,127 @@
+package com.clienthub.application.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReadModelCacheTest {
+    private static final String TENANT_ID = "tenant-a";
+    private static final String ENTRY_KEY = "readmodel:dashboard:tenant-a:subject";
+    private static final String TAG_KEY = "readmodel:tag:tenant-a:invoices";
+    private static final List<String> TAGS = List.of(ReadModelCache.INVOICES);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Mock private StringRedisTemplate redisTemplate;
+    @Mock private ValueOperations<String, String> valueOperations;
+
+    private ReadModelCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ReadModelCache(redisTemplate, objectMapper, meterRegistry);
+        ReflectionTestUtils.setField(cache, "enabled", true);
+        ReflectionTestUtils.setField(cache, "ttlSeconds", 600L);
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    void missLoadsAndStoresTheValueWithItsTagVersions() throws Exception {
+        when(valueOperations.multiGet(List.of(ENTRY_KEY, TAG_KEY))).thenReturn(Arrays.asList(null, "3"));
+
+        assertThat(get()).isEqualTo(new Totals(2, 5));
+
+        ArgumentCaptor<String> stored = ArgumentCaptor.forClass(String.class);
+        verify(valueOperations).set(eq(ENTRY_KEY), stored.capture(), eq(Duration.ofSeconds(600)));
+        assertThat(objectMapper.readTree(stored.getValue()).path("versions").get(0).asLong()).isEqualTo(3);
+        assertThat(requests("miss")).isEqualTo(1);
+    }
+
+    @Test
+    void entryWithCurrentTagVersionsIsServedWithoutLoading() throws Exception {
+        when(valueOperations.multiGet(anyList())).thenReturn(List.of(entry(3, new Totals(9, 9)), "3"));
+
+        assertThat(get()).isEqualTo(new Totals(9, 9));
+
+        assertThat(loads).hasValue(0);
+        assertThat(requests("hit")).isEqualTo(1);
+        assertThat(meterRegistry.get("readmodel.cache.hit_ratio").tag("model", "dashboard").gauge().value())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void entryFromAnOlderTagVersionIsStaleAndRecomputed() throws Exception {
+        when(valueOperations.multiGet(anyList())).thenReturn(List.of(entry(3, new Totals(9, 9)), "4"));
+
+        assertThat(get()).isEqualTo(new Totals(2, 5));
+
+        assertThat(loads).hasValue(1);
+        assertThat(requests("stale")).isEqualTo(1);
+        verify(valueOperations).set(eq(ENTRY_KEY), anyString(), any(Duration.class));
+    }
+
+    @Test
+    void invalidateBumpsEveryTagVersion() {
+        UUID userId = UUID.randomUUID();
+
+        cache.invalidate(TENANT_ID, List.of(ReadModelCache.INVOICES, ReadModelCache.userTag(userId)));
+
+        verify(valueOperations).increment(TAG_KEY);
+        verify(valueOperations).increment("readmodel:tag:tenant-a:user:" + userId);
+        verify(redisTemplate, never()).expire(anyString(), any(Duration.class));
+        assertThat(meterRegistry.get("readmodel.cache.invalidations").tag("tag", "user").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void unreachableRedisFallsBackToTheLoader() {
+        when(valueOperations.multiGet(anyList())).thenThrow(new RedisConnectionFailureException("down"));
+
+        assertThat(get()).isEqualTo(new Totals(2, 5));
+
+        verify(valueOperations, never()).set(anyString(), anyString(), any(Duration.class));
+        assertThat(requests("error")).isEqualTo(1);
+    }
+
+    private Totals get() {
+        return cache.get("dashboard", TENANT_ID, "subject", TAGS, Totals.class, () -> {
+            loads.incrementAndGet();
+            return new Totals(2, 5);
+        });
+    }
+
+    private String entry(long version, Totals value) throws Exception {
+        return objectMapper.writeValueAsString(
+                new ReadModelCache.CachedEntry(List.of(version), objectMapper.valueToTree(value)));
+    }
+
+    private double requests(String result) {
+        return meterRegistry.get("readmodel.cache.requests").tag("result", result).counter().count();
+    }
+
+    record Totals(long projects, long tasks) {}
+}
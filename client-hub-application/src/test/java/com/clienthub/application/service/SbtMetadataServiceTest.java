@@ -0,0 +1,93 @@
+package com.clienthub.application.service;
+
+import com.clienthub.domain.entity.IpfsPin;
+import com.clienthub.domain.repository.IpfsPinRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.client.ExpectedCount.once;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.jsonPath;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+@ExtendWith(MockitoExtension.class)
+class SbtMetadataServiceTest {
+    private static final String PIN_URL = "http://pinning.test/pinning/pinJSONToIPFS";
+    private static final UUID PROJECT_ID = UUID.fromString("8d3c2b1a-0000-4000-8000-000000000001");
+    private static final Instant PAID_AT = Instant.parse("2026-12-30T10:00:00Z");
+
+    @Mock private IpfsPinRepository pinRepository;
+
+    private final RestTemplate restTemplate = new RestTemplate();
+    private MockRestServiceServer pinningServer;
+    private SbtMetadataService service;
+
+    @BeforeEach
+    void setUp() {
+        pinningServer = MockRestServiceServer.bindTo(restTemplate).build();
+        service = new SbtMetadataService(restTemplate, new ObjectMapper(), pinRepository);
+        ReflectionTestUtils.setField(service, "pinataJwt", "test-jwt");
+        ReflectionTestUtils.setField(service, "pinataApiUrl", PIN_URL);
+    }
+
+    @Test
+    void identicalMetadataIsPinnedOnceAndRecordedByContentHash() {
+        pinningServer.expect(once(), requestTo(PIN_URL))
+                .andExpect(method(HttpMethod.POST))
+                .andExpect(jsonPath("$.pinataContent.attributes.completionDate").value("2026-12-30"))
+                .andRespond(withSuccess("{\"IpfsHash\":\"bafyfirst\"}", MediaType.APPLICATION_JSON));
+
+        String first = service.generateAndUploadMetadata("Fran", "Website", PROJECT_ID, "Cleo", PAID_AT);
+        String second = service.generateAndUploadMetadata("Fran", "Website", PROJECT_ID, "Cleo", PAID_AT);
+
+        assertThat(first).isEqualTo("ipfs://bafyfirst");
+        assertThat(second).isEqualTo(first);
+        pinningServer.verify();
+        ArgumentCaptor<IpfsPin> pin = ArgumentCaptor.forClass(IpfsPin.class);
+        verify(pinRepository).save(pin.capture());
+        assertThat(pin.getValue().getContentHash()).hasSize(64);
+        assertThat(pin.getValue().getCid()).isEqualTo("bafyfirst");
+    }
+
+    @Test
+    void contentPinnedByAnotherInstanceIsNotUploadedAgain() {
+        when(pinRepository.findById(anyString())).thenReturn(Optional.of(new IpfsPin("hash", "bafyknown", 10)));
+
+        assertThat(service.generateAndUploadMetadata("Fran", "Website", PROJECT_ID, "Cleo", PAID_AT))
+                .isEqualTo("ipfs://bafyknown");
+
+        pinningServer.verify();
+        verify(pinRepository, never()).save(any());
+    }
+
+    @Test
+    void pinningFailureIsNotRecordedAndPropagates() {
+        pinningServer.expect(once(), requestTo(PIN_URL)).andRespond(withServerError());
+
+        assertThatThrownBy(() -> service.generateAndUploadMetadata("Fran", "Website", PROJECT_ID, "Cleo", PAID_AT))
+                .isInstanceOf(IllegalStateException.class);
+
+        verify(pinRepository, never()).save(any());
+    }
+}
@@ -0,0 +1,173 @@
+package com.clienthub.application.service;
+
+import com.clienthub.domain.entity.Certificate;
+import com.clienthub.domain.entity.Invoice;
+import com.clienthub.domain.entity.Project;
+import com.clienthub.domain.entity.SbtMintOutbox;
+import com.clienthub.domain.entity.User;
+import com.clienthub.domain.enums.CertificateStatus;
+import com.clienthub.domain.enums.InvoiceStatus;
+import com.clienthub.domain.enums.Role;
+import com.clienthub.domain.enums.SbtMintStatus;
+import com.clienthub.domain.event.InvoiceStatusChangedEvent;
+import com.clienthub.domain.repository.CertificateRepository;
+import com.clienthub.domain.repository.InvoiceRepository;
+import com.clienthub.domain.repository.SbtMintOutboxRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SbtServiceTest {
+    @Mock private CertificateRepository certificateRepository;
+    @Mock private InvoiceRepository invoiceRepository;
+    @Mock private SbtMetadataService sbtMetadataService;
+    @Mock private SbtMintOutboxRepository outboxRepository;
+
+    private SbtService sbtService;
+    private Invoice invoice;
+
+    @BeforeEach
+    void setUp() {
+        sbtService = new SbtService(certificateRepository, invoiceRepository, sbtMetadataService, outboxRepository);
+        ReflectionTestUtils.setField(sbtService, "maxAttempts", 3);
+        ReflectionTestUtils.setField(sbtService, "retryBaseSeconds", 30L);
+        invoice = paidInvoice();
+    }
+
+    @Test
+    void paidInvoiceQueuesPendingCertificateWithoutRemoteCalls() {
+        when(certificateRepository.save(any(Certificate.class))).thenAnswer(call -> {
+            Certificate certificate = call.getArgument(0);
+            certificate.setId(11L);
+            return certificate;
+        });
+        when(outboxRepository.enqueue(eq("default"), eq(7L), eq(11L), any(Instant.class))).thenReturn(1);
+
+        sbtService.onInvoiceStatusChanged(new InvoiceStatusChangedEvent(this, invoice, InvoiceStatus.SENT));
+
+        ArgumentCaptor<Certificate> certificate = ArgumentCaptor.forClass(Certificate.class);
+        verify(certificateRepository).save(certificate.capture());
+        assertThat(certificate.getValue().getStatus()).isEqualTo(CertificateStatus.PENDING);
+        assertThat(certificate.getValue().getMintedAt()).isNull();
+        verify(outboxRepository).enqueue(eq("default"), eq(7L), eq(11L), any(Instant.class));
+        verify(certificateRepository, never()).delete(any());
+        verifyNoInteractions(sbtMetadataService);
+    }
+
+    @Test
+    void concurrentlyQueuedInvoiceDropsItsCertificateInsteadOfFailingThePayment() {
+        when(certificateRepository.save(any(Certificate.class))).thenAnswer(call -> {
+            Certificate certificate = call.getArgument(0);
+            certificate.setId(12L);
+            return certificate;
+        });
+        when(outboxRepository.enqueue(eq("default"), eq(7L), eq(12L), any(Instant.class))).thenReturn(0);
+
+        sbtService.onInvoiceStatusChanged(new InvoiceStatusChangedEvent(this, invoice, InvoiceStatus.SENT));
+
+        ArgumentCaptor<Certificate> dropped = ArgumentCaptor.forClass(Certificate.class);
+        verify(certificateRepository).delete(dropped.capture());
+        assertThat(dropped.getValue().getId()).isEqualTo(12L);
+        verify(outboxRepository, never()).save(any());
+    }
+
+    @Test
+    void alreadyQueuedInvoiceIsNotQueuedAgain() {
+        when(outboxRepository.existsByInvoiceId(7L)).thenReturn(true);
+
+        sbtService.onInvoiceStatusChanged(new InvoiceStatusChangedEvent(this, invoice, InvoiceStatus.SENT));
+
+        verify(certificateRepository, never()).save(any());
+        verify(outboxRepository, never()).save(any());
+    }
+
+    @Test
+    void claimLeasesDueEntriesAndCompletionMarksCertificateMinted() {
+        Certificate certificate = Certificate.builder().status(CertificateStatus.PENDING).build();
+        SbtMintOutbox entry = outbox();
+        when(outboxRepository.findDueForUpdate(any(Instant.class), eq(5))).thenReturn(List.of(entry));
+        when(certificateRepository.findById(11L)).thenReturn(Optional.of(certificate));
+        when(invoiceRepository.findById(7L)).thenReturn(Optional.of(invoice));
+
+        List<SbtService.MintRequest> claimed = sbtService.claimDueMints(5, Duration.ofMinutes(5));
+
+        assertThat(claimed).extracting(SbtService.MintRequest::invoiceId).containsExactly(7L);
+        assertThat(entry.getAttempts()).isEqualTo(1);
+        assertThat(entry.getNextAttemptAt()).isAfter(Instant.now().plusSeconds(240));
+
+        when(outboxRepository.findById(entry.getId())).thenReturn(Optional.of(entry));
+        sbtService.completeMint(entry.getId(), new SbtService.MintResult("ipfs://cid", "token", "0xtx"));
+
+        assertThat(certificate.getStatus()).isEqualTo(CertificateStatus.MINTED);
+        assertThat(certificate.getMetadataUri()).isEqualTo("ipfs://cid");
+        assertThat(certificate.getMintedAt()).isNotNull();
+        assertThat(entry.getStatus()).isEqualTo(SbtMintStatus.COMPLETED);
+    }
+
+    @Test
+    void extendLeasePushesTheClaimedRowOut() {
+        when(outboxRepository.extendLease(eq(3L), any(Instant.class))).thenReturn(1);
+
+        assertThat(sbtService.extendLease(3L, Duration.ofMinutes(5))).isTrue();
+
+        ArgumentCaptor<Instant> until = ArgumentCaptor.forClass(Instant.class);
+        verify(outboxRepository).extendLease(eq(3L), until.capture());
+        assertThat(until.getValue()).isAfter(Instant.now().plusSeconds(240));
+    }
+
+    @Test
+    void failuresBackOffAndGiveUpAfterMaxAttempts() {
+        Certificate certificate = Certificate.builder().status(CertificateStatus.PENDING).build();
+        SbtMintOutbox entry = outbox();
+        when(outboxRepository.findById(entry.getId())).thenReturn(Optional.of(entry));
+
+        entry.setAttempts(2);
+        sbtService.recordMintFailure(entry.getId(), "gateway timeout");
+        assertThat(entry.getStatus()).isEqualTo(SbtMintStatus.PENDING);
+        assertThat(entry.getNextAttemptAt()).isAfter(Instant.now().plusSeconds(55));
+        assertThat(entry.getLastError()).isEqualTo("gateway timeout");
+
+        when(certificateRepository.findById(11L)).thenReturn(Optional.of(certificate));
+        entry.setAttempts(3);
+        sbtService.recordMintFailure(entry.getId(), "gateway timeout");
+        assertThat(entry.getStatus()).isEqualTo(SbtMintStatus.FAILED);
+        assertThat(certificate.getStatus()).isEqualTo(CertificateStatus.FAILED);
+    }
+
+    private SbtMintOutbox outbox() {
+        SbtMintOutbox entry = new SbtMintOutbox("default", 7L, 11L);
+        ReflectionTestUtils.setField(entry, "id", 3L);
+        return entry;
+    }
+
+    private Invoice paidInvoice() {
+        Project project = new Project();
+        project.setId(UUID.randomUUID());
+        project.setTitle("Website");
+        User freelancer = new User(UUID.randomUUID(), "default", "f@test.com", "x", "Fran", Role.FREELANCER, true, null);
+        User client = new User(UUID.randomUUID(), "default", "c@test.com", "x", "Cleo", Role.CLIENT, true, null);
+        Invoice paid = new Invoice();
+        paid.setId(7L);
+        paid.setTenantId("default");
+        paid.setProject(project);
+        paid.setFreelancer(freelancer);
+        paid.setClient(client);
+        paid.setStatus(InvoiceStatus.PAID);
+        return paid;
+    }
+}
@@ -0,0 +1,100 @@
+package com.clienthub.application.service;
+
+import com.clienthub.application.dto.admin.ComponentHealth;
+import com.clienthub.application.dto.admin.HealthSample;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+class SystemHealthSamplerTest {
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Mock private JdbcTemplate jdbcTemplate;
+    @Mock private RedisTemplate<String, Object> redisTemplate;
+
+    private SystemHealthSampler sampler;
+
+    @BeforeEach
+    void setUp() {
+        sampler = new SystemHealthSampler(jdbcTemplate, redisTemplate, new RestTemplateBuilder(),
+                Clock.fixed(NOW, ZoneOffset.UTC));
+        ReflectionTestUtils.setField(sampler, "probeTimeoutMs", 100L);
+        ReflectionTestUtils.setField(sampler, "historySize", 3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        sampler.shutdown();
+    }
+
+    @Test
+    void readsServeTheLastSampleWithItsTimestamp() {
+        assertThat(sampler.database().status()).isEqualTo("UNKNOWN");
+        assertThat(sampler.oldestSampleAt()).isNull();
+
+        SystemHealthSampler.Probe probe = new SystemHealthSampler.Probe();
+        ComponentHealth health = sampler.sample(probe, () -> new ComponentHealth("UP", "Active (1ms)", 1)).join();
+
+        assertThat(health.status()).isEqualTo("UP");
+        assertThat(probe.latest()).isEqualTo(health);
+        assertThat(probe.sampledAt()).isEqualTo(NOW);
+    }
+
+    @Test
+    void slowProbeIsReportedDownAfterItsTimeoutAndNotStacked() throws Exception {
+        SystemHealthSampler.Probe probe = new SystemHealthSampler.Probe();
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger runs = new AtomicInteger();
+
+        ComponentHealth timedOut = sampler.sample(probe, () -> {
+            runs.incrementAndGet();
+            await(release);
+            return new ComponentHealth("UP", "Operational", 1);
+        }).join();
+        ComponentHealth skipped = sampler.sample(probe, () -> {
+            runs.incrementAndGet();
+            return new ComponentHealth("UP", "Operational", 1);
+        }).join();
+
+        assertThat(timedOut.status()).isEqualTo("DOWN");
+        assertThat(timedOut.label()).contains("Timed out");
+        assertThat(skipped).isEqualTo(timedOut);
+        assertThat(runs).hasValue(1);
+        release.countDown();
+    }
+
+    @Test
+    void historyKeepsTheMostRecentSamples() {
+        SystemHealthSampler.Probe probe = new SystemHealthSampler.Probe();
+        for (int latency = 1; latency <= 50; latency++) {
+            long value = latency;
+            sampler.sample(probe, () -> new ComponentHealth("UP", "Active", value)).join();
+        }
+
+        assertThat(probe.history()).extracting(HealthSample::latencyMs).containsExactly(48L, 49L, 50L);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -6,6 +6,7 @@ import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 import java.math.BigInteger;
 import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
 
 @Entity
@@ -47,6 +48,16 @@ public class AuditAnchorBatch {
     @Column(name = "transaction_hash", length = 66)
     private String transactionHash;
 
+    /** Hashes this transaction replaced at the same nonce, oldest first; any of them may end up mined. */
+    @Column(name = "replaced_transaction_hashes", columnDefinition = "TEXT")
+    private String replacedTransactionHashes;
+
+    @Column(precision = 78)
+    private BigInteger nonce;
+
+    @Column(name = "gas_price", precision = 78)
+    private BigInteger gasPrice;
+
     @Column(name = "submitted_block", precision = 78)
     private BigInteger submittedBlock;
 
@@ -105,6 +116,19 @@ public class AuditAnchorBatch {
     public void setRecordCount(int recordCount) { this.recordCount = recordCount; }
     public String getTransactionHash() { return transactionHash; }
     public void setTransactionHash(String transactionHash) { this.transactionHash = transactionHash; }
+    public List<String> getReplacedTransactionHashes() {
+        return replacedTransactionHashes == null || replacedTransactionHashes.isBlank()
+                ? List.of() : List.of(replacedTransactionHashes.split(","));
+    }
+    public void addReplacedTransactionHash(String transactionHash) {
+        replacedTransactionHashes = replacedTransactionHashes == null || replacedTransactionHashes.isBlank()
+                ? transactionHash : replacedTransactionHashes + "," + transactionHash;
+    }
+    public void clearReplacedTransactionHashes() { this.replacedTransactionHashes = null; }
+    public BigInteger getNonce() { return nonce; }
+    public void setNonce(BigInteger nonce) { this.nonce = nonce; }
+    public BigInteger getGasPrice() { return gasPrice; }
+    public void setGasPrice(BigInteger gasPrice) { this.gasPrice = gasPrice; }
     public BigInteger getSubmittedBlock() { return submittedBlock; }
     public void setSubmittedBlock(BigInteger submittedBlock) { this.submittedBlock = submittedBlock; }
     public BigInteger getConfirmedBlock() { return confirmedBlock; }
@@ -1,6 +1,9 @@
 package com.clienthub.domain.entity;
 
 import com.clienthub.domain.enums.AuditAction;
+import com.clienthub.domain.enums.AuditEventCategory;
+import com.clienthub.domain.enums.AuditEventSeverity;
+import com.clienthub.domain.enums.AuditRecordAnchorStatus;
 import jakarta.persistence.*;
 import org.hibernate.annotations.Immutable;
 import org.hibernate.annotations.JdbcTypeCode;
@@ -13,7 +16,9 @@ import java.util.UUID;
 @Table(name = "audit_logs", indexes = {
         @Index(name = "idx_audit_tenant", columnList = "tenant_id"),
         @Index(name = "idx_audit_entity", columnList = "entity_type, entity_id"),
-        @Index(name = "idx_audit_created_at", columnList = "created_at")
+        @Index(name = "idx_audit_created_at", columnList = "created_at"),
+        @Index(name = "idx_audit_tenant_category_created", columnList = "tenant_id, event_category, created_at"),
+        @Index(name = "idx_audit_tenant_severity_created", columnList = "tenant_id, event_severity, created_at")
 })
 @Immutable
 public class AuditLog {
@@ -65,6 +70,18 @@ public class AuditLog {
     @Column(name = "is_anchored")
     private boolean isAnchored = false;
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "anchor_status", nullable = false, length = 20)
+    private AuditRecordAnchorStatus anchorStatus = AuditRecordAnchorStatus.WAITING;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_category", nullable = false, length = 20)
+    private AuditEventCategory eventCategory = AuditEventCategory.AUDIT;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_severity", nullable = false, length = 20)
+    private AuditEventSeverity eventSeverity = AuditEventSeverity.INFO;
+
     @PrePersist
     protected void onCreate() {
         this.createdAt = Instant.now();
@@ -87,9 +104,24 @@ public class AuditLog {
         this.newValue = newValue;
         this.ipAddress = ipAddress;
         this.dataHash = dataHash;
+        this.eventCategory = AuditEventCategory.of(action, entityType);
+        this.eventSeverity = AuditEventSeverity.of(action);
         this.createdAt = Instant.now();
     }
 
+    /** Rebuilds a record read back from a cold archive; the result is never persisted. */
+    public static AuditLog restore(Long id, String tenantId, UUID userId, String userEmail, String userRole,
+                                   AuditAction action, String entityType, String entityId,
+                                   String oldValue, String newValue, String ipAddress,
+                                   Instant createdAt, String dataHash, AuditRecordAnchorStatus anchorStatus) {
+        AuditLog log = new AuditLog(tenantId, userId, userEmail, userRole, action, entityType, entityId,
+                oldValue, newValue, ipAddress, dataHash);
+        log.id = id;
+        log.createdAt = createdAt;
+        log.anchorStatus = anchorStatus;
+        return log;
+    }
+
     public Long getId() { return id; }
     public String getTenantId() { return tenantId; }
     public UUID getUserId() { return userId; }
@@ -104,6 +136,9 @@ public class AuditLog {
     public Instant getCreatedAt() { return createdAt; }
     public String getDataHash() { return dataHash; }
     public boolean isAnchored() { return isAnchored; }
+    public AuditRecordAnchorStatus getAnchorStatus() { return anchorStatus; }
+    public AuditEventCategory getEventCategory() { return eventCategory; }
+    public AuditEventSeverity getEventSeverity() { return eventSeverity; }
 
     public void setAnchored(boolean anchored) { isAnchored = anchored; }
 }
\ No newline at end of file
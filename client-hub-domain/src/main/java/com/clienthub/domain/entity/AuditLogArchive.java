@@ -0,0 +1,81 @@
+package com.clienthub.domain.entity;
+
+import com.clienthub.domain.enums.AuditLogArchiveStatus;
+import jakarta.persistence.*;
+import java.time.Instant;
+
+@Entity
+@Table(name = "audit_log_archives")
+public class AuditLogArchive {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "partition_name", nullable = false, unique = true, length = 63)
+    private String partitionName;
+
+    @Column(name = "range_start", nullable = false)
+    private Instant rangeStart;
+
+    @Column(name = "range_end", nullable = false)
+    private Instant rangeEnd;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private AuditLogArchiveStatus status;
+
+    @Column(name = "record_count", nullable = false)
+    private long recordCount;
+
+    @Column(name = "first_log_id")
+    private Long firstLogId;
+
+    @Column(name = "last_log_id")
+    private Long lastLogId;
+
+    @Column(name = "storage_key", length = 500)
+    private String storageKey;
+
+    @Column(length = 64)
+    private String sha256;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @Column(name = "archived_at")
+    private Instant archivedAt;
+
+    public AuditLogArchive() {}
+
+    public AuditLogArchive(String partitionName, Instant rangeStart, Instant rangeEnd) {
+        this.partitionName = partitionName;
+        this.rangeStart = rangeStart;
+        this.rangeEnd = rangeEnd;
+        this.status = AuditLogArchiveStatus.DETACHED;
+    }
+
+    @PrePersist
+    void prePersist() {
+        if (createdAt == null) createdAt = Instant.now();
+    }
+
+    public Long getId() { return id; }
+    public String getPartitionName() { return partitionName; }
+    public Instant getRangeStart() { return rangeStart; }
+    public Instant getRangeEnd() { return rangeEnd; }
+    public AuditLogArchiveStatus getStatus() { return status; }
+    public void setStatus(AuditLogArchiveStatus status) { this.status = status; }
+    public long getRecordCount() { return recordCount; }
+    public void setRecordCount(long recordCount) { this.recordCount = recordCount; }
+    public Long getFirstLogId() { return firstLogId; }
+    public void setFirstLogId(Long firstLogId) { this.firstLogId = firstLogId; }
+    public Long getLastLogId() { return lastLogId; }
+    public void setLastLogId(Long lastLogId) { this.lastLogId = lastLogId; }
+    public String getStorageKey() { return storageKey; }
+    public void setStorageKey(String storageKey) { this.storageKey = storageKey; }
+    public String getSha256() { return sha256; }
+    public void setSha256(String sha256) { this.sha256 = sha256; }
+    public Instant getCreatedAt() { return createdAt; }
+    public Instant getArchivedAt() { return archivedAt; }
+    public void setArchivedAt(Instant archivedAt) { this.archivedAt = archivedAt; }
+}
@@ -0,0 +1,43 @@
+package com.clienthub.domain.entity;
+
+import jakarta.persistence.*;
+import java.math.BigInteger;
+import java.time.Instant;
+
+/** Last chain position processed by a named reader, so it resumes where it stopped. */
+@Entity
+@Table(name = "blockchain_cursors")
+public class BlockchainCursor {
+    @Id
+    @Column(length = 120)
+    private String name;
+
+    @Column(name = "block_number", nullable = false, precision = 78)
+    private BigInteger blockNumber;
+
+    @Column(name = "log_index", nullable = false)
+    private int logIndex = -1;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    public BlockchainCursor() {}
+
+    public BlockchainCursor(String name, BigInteger blockNumber) {
+        this.name = name;
+        this.blockNumber = blockNumber;
+    }
+
+    @PrePersist
+    @PreUpdate
+    void touch() {
+        updatedAt = Instant.now();
+    }
+
+    public String getName() { return name; }
+    public BigInteger getBlockNumber() { return blockNumber; }
+    public void setBlockNumber(BigInteger blockNumber) { this.blockNumber = blockNumber; }
+    public int getLogIndex() { return logIndex; }
+    public void setLogIndex(int logIndex) { this.logIndex = logIndex; }
+    public Instant getUpdatedAt() { return updatedAt; }
+}
@@ -1,5 +1,6 @@
 package com.clienthub.domain.entity;
 
+import com.clienthub.domain.enums.CertificateStatus;
 import jakarta.persistence.*;
 import java.time.Instant;
 import java.util.UUID;
@@ -23,16 +24,20 @@ public class Certificate {
     @JoinColumn(name = "project_id", nullable = false)
     private Project project;
 
-    @Column(name = "token_id", nullable = false)
+    @Column(name = "token_id")
     private String tokenId;
 
-    @Column(name = "metadata_uri", nullable = false, length = 1000)
+    @Column(name = "metadata_uri", length = 1000)
     private String metadataUri;
 
-    @Column(name = "transaction_hash", nullable = false)
+    @Column(name = "transaction_hash")
     private String transactionHash;
 
-    @Column(name = "minted_at", nullable = false, updatable = false)
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private CertificateStatus status = CertificateStatus.MINTED;
+
+    @Column(name = "minted_at")
     private Instant mintedAt;
 
     public Certificate() {}
@@ -69,12 +74,15 @@ public class Certificate {
     public String getTransactionHash() { return transactionHash; }
     public void setTransactionHash(String transactionHash) { this.transactionHash = transactionHash; }
 
+    public CertificateStatus getStatus() { return status; }
+    public void setStatus(CertificateStatus status) { this.status = status; }
+
     public Instant getMintedAt() { return mintedAt; }
     public void setMintedAt(Instant mintedAt) { this.mintedAt = mintedAt; }
 
     @PrePersist
     public void prePersist() {
-        if (mintedAt == null) {
+        if (mintedAt == null && status == CertificateStatus.MINTED) {
             mintedAt = Instant.now();
         }
     }
@@ -90,6 +98,7 @@ public class Certificate {
         private String tokenId;
         private String metadataUri;
         private String transactionHash;
+        private CertificateStatus status = CertificateStatus.MINTED;
         private Instant mintedAt;
 
         public CertificateBuilder tenantId(String tenantId) { this.tenantId = tenantId; return this; }
@@ -98,6 +107,7 @@ public class Certificate {
         public CertificateBuilder tokenId(String tokenId) { this.tokenId = tokenId; return this; }
         public CertificateBuilder metadataUri(String metadataUri) { this.metadataUri = metadataUri; return this; }
         public CertificateBuilder transactionHash(String transactionHash) { this.transactionHash = transactionHash; return this; }
+        public CertificateBuilder status(CertificateStatus status) { this.status = status; return this; }
         public CertificateBuilder mintedAt(Instant mintedAt) { this.mintedAt = mintedAt; return this; }
 
         public Certificate build() {
@@ -108,6 +118,7 @@ public class Certificate {
             cert.setTokenId(tokenId);
             cert.setMetadataUri(metadataUri);
             cert.setTransactionHash(transactionHash);
+            cert.setStatus(status);
             cert.setMintedAt(mintedAt);
             return cert;
         }
@@ -46,6 +46,9 @@ public class CommunicationThread extends BaseEntity {
     @Column(name = "is_deleted")
     private boolean isDeleted = false;
 
+    @Column(name = "distinct_participant_count", nullable = false)
+    private int distinctParticipantCount;
+
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
     public String getTopic() { return topic; }
@@ -60,4 +63,5 @@ public class CommunicationThread extends BaseEntity {
     public void setAuthor(User author) { this.author = author; }
     public boolean isDeleted() { return isDeleted; }
     public void setDeleted(boolean deleted) { isDeleted = deleted; }
+    public int getDistinctParticipantCount() { return distinctParticipantCount; }
 }
\ No newline at end of file
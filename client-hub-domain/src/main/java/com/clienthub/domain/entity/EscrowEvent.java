@@ -0,0 +1,67 @@
+package com.clienthub.domain.entity;
+
+import jakarta.persistence.*;
+import java.math.BigInteger;
+import java.time.Instant;
+
+@Entity
+@Table(name = "escrow_events", uniqueConstraints = @UniqueConstraint(
+        name = "uq_escrow_events_log",
+        columnNames = {"contract_address", "invoice_id", "topic", "block_number", "log_index"}))
+public class EscrowEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "contract_address", nullable = false, length = 42)
+    private String contractAddress;
+
+    @Column(name = "invoice_id", nullable = false)
+    private Long invoiceId;
+
+    @Column(nullable = false, length = 66)
+    private String topic;
+
+    @Column(name = "block_number", nullable = false, precision = 78)
+    private BigInteger blockNumber;
+
+    @Column(name = "log_index", nullable = false)
+    private int logIndex;
+
+    @Column(name = "transaction_hash", nullable = false, length = 66)
+    private String transactionHash;
+
+    @Column(name = "block_hash", length = 66)
+    private String blockHash;
+
+    @Column(name = "indexed_at", nullable = false)
+    private Instant indexedAt;
+
+    public EscrowEvent() {}
+
+    public EscrowEvent(String contractAddress, Long invoiceId, String topic, BigInteger blockNumber, int logIndex,
+                       String transactionHash, String blockHash) {
+        this.contractAddress = contractAddress;
+        this.invoiceId = invoiceId;
+        this.topic = topic;
+        this.blockNumber = blockNumber;
+        this.logIndex = logIndex;
+        this.transactionHash = transactionHash;
+        this.blockHash = blockHash;
+    }
+
+    @PrePersist
+    void prePersist() {
+        if (indexedAt == null) indexedAt = Instant.now();
+    }
+
+    public Long getId() { return id; }
+    public String getContractAddress() { return contractAddress; }
+    public Long getInvoiceId() { return invoiceId; }
+    public String getTopic() { return topic; }
+    public BigInteger getBlockNumber() { return blockNumber; }
+    public int getLogIndex() { return logIndex; }
+    public String getTransactionHash() { return transactionHash; }
+    public String getBlockHash() { return blockHash; }
+    public Instant getIndexedAt() { return indexedAt; }
+}
@@ -0,0 +1,40 @@
+package com.clienthub.domain.entity;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+
+/** A document already pinned to IPFS, keyed by the SHA-256 of its canonical content. */
+@Entity
+@Table(name = "ipfs_pins")
+public class IpfsPin {
+    @Id
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    @Column(nullable = false)
+    private String cid;
+
+    @Column(name = "size_bytes", nullable = false)
+    private int sizeBytes;
+
+    @Column(name = "pinned_at", nullable = false)
+    private Instant pinnedAt;
+
+    public IpfsPin() {}
+
+    public IpfsPin(String contentHash, String cid, int sizeBytes) {
+        this.contentHash = contentHash;
+        this.cid = cid;
+        this.sizeBytes = sizeBytes;
+    }
+
+    @PrePersist
+    void prePersist() {
+        if (pinnedAt == null) pinnedAt = Instant.now();
+    }
+
+    public String getContentHash() { return contentHash; }
+    public String getCid() { return cid; }
+    public int getSizeBytes() { return sizeBytes; }
+    public Instant getPinnedAt() { return pinnedAt; }
+}
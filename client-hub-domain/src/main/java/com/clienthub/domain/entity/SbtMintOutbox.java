@@ -0,0 +1,72 @@
+package com.clienthub.domain.entity;
+
+import com.clienthub.domain.enums.SbtMintStatus;
+import jakarta.persistence.*;
+import java.time.Instant;
+
+/** A certificate mint requested in the same transaction as the invoice payment, processed by the mint worker. */
+@Entity
+@Table(name = "sbt_mint_outbox")
+public class SbtMintOutbox {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "tenant_id", nullable = false)
+    private String tenantId;
+
+    @Column(name = "invoice_id", nullable = false, unique = true)
+    private Long invoiceId;
+
+    @Column(name = "certificate_id", nullable = false)
+    private Long certificateId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private SbtMintStatus status = SbtMintStatus.PENDING;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error", length = 2000)
+    private String lastError;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private Instant nextAttemptAt;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @Column(name = "completed_at")
+    private Instant completedAt;
+
+    public SbtMintOutbox() {}
+
+    public SbtMintOutbox(String tenantId, Long invoiceId, Long certificateId) {
+        this.tenantId = tenantId;
+        this.invoiceId = invoiceId;
+        this.certificateId = certificateId;
+    }
+
+    @PrePersist
+    void prePersist() {
+        if (createdAt == null) createdAt = Instant.now();
+        if (nextAttemptAt == null) nextAttemptAt = createdAt;
+    }
+
+    public Long getId() { return id; }
+    public String getTenantId() { return tenantId; }
+    public Long getInvoiceId() { return invoiceId; }
+    public Long getCertificateId() { return certificateId; }
+    public SbtMintStatus getStatus() { return status; }
+    public void setStatus(SbtMintStatus status) { this.status = status; }
+    public int getAttempts() { return attempts; }
+    public void setAttempts(int attempts) { this.attempts = attempts; }
+    public String getLastError() { return lastError; }
+    public void setLastError(String lastError) { this.lastError = lastError; }
+    public Instant getNextAttemptAt() { return nextAttemptAt; }
+    public void setNextAttemptAt(Instant nextAttemptAt) { this.nextAttemptAt = nextAttemptAt; }
+    public Instant getCreatedAt() { return createdAt; }
+    public Instant getCompletedAt() { return completedAt; }
+    public void setCompletedAt(Instant completedAt) { this.completedAt = completedAt; }
+}
@@ -0,0 +1,57 @@
+package com.clienthub.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigInteger;
+import java.time.Instant;
+
+/**
+ * Invoice count and amount for one tenant and status. Rows are maintained by database triggers on {@code invoices},
+ * so the application only reads them.
+ */
+@Entity
+@Immutable
+@Table(name = "tenant_invoice_stats")
+public class TenantInvoiceStats {
+
+    @EmbeddedId
+    private TenantInvoiceStatsId id;
+
+    @Column(name = "invoice_count", nullable = false)
+    private long invoiceCount;
+
+    @Column(name = "amount_total", nullable = false, precision = 60, scale = 0)
+    private BigInteger amountTotal;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    protected TenantInvoiceStats() {
+    }
+
+    public TenantInvoiceStats(TenantInvoiceStatsId id, long invoiceCount, BigInteger amountTotal) {
+        this.id = id;
+        this.invoiceCount = invoiceCount;
+        this.amountTotal = amountTotal;
+    }
+
+    public TenantInvoiceStatsId getId() {
+        return id;
+    }
+
+    public long getInvoiceCount() {
+        return invoiceCount;
+    }
+
+    public BigInteger getAmountTotal() {
+        return amountTotal;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+}
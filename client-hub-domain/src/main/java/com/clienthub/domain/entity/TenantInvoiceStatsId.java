@@ -0,0 +1,53 @@
+package com.clienthub.domain.entity;
+
+import com.clienthub.domain.enums.InvoiceStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+@Embeddable
+public class TenantInvoiceStatsId implements Serializable {
+
+    @Column(name = "tenant_id")
+    private String tenantId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status")
+    private InvoiceStatus status;
+
+    public TenantInvoiceStatsId() {
+    }
+
+    public TenantInvoiceStatsId(String tenantId, InvoiceStatus status) {
+        this.tenantId = tenantId;
+        this.status = status;
+    }
+
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    public InvoiceStatus getStatus() {
+        return status;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof TenantInvoiceStatsId that)) {
+            return false;
+        }
+        return Objects.equals(tenantId, that.tenantId) && status == that.status;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(tenantId, status);
+    }
+}
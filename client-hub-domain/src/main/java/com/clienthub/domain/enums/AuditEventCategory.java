@@ -0,0 +1,35 @@
+package com.clienthub.domain.enums;
+
+import java.util.Locale;
+
+/** Admin event feed category of an audit record, fixed when the record is written. */
+public enum AuditEventCategory {
+    AUTH,
+    WEB3,
+    INVOICE,
+    PROJECT,
+    TASK,
+    USER,
+    SYSTEM,
+    AUDIT;
+
+    public static AuditEventCategory of(AuditAction action, String entityType) {
+        if (action == null) {
+            return AUDIT;
+        }
+        String type = entityType != null ? entityType.toUpperCase(Locale.ROOT) : "";
+        return switch (action) {
+            case LOGIN, LOGIN_FAILED, LOGOUT, USER_LOCKED, USER_UNLOCKED, ADMIN_IMPERSONATION -> AUTH;
+            case ANCHOR_SUCCESS, ANCHOR_FAILED -> WEB3;
+            case INVOICE_SENT, INVOICE_PAID, INVOICE_CANCELLED -> INVOICE;
+            default -> switch (type) {
+                case "INVOICE" -> INVOICE;
+                case "PROJECT" -> PROJECT;
+                case "TASK" -> TASK;
+                case "USER" -> USER;
+                case "SYSTEM" -> SYSTEM;
+                default -> AUDIT;
+            };
+        };
+    }
+}
@@ -0,0 +1,21 @@
+package com.clienthub.domain.enums;
+
+/** Admin event feed severity of an audit record, fixed when the record is written. */
+public enum AuditEventSeverity {
+    CRITICAL,
+    WARNING,
+    SUCCESS,
+    INFO;
+
+    public static AuditEventSeverity of(AuditAction action) {
+        if (action == null) {
+            return INFO;
+        }
+        return switch (action) {
+            case LOGIN_FAILED, USER_LOCKED, ANCHOR_FAILED -> CRITICAL;
+            case DELETE, DISPUTE_OPENED, INVOICE_CANCELLED -> WARNING;
+            case CREATE, INVOICE_PAID, ANCHOR_SUCCESS -> SUCCESS;
+            default -> INFO;
+        };
+    }
+}
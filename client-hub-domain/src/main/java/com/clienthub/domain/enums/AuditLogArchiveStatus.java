@@ -0,0 +1,6 @@
+package com.clienthub.domain.enums;
+
+public enum AuditLogArchiveStatus {
+    DETACHED,
+    ARCHIVED
+}
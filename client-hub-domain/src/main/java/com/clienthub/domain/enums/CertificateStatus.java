@@ -0,0 +1,7 @@
+package com.clienthub.domain.enums;
+
+public enum CertificateStatus {
+    PENDING,
+    MINTED,
+    FAILED
+}
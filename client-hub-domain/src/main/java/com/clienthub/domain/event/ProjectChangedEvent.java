@@ -0,0 +1,43 @@
+package com.clienthub.domain.event;
+
+import org.springframework.context.ApplicationEvent;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * A project was created, deleted, changed status or gained or lost a member. {@code affectedUserIds} are the owner
+ * and members whose view of the project changed.
+ */
+public class ProjectChangedEvent extends ApplicationEvent {
+
+    private final String tenantId;
+    private final UUID projectId;
+    private final Set<UUID> affectedUserIds;
+    private final boolean deleted;
+
+    public ProjectChangedEvent(Object source, String tenantId, UUID projectId, Set<UUID> affectedUserIds,
+                               boolean deleted) {
+        super(source);
+        this.tenantId = tenantId;
+        this.projectId = projectId;
+        this.affectedUserIds = Set.copyOf(affectedUserIds);
+        this.deleted = deleted;
+    }
+
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    public UUID getProjectId() {
+        return projectId;
+    }
+
+    public Set<UUID> getAffectedUserIds() {
+        return affectedUserIds;
+    }
+
+    public boolean isDeleted() {
+        return deleted;
+    }
+}
@@ -0,0 +1,36 @@
+package com.clienthub.domain.event;
+
+import org.springframework.context.ApplicationEvent;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * A task was created, changed or deleted. {@code affectedUserIds} are the project owners and assignees involved
+ * before and after the change.
+ */
+public class TaskChangedEvent extends ApplicationEvent {
+
+    private final String tenantId;
+    private final UUID taskId;
+    private final Set<UUID> affectedUserIds;
+
+    public TaskChangedEvent(Object source, String tenantId, UUID taskId, Set<UUID> affectedUserIds) {
+        super(source);
+        this.tenantId = tenantId;
+        this.taskId = taskId;
+        this.affectedUserIds = Set.copyOf(affectedUserIds);
+    }
+
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    public UUID getTaskId() {
+        return taskId;
+    }
+
+    public Set<UUID> getAffectedUserIds() {
+        return affectedUserIds;
+    }
+}
@@ -0,0 +1,26 @@
+package com.clienthub.domain.event;
+
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * A comment was posted to or removed from a communication thread.
+ */
+public class ThreadChangedEvent extends ApplicationEvent {
+
+    private final String tenantId;
+    private final Long threadId;
+
+    public ThreadChangedEvent(Object source, String tenantId, Long threadId) {
+        super(source);
+        this.tenantId = tenantId;
+        this.threadId = threadId;
+    }
+
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    public Long getThreadId() {
+        return threadId;
+    }
+}
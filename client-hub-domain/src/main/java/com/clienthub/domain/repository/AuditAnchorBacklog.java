@@ -0,0 +1,9 @@
+package com.clienthub.domain.repository;
+
+import java.time.Instant;
+
+/**
+ * Records of one tenant that are still waiting to be placed in an anchor batch.
+ */
+public record AuditAnchorBacklog(String tenantId, long waiting, Instant oldestCreatedAt) {
+}
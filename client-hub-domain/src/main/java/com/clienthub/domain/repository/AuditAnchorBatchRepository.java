@@ -14,6 +14,7 @@ public interface AuditAnchorBatchRepository extends JpaRepository<AuditAnchorBat
     Page<AuditAnchorBatch> findAllByOrderByCreatedAtDesc(Pageable pageable);
     Page<AuditAnchorBatch> findByStatusOrderByCreatedAtDesc(AuditAnchorBatchStatus status, Pageable pageable);
     List<AuditAnchorBatch> findByStatusInOrderByCreatedAtAsc(Collection<AuditAnchorBatchStatus> statuses);
+    List<AuditAnchorBatch> findByTransactionHashAndStatus(String transactionHash, AuditAnchorBatchStatus status);
     long countByStatus(AuditAnchorBatchStatus status);
     long countByStatusIn(Collection<AuditAnchorBatchStatus> statuses);
     Optional<AuditAnchorBatch> findFirstByStatusOrderByConfirmedAtDesc(AuditAnchorBatchStatus status);
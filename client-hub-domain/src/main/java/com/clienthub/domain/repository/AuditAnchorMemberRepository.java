@@ -3,9 +3,13 @@ package com.clienthub.domain.repository;
 import com.clienthub.domain.entity.AuditAnchorMember;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.time.Instant;
 import java.util.Optional;
 import java.util.Collection;
 import java.util.List;
+import java.util.UUID;
 
 public interface AuditAnchorMemberRepository extends JpaRepository<AuditAnchorMember, Long> {
     @EntityGraph(attributePaths = "batch")
@@ -13,4 +17,28 @@ public interface AuditAnchorMemberRepository extends JpaRepository<AuditAnchorMe
     @EntityGraph(attributePaths = "batch")
     List<AuditAnchorMember> findByAuditLogIdIn(Collection<Long> auditLogIds);
     boolean existsByAuditLogId(Long auditLogId);
+
+    List<AuditAnchorMember> findByBatchIdOrderByLeafIndexAsc(UUID batchId);
+
+    @Query("""
+            SELECT DISTINCT m.batch.id FROM AuditAnchorMember m, AuditLog a
+            WHERE a.id = m.auditLogId
+              AND a.createdAt >= :from
+              AND a.createdAt < :to
+            """)
+    List<UUID> findBatchIdsByAuditLogCreatedAtBetween(@Param("from") Instant from, @Param("to") Instant to);
+
+    /**
+     * Batches covering records of archived months that overlap {@code [from, to)}. Those records are no longer in
+     * {@code audit_logs}, so the batch is matched on its id window against the archive's id range instead.
+     */
+    @Query("""
+            SELECT DISTINCT b.id FROM AuditAnchorBatch b, AuditLogArchive a
+            WHERE a.status = com.clienthub.domain.enums.AuditLogArchiveStatus.ARCHIVED
+              AND a.rangeStart < :to
+              AND a.rangeEnd > :from
+              AND b.firstLogId <= a.lastLogId
+              AND b.lastLogId >= a.firstLogId
+            """)
+    List<UUID> findBatchIdsCoveringArchivedRange(@Param("from") Instant from, @Param("to") Instant to);
 }
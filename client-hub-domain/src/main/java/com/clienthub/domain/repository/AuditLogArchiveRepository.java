@@ -0,0 +1,22 @@
+package com.clienthub.domain.repository;
+
+import com.clienthub.domain.entity.AuditLogArchive;
+import com.clienthub.domain.enums.AuditLogArchiveStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.util.List;
+import java.util.Optional;
+
+public interface AuditLogArchiveRepository extends JpaRepository<AuditLogArchive, Long> {
+    Optional<AuditLogArchive> findByPartitionName(String partitionName);
+    List<AuditLogArchive> findByStatusOrderByRangeStartAsc(AuditLogArchiveStatus status);
+
+    @Query("""
+            SELECT a FROM AuditLogArchive a
+            WHERE a.status = com.clienthub.domain.enums.AuditLogArchiveStatus.ARCHIVED
+              AND a.firstLogId <= :maxId AND a.lastLogId >= :minId
+            ORDER BY a.rangeStart ASC
+            """)
+    List<AuditLogArchive> findArchivedOverlapping(@Param("minId") long minId, @Param("maxId") long maxId);
+}
@@ -7,6 +7,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -15,6 +16,7 @@ import java.time.Instant;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 @Repository
 public interface AuditLogRepository extends JpaRepository<AuditLog, Long>, JpaSpecificationExecutor<AuditLog> {
@@ -57,34 +59,39 @@ public interface AuditLogRepository extends JpaRepository<AuditLog, Long>, JpaSp
 
     @Query(value = """
             SELECT a.* FROM audit_logs a
-            WHERE a.action NOT IN ('ANCHOR_SUCCESS', 'ANCHOR_FAILED')
-              AND NOT EXISTS (
-                SELECT 1 FROM audit_anchor_members m WHERE m.audit_log_id = a.id
-              )
+            WHERE a.anchor_status = 'WAITING'
+              AND a.tenant_id = :tenantId
+              AND a.action NOT IN ('ANCHOR_SUCCESS', 'ANCHOR_FAILED')
             ORDER BY a.id ASC
             LIMIT :limit
             FOR UPDATE SKIP LOCKED
             """, nativeQuery = true)
-    List<AuditLog> findUnassignedForAnchoring(@Param("limit") int limit);
+    List<AuditLog> findUnassignedForAnchoringByTenant(@Param("tenantId") String tenantId, @Param("limit") int limit);
 
     @Query("""
-            SELECT MIN(a.createdAt) FROM AuditLog a
-            WHERE a.action NOT IN :excludedActions
-              AND NOT EXISTS (
-                SELECT m.id FROM AuditAnchorMember m WHERE m.auditLogId = a.id
-              )
+            SELECT new com.clienthub.domain.repository.AuditAnchorBacklog(a.tenantId, COUNT(a), MIN(a.createdAt))
+            FROM AuditLog a
+            WHERE a.anchorStatus = com.clienthub.domain.enums.AuditRecordAnchorStatus.WAITING
+              AND a.action NOT IN (com.clienthub.domain.enums.AuditAction.ANCHOR_SUCCESS,
+                                   com.clienthub.domain.enums.AuditAction.ANCHOR_FAILED)
+            GROUP BY a.tenantId
             """)
-    Optional<Instant> findOldestUnassignedCreatedAt(
-            @Param("excludedActions") Collection<AuditAction> excludedActions);
+    List<AuditAnchorBacklog> findAnchoringBacklogByTenant();
 
     @Query("""
             SELECT COUNT(a) FROM AuditLog a
-            WHERE a.action NOT IN :excludedActions
-              AND NOT EXISTS (
-                SELECT m.id FROM AuditAnchorMember m WHERE m.auditLogId = a.id
-              )
+            WHERE a.anchorStatus = com.clienthub.domain.enums.AuditRecordAnchorStatus.WAITING
+              AND a.action NOT IN (com.clienthub.domain.enums.AuditAction.ANCHOR_SUCCESS,
+                                   com.clienthub.domain.enums.AuditAction.ANCHOR_FAILED)
             """)
-    long countUnassignedForAnchoring(@Param("excludedActions") Collection<AuditAction> excludedActions);
+    long countUnassignedForAnchoring();
+
+    @Modifying
+    @Query(value = """
+            UPDATE audit_logs SET anchor_status = :anchorStatus
+            WHERE id IN (SELECT m.audit_log_id FROM audit_anchor_members m WHERE m.batch_id = :batchId)
+            """, nativeQuery = true)
+    int updateAnchorStatusForBatch(@Param("batchId") UUID batchId, @Param("anchorStatus") String anchorStatus);
 
     @Query("""
             SELECT COUNT(a) FROM AuditLog a
@@ -0,0 +1,7 @@
+package com.clienthub.domain.repository;
+
+import com.clienthub.domain.entity.BlockchainCursor;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface BlockchainCursorRepository extends JpaRepository<BlockchainCursor, String> {
+}
@@ -11,6 +11,7 @@ import org.springframework.stereotype.Repository;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
@@ -26,6 +27,8 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     @EntityGraph(attributePaths = {"author", "thread"})
     Optional<Comment> findById(Long id);
 
+    boolean existsByThreadIdAndAuthorIdAndTenantId(Long threadId, UUID authorId, String tenantId);
+
     @Query("""
             SELECT c FROM Comment c
             JOIN FETCH c.author
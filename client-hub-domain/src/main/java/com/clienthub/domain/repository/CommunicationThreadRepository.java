@@ -2,7 +2,12 @@ package com.clienthub.domain.repository;
 
 import com.clienthub.domain.enums.CommentTargetType;
 import com.clienthub.domain.entity.CommunicationThread;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -17,6 +22,17 @@ public interface CommunicationThreadRepository extends JpaRepository<Communicati
 
     long countByTenantId(String tenantId);
 
-    @org.springframework.data.jpa.repository.Query("SELECT COUNT(t) FROM CommunicationThread t WHERE t.tenantId = :tenantId AND (SELECT COUNT(DISTINCT c.author.id) FROM Comment c WHERE c.thread = t) >= 2")
-    long countThreadsWithMultipleParticipantsByTenantId(@org.springframework.data.repository.query.Param("tenantId") String tenantId);
+    /** Locks the thread row so posts and deletes on one thread maintain its participant count one at a time. */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM CommunicationThread t WHERE t.id = :threadId")
+    Optional<CommunicationThread> findByIdForUpdate(@Param("threadId") Long threadId);
+
+    /** The literal threshold matches the predicate of the partial index {@code idx_thread_tenant_responded}. */
+    @Query("SELECT COUNT(t) FROM CommunicationThread t WHERE t.tenantId = :tenantId AND t.distinctParticipantCount >= 2")
+    long countThreadsWithMultipleParticipantsByTenantId(@Param("tenantId") String tenantId);
+
+    @Modifying
+    @Query("UPDATE CommunicationThread t SET t.distinctParticipantCount = t.distinctParticipantCount + :delta " +
+            "WHERE t.id = :threadId")
+    int adjustDistinctParticipantCount(@Param("threadId") Long threadId, @Param("delta") int delta);
 }
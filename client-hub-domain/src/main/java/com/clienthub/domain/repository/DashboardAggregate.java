@@ -0,0 +1,9 @@
+package com.clienthub.domain.repository;
+
+import java.math.BigInteger;
+
+/**
+ * Landing-page totals for one user, read in a single statement.
+ */
+public record DashboardAggregate(long activeProjects, long pendingTasks, BigInteger awaitingPayment) {
+}
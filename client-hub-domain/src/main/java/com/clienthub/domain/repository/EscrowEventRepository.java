@@ -0,0 +1,14 @@
+package com.clienthub.domain.repository;
+
+import com.clienthub.domain.entity.EscrowEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import java.math.BigInteger;
+import java.util.Optional;
+
+public interface EscrowEventRepository extends JpaRepository<EscrowEvent, Long> {
+    Optional<EscrowEvent> findFirstByContractAddressAndInvoiceIdAndTopicOrderByBlockNumberDescLogIndexDesc(
+            String contractAddress, Long invoiceId, String topic);
+
+    boolean existsByContractAddressAndInvoiceIdAndTopicAndBlockNumberAndLogIndex(
+            String contractAddress, Long invoiceId, String topic, BigInteger blockNumber, int logIndex);
+}
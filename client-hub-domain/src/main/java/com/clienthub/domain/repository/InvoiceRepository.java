@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -25,14 +26,26 @@ public interface InvoiceRepository extends JpaRepository<Invoice, Long> {
             @Param("tenantId") String tenantId
     );
     
+    @Query("""
+            SELECT i.id FROM Invoice i
+            WHERE i.paymentMethod = :paymentMethod
+              AND i.status NOT IN :statuses
+            """)
+    List<Long> findSystemCryptoInvoiceIdsByPaymentMethodAndStatusNotIn(
+            @Param("paymentMethod") PaymentMethod paymentMethod,
+            @Param("statuses") List<InvoiceStatus> statuses
+    );
+
     @Query("""
             SELECT DISTINCT i FROM Invoice i
             JOIN FETCH i.client
             JOIN FETCH i.freelancer
-            WHERE i.paymentMethod = :paymentMethod
+            WHERE i.id IN :ids
+              AND i.paymentMethod = :paymentMethod
               AND i.status NOT IN :statuses
             """)
-    List<Invoice> findSystemCryptoInvoicesByPaymentMethodAndStatusNotIn(
+    List<Invoice> findSystemCryptoInvoicesByIdInAndPaymentMethodAndStatusNotIn(
+            @Param("ids") Collection<Long> ids,
             @Param("paymentMethod") PaymentMethod paymentMethod,
             @Param("statuses") List<InvoiceStatus> statuses
     );
@@ -67,28 +80,6 @@ public interface InvoiceRepository extends JpaRepository<Invoice, Long> {
     long countByTenantIdAndStatus(String tenantId, InvoiceStatus status);
     long countByTenantIdAndStatusNot(String tenantId, InvoiceStatus status);
 
-    @Query("SELECT COALESCE(SUM(i.amount), 0) FROM Invoice i WHERE i.tenantId = :tenantId AND i.status IN :statuses")
-    java.math.BigDecimal sumAmountByTenantIdAndStatuses(
-            @Param("tenantId") String tenantId,
-            @Param("statuses") java.util.List<InvoiceStatus> statuses
-    );
-
-    @Query("SELECT COALESCE(SUM(i.amount), 0) FROM Invoice i " +
-            "WHERE i.tenantId = :tenantId AND i.client.id = :userId AND i.status IN :statuses")
-    java.math.BigDecimal sumAmountByTenantIdAndClientIdAndStatuses(
-            @Param("tenantId") String tenantId,
-            @Param("userId") UUID userId,
-            @Param("statuses") java.util.List<InvoiceStatus> statuses
-    );
-
-    @Query("SELECT COALESCE(SUM(i.amount), 0) FROM Invoice i " +
-            "WHERE i.tenantId = :tenantId AND i.freelancer.id = :userId AND i.status IN :statuses")
-    java.math.BigDecimal sumAmountByTenantIdAndFreelancerIdAndStatuses(
-            @Param("tenantId") String tenantId,
-            @Param("userId") UUID userId,
-            @Param("statuses") java.util.List<InvoiceStatus> statuses
-    );
-
     @Query("SELECT COALESCE(SUM(i.amount), 0) FROM Invoice i WHERE i.status IN :statuses")
     java.math.BigDecimal sumAmountByStatuses(
             @Param("statuses") java.util.List<InvoiceStatus> statuses
@@ -0,0 +1,7 @@
+package com.clienthub.domain.repository;
+
+import com.clienthub.domain.entity.IpfsPin;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface IpfsPinRepository extends JpaRepository<IpfsPin, String> {
+}
@@ -0,0 +1,44 @@
+package com.clienthub.domain.repository;
+
+import com.clienthub.domain.entity.SbtMintOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface SbtMintOutboxRepository extends JpaRepository<SbtMintOutbox, Long> {
+    boolean existsByInvoiceId(Long invoiceId);
+
+    /** Queues a mint unless the invoice already has one; returns 0 instead of failing the caller on a duplicate. */
+    @Modifying
+    @Query(value = """
+            INSERT INTO sbt_mint_outbox (tenant_id, invoice_id, certificate_id, status, attempts, next_attempt_at, created_at)
+            VALUES (:tenantId, :invoiceId, :certificateId, 'PENDING', 0, :now, :now)
+            ON CONFLICT (invoice_id) DO NOTHING
+            """, nativeQuery = true)
+    int enqueue(@Param("tenantId") String tenantId,
+                @Param("invoiceId") Long invoiceId,
+                @Param("certificateId") Long certificateId,
+                @Param("now") Instant now);
+
+    @Query(value = """
+            SELECT o.* FROM sbt_mint_outbox o
+            WHERE o.status = 'PENDING'
+              AND o.next_attempt_at <= :now
+            ORDER BY o.next_attempt_at ASC, o.id ASC
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<SbtMintOutbox> findDueForUpdate(@Param("now") Instant now, @Param("limit") int limit);
+
+    /** Pushes a claimed row's lease out while its mint is still running, so no other worker claims it meanwhile. */
+    @Modifying
+    @Query("""
+            UPDATE SbtMintOutbox o SET o.nextAttemptAt = :until
+            WHERE o.id = :id AND o.status = com.clienthub.domain.enums.SbtMintStatus.PENDING
+            """)
+    int extendLease(@Param("id") Long id, @Param("until") Instant until);
+}
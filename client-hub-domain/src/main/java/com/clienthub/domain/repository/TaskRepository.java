@@ -58,18 +58,6 @@ public interface TaskRepository extends JpaRepository<Task, UUID>, JpaSpecificat
 
     long countByTenantIdAndStatusIn(String tenantId, java.util.List<TaskStatus> statuses);
 
-    @Query("""
-            SELECT COUNT(t) FROM Task t
-            WHERE t.tenantId = :tenantId
-              AND t.project.owner.id = :clientId
-              AND t.status IN :statuses
-            """)
-    long countByProjectOwnerIdAndTenantIdAndStatusIn(
-            @Param("clientId") UUID clientId,
-            @Param("tenantId") String tenantId,
-            @Param("statuses") List<TaskStatus> statuses
-    );
-
     @Query("SELECT COUNT(t) FROM Task t WHERE t.project.id = :projectId AND t.tenantId = :tenantId")
     long countByProjectIdAndTenantId(@Param("projectId") UUID projectId, @Param("tenantId") String tenantId);
 
@@ -98,11 +86,4 @@ public interface TaskRepository extends JpaRepository<Task, UUID>, JpaSpecificat
             @Param("tenantId") String tenantId,
             Pageable pageable
     );
-
-    @Query("SELECT COUNT(t) FROM Task t WHERE t.assignedTo.id = :userId AND t.tenantId = :tenantId AND t.status IN :statuses")
-    long countByAssignedToIdAndTenantIdAndStatusIn(
-            @Param("userId") UUID userId,
-            @Param("tenantId") String tenantId,
-            @Param("statuses") java.util.List<TaskStatus> statuses
-    );
 }
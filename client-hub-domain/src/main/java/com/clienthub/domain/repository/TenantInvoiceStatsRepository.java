@@ -0,0 +1,59 @@
+package com.clienthub.domain.repository;
+
+import com.clienthub.domain.entity.TenantInvoiceStats;
+import com.clienthub.domain.entity.TenantInvoiceStatsId;
+import com.clienthub.domain.enums.InvoiceStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Repository
+public interface TenantInvoiceStatsRepository extends JpaRepository<TenantInvoiceStats, TenantInvoiceStatsId> {
+
+    List<TenantInvoiceStats> findByIdTenantId(String tenantId);
+
+    @Query("SELECT COALESCE(SUM(s.invoiceCount), 0) FROM TenantInvoiceStats s")
+    long sumInvoiceCount();
+
+    @Query("SELECT COALESCE(SUM(s.invoiceCount), 0) FROM TenantInvoiceStats s WHERE s.id.status NOT IN :statuses")
+    long sumInvoiceCountByStatusNotIn(@Param("statuses") List<InvoiceStatus> statuses);
+
+    @Query("SELECT COALESCE(SUM(s.amountTotal), 0) FROM TenantInvoiceStats s WHERE s.id.status IN :statuses")
+    BigDecimal sumAmountByStatuses(@Param("statuses") List<InvoiceStatus> statuses);
+
+    /**
+     * Blocks the invoice triggers until the surrounding transaction ends, so a verification pass compares the
+     * counters against a settled set of invoices.
+     */
+    @Modifying
+    @Query(value = "LOCK TABLE tenant_invoice_stats IN SHARE ROW EXCLUSIVE MODE", nativeQuery = true)
+    void lockForVerification();
+
+    @Modifying(clearAutomatically = true)
+    @Query(value = """
+            DELETE FROM tenant_invoice_stats s
+            WHERE NOT EXISTS (
+                SELECT 1 FROM invoices i WHERE i.tenant_id = s.tenant_id AND i.status = s.status
+            )
+              AND (s.invoice_count <> 0 OR s.amount_total <> 0)
+            """, nativeQuery = true)
+    int clearStatsWithoutInvoices();
+
+    @Modifying(clearAutomatically = true)
+    @Query(value = """
+            INSERT INTO tenant_invoice_stats (tenant_id, status, invoice_count, amount_total)
+            SELECT tenant_id, status, COUNT(*), SUM(amount) FROM invoices GROUP BY tenant_id, status
+            ON CONFLICT (tenant_id, status) DO UPDATE
+            SET invoice_count = EXCLUDED.invoice_count,
+                amount_total = EXCLUDED.amount_total,
+                updated_at = CURRENT_TIMESTAMP
+            WHERE tenant_invoice_stats.invoice_count <> EXCLUDED.invoice_count
+               OR tenant_invoice_stats.amount_total <> EXCLUDED.amount_total
+            """, nativeQuery = true)
+    int reconcileStatsWithInvoices();
+}
@@ -1,7 +1,10 @@
 package com.clienthub.domain.repository;
 
 import com.clienthub.domain.entity.User;
+import com.clienthub.domain.enums.InvoiceStatus;
+import com.clienthub.domain.enums.ProjectStatus;
 import com.clienthub.domain.enums.Role;
+import com.clienthub.domain.enums.TaskStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -76,4 +79,64 @@ public interface UserRepository extends JpaRepository<User, UUID>,
             @Param("keyword") String keyword,
             Pageable pageable
     );
+
+    // Dashboard totals, one statement per role. Selecting from the actor's own row keeps an unknown or cross-tenant
+    // actor non-disclosing: the result is simply empty.
+    @Query("""
+            SELECT new com.clienthub.domain.repository.DashboardAggregate(
+                (SELECT COUNT(p) FROM Project p
+                    WHERE p.owner.id = u.id AND p.tenantId = u.tenantId AND p.status IN :projectStatuses),
+                (SELECT COUNT(t) FROM Task t
+                    WHERE t.project.owner.id = u.id AND t.tenantId = u.tenantId AND t.status IN :taskStatuses),
+                (SELECT COALESCE(SUM(i.amount), 0) FROM Invoice i
+                    WHERE i.client.id = u.id AND i.tenantId = u.tenantId AND i.status IN :invoiceStatuses))
+            FROM User u
+            WHERE u.id = :userId AND u.tenantId = :tenantId
+    """)
+    Optional<DashboardAggregate> findClientDashboard(
+            @Param("userId") UUID userId,
+            @Param("tenantId") String tenantId,
+            @Param("projectStatuses") List<ProjectStatus> projectStatuses,
+            @Param("taskStatuses") List<TaskStatus> taskStatuses,
+            @Param("invoiceStatuses") List<InvoiceStatus> invoiceStatuses
+    );
+
+    @Query("""
+            SELECT new com.clienthub.domain.repository.DashboardAggregate(
+                (SELECT COUNT(p) FROM Project p JOIN ProjectMember pm ON pm.id.projectId = p.id
+                    WHERE pm.id.userId = u.id AND pm.tenantId = u.tenantId
+                        AND p.tenantId = u.tenantId AND p.status IN :projectStatuses),
+                (SELECT COUNT(t) FROM Task t
+                    WHERE t.assignedTo.id = u.id AND t.tenantId = u.tenantId AND t.status IN :taskStatuses),
+                (SELECT COALESCE(SUM(i.amount), 0) FROM Invoice i
+                    WHERE i.freelancer.id = u.id AND i.tenantId = u.tenantId AND i.status IN :invoiceStatuses))
+            FROM User u
+            WHERE u.id = :userId AND u.tenantId = :tenantId
+    """)
+    Optional<DashboardAggregate> findFreelancerDashboard(
+            @Param("userId") UUID userId,
+            @Param("tenantId") String tenantId,
+            @Param("projectStatuses") List<ProjectStatus> projectStatuses,
+            @Param("taskStatuses") List<TaskStatus> taskStatuses,
+            @Param("invoiceStatuses") List<InvoiceStatus> invoiceStatuses
+    );
+
+    @Query("""
+            SELECT new com.clienthub.domain.repository.DashboardAggregate(
+                (SELECT COUNT(p) FROM Project p
+                    WHERE p.tenantId = u.tenantId AND p.status IN :projectStatuses),
+                (SELECT COUNT(t) FROM Task t
+                    WHERE t.tenantId = u.tenantId AND t.status IN :taskStatuses),
+                (SELECT COALESCE(SUM(i.amount), 0) FROM Invoice i
+                    WHERE i.tenantId = u.tenantId AND i.status IN :invoiceStatuses))
+            FROM User u
+            WHERE u.id = :userId AND u.tenantId = :tenantId
+    """)
+    Optional<DashboardAggregate> findAdminDashboard(
+            @Param("userId") UUID userId,
+            @Param("tenantId") String tenantId,
+            @Param("projectStatuses") List<ProjectStatus> projectStatuses,
+            @Param("taskStatuses") List<TaskStatus> taskStatuses,
+            @Param("invoiceStatuses") List<InvoiceStatus> invoiceStatuses
+    );
 }
@@ -0,0 +1,81 @@
+package com.clienthub.domain.repository;
+
+import com.clienthub.common.context.TenantContext;
+import com.clienthub.domain.entity.AuditLog;
+import com.clienthub.domain.enums.AuditAction;
+import com.clienthub.domain.enums.AuditEventCategory;
+import com.clienthub.domain.enums.AuditEventSeverity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ContextConfiguration(classes = TestJpaConfig.class)
+class AuditLogRepositoryTest {
+
+    private static final String TENANT_1 = "tenant-1";
+
+    @Autowired
+    private AuditLogRepository auditLogRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        TenantContext.setTenantId(TENANT_1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TenantContext.clear();
+    }
+
+    @Test
+    @DisplayName("Feed category and severity are stored when the record is written")
+    void save_ShouldStoreEventClassification() {
+        AuditLog failedLogin = auditLogRepository.save(auditLog(AuditAction.LOGIN_FAILED, "USER"));
+        AuditLog projectCreated = auditLogRepository.save(auditLog(AuditAction.CREATE, "Project"));
+        AuditLog invoiceUpdated = auditLogRepository.save(auditLog(AuditAction.UPDATE, "INVOICE"));
+        auditLogRepository.save(auditLog(AuditAction.UPDATE, "Comment"));
+        entityManager.flush();
+        entityManager.clear();
+
+        List<AuditLog> auth = auditLogRepository.findAll(
+                categoryIs(AuditEventCategory.AUTH).and(severityIs(AuditEventSeverity.CRITICAL)));
+        assertEquals(List.of(failedLogin.getId()), auth.stream().map(AuditLog::getId).toList());
+
+        AuditLog project = auditLogRepository.findById(projectCreated.getId()).orElseThrow();
+        assertEquals(AuditEventCategory.PROJECT, project.getEventCategory());
+        assertEquals(AuditEventSeverity.SUCCESS, project.getEventSeverity());
+        assertEquals(AuditEventCategory.INVOICE,
+                auditLogRepository.findById(invoiceUpdated.getId()).orElseThrow().getEventCategory());
+        assertEquals(1, auditLogRepository.findAll(categoryIs(AuditEventCategory.AUDIT)).size());
+    }
+
+    private static Specification<AuditLog> categoryIs(AuditEventCategory category) {
+        return (root, query, cb) -> cb.equal(root.get("eventCategory"), category);
+    }
+
+    private static Specification<AuditLog> severityIs(AuditEventSeverity severity) {
+        return (root, query, cb) -> cb.equal(root.get("eventSeverity"), severity);
+    }
+
+    private static AuditLog auditLog(AuditAction action, String entityType) {
+        return new AuditLog(TENANT_1, null, "admin@test.com", "ADMIN", action,
+                entityType, "entity-1", null, null, "127.0.0.1", "hash");
+    }
+}
@@ -0,0 +1,102 @@
+package com.clienthub.domain.repository;
+
+import com.clienthub.common.context.TenantContext;
+import com.clienthub.domain.entity.CommunicationThread;
+import com.clienthub.domain.entity.User;
+import com.clienthub.domain.enums.CommentTargetType;
+import com.clienthub.domain.enums.Role;
+import com.clienthub.domain.enums.ThreadStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ContextConfiguration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ContextConfiguration(classes = TestJpaConfig.class)
+class CommunicationThreadRepositoryTest {
+
+    private static final String TENANT_1 = "tenant-1";
+    private static final String TENANT_2 = "tenant-2";
+
+    @Autowired
+    private CommunicationThreadRepository threadRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private User author;
+
+    @BeforeEach
+    void setUp() {
+        TenantContext.setTenantId(TENANT_1);
+        author = new User();
+        author.setTenantId(TENANT_1);
+        author.setEmail("author@tenant1.com");
+        author.setPassword("password");
+        author.setFullName("Thread Author");
+        author.setRole(Role.CLIENT);
+        entityManager.persist(author);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TenantContext.clear();
+    }
+
+    @Test
+    @DisplayName("A thread counts as responded once a second distinct author joins")
+    void countThreadsWithMultipleParticipants_ShouldUseMaintainedCount() {
+        CommunicationThread answered = thread(TENANT_1, "1");
+        CommunicationThread unanswered = thread(TENANT_1, "2");
+        CommunicationThread otherTenant = thread(TENANT_2, "3");
+        entityManager.flush();
+
+        threadRepository.adjustDistinctParticipantCount(answered.getId(), 1);
+        threadRepository.adjustDistinctParticipantCount(answered.getId(), 1);
+        threadRepository.adjustDistinctParticipantCount(unanswered.getId(), 1);
+        threadRepository.adjustDistinctParticipantCount(otherTenant.getId(), 2);
+        entityManager.clear();
+
+        assertEquals(2, threadRepository.findById(answered.getId()).orElseThrow().getDistinctParticipantCount());
+        assertEquals(1L, threadRepository.countThreadsWithMultipleParticipantsByTenantId(TENANT_1));
+
+        threadRepository.adjustDistinctParticipantCount(answered.getId(), -1);
+
+        assertEquals(0L, threadRepository.countThreadsWithMultipleParticipantsByTenantId(TENANT_1));
+        assertEquals(3L, threadRepository.countByTenantId(TENANT_1) + threadRepository.countByTenantId(TENANT_2));
+    }
+
+    @Test
+    @DisplayName("A thread can be read under a row lock before its participant count is adjusted")
+    void findByIdForUpdate_ShouldReturnTheLockedThread() {
+        CommunicationThread thread = thread(TENANT_1, "1");
+        entityManager.flush();
+        entityManager.clear();
+
+        CommunicationThread locked = threadRepository.findByIdForUpdate(thread.getId()).orElseThrow();
+
+        assertEquals(thread.getId(), locked.getId());
+        assertTrue(threadRepository.findByIdForUpdate(-1L).isEmpty());
+    }
+
+    private CommunicationThread thread(String tenantId, String targetId) {
+        CommunicationThread thread = new CommunicationThread();
+        thread.setTenantId(tenantId);
+        thread.setTopic("General Discussion");
+        thread.setStatus(ThreadStatus.OPEN);
+        thread.setTargetType(CommentTargetType.PROJECT);
+        thread.setTargetId(targetId);
+        thread.setAuthor(author);
+        entityManager.persist(thread);
+        return thread;
+    }
+}
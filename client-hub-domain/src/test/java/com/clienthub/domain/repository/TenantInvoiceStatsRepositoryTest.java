@@ -0,0 +1,87 @@
+package com.clienthub.domain.repository;
+
+import com.clienthub.common.context.TenantContext;
+import com.clienthub.domain.entity.TenantInvoiceStats;
+import com.clienthub.domain.enums.InvoiceStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ContextConfiguration(classes = TestJpaConfig.class)
+class TenantInvoiceStatsRepositoryTest {
+
+    private static final String TENANT_1 = "tenant-1";
+    private static final String TENANT_2 = "tenant-2";
+
+    @Autowired
+    private TenantInvoiceStatsRepository tenantInvoiceStatsRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        TenantContext.setTenantId(TENANT_1);
+        insertStats(TENANT_1, InvoiceStatus.PAID, 3, 700);
+        insertStats(TENANT_1, InvoiceStatus.SENT, 2, 300);
+        insertStats(TENANT_1, InvoiceStatus.DRAFT, 1, 50);
+        insertStats(TENANT_2, InvoiceStatus.PAID, 1, 100);
+        insertStats(TENANT_2, InvoiceStatus.REFUNDED, 4, 400);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TenantContext.clear();
+    }
+
+    @Test
+    @DisplayName("Tenant counters are read per status without touching invoices")
+    void findByIdTenantId_ShouldReturnTenantCounters() {
+        Map<InvoiceStatus, TenantInvoiceStats> stats = tenantInvoiceStatsRepository.findByIdTenantId(TENANT_1)
+                .stream()
+                .collect(Collectors.toMap(row -> row.getId().getStatus(), row -> row));
+
+        assertEquals(3, stats.size());
+        assertEquals(3L, stats.get(InvoiceStatus.PAID).getInvoiceCount());
+        assertEquals(BigInteger.valueOf(300), stats.get(InvoiceStatus.SENT).getAmountTotal());
+    }
+
+    @Test
+    @DisplayName("Platform totals are sums over the counters")
+    void platformSums_ShouldAggregateCounters() {
+        assertEquals(0, BigDecimal.valueOf(800)
+                .compareTo(tenantInvoiceStatsRepository.sumAmountByStatuses(List.of(InvoiceStatus.PAID))));
+        assertEquals(3L, tenantInvoiceStatsRepository.sumInvoiceCountByStatusNotIn(
+                List.of(InvoiceStatus.PAID, InvoiceStatus.REFUNDED)));
+        assertEquals(11L, tenantInvoiceStatsRepository.sumInvoiceCount());
+    }
+
+    private void insertStats(String tenantId, InvoiceStatus status, long count, long amount) {
+        entityManager.createNativeQuery("""
+                        INSERT INTO tenant_invoice_stats (tenant_id, status, invoice_count, amount_total, updated_at)
+                        VALUES (:tenantId, :status, :count, :amount, CURRENT_TIMESTAMP)
+                        """)
+                .setParameter("tenantId", tenantId)
+                .setParameter("status", status.name())
+                .setParameter("count", count)
+                .setParameter("amount", BigInteger.valueOf(amount))
+                .executeUpdate();
+    }
+}
@@ -0,0 +1,175 @@
+package com.clienthub.domain.repository;
+
+import com.clienthub.common.context.TenantContext;
+import com.clienthub.domain.entity.Invoice;
+import com.clienthub.domain.entity.Project;
+import com.clienthub.domain.entity.ProjectMember;
+import com.clienthub.domain.entity.ProjectMemberId;
+import com.clienthub.domain.entity.Task;
+import com.clienthub.domain.entity.User;
+import com.clienthub.domain.enums.InvoiceStatus;
+import com.clienthub.domain.enums.ProjectStatus;
+import com.clienthub.domain.enums.Role;
+import com.clienthub.domain.enums.TaskPriority;
+import com.clienthub.domain.enums.TaskStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ContextConfiguration(classes = TestJpaConfig.class)
+class UserRepositoryTest {
+
+    private static final String TENANT_1 = "tenant-1";
+    private static final String TENANT_2 = "tenant-2";
+    private static final List<ProjectStatus> ACTIVE_PROJECTS =
+            List.of(ProjectStatus.PLANNING, ProjectStatus.IN_PROGRESS);
+    private static final List<TaskStatus> PENDING_TASKS = List.of(TaskStatus.TODO, TaskStatus.IN_PROGRESS);
+    private static final List<InvoiceStatus> AWAITING_PAYMENT = List.of(InvoiceStatus.SENT);
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private User client;
+    private User freelancer;
+    private User admin;
+
+    @BeforeEach
+    void setUp() {
+        TenantContext.setTenantId(TENANT_1);
+        client = persist(user("client@tenant1.com", Role.CLIENT));
+        freelancer = persist(user("freelancer@tenant1.com", Role.FREELANCER));
+        admin = persist(user("admin@tenant1.com", Role.ADMIN));
+
+        Project active = persist(new Project(TENANT_1, "Active", "Description", null,
+                ProjectStatus.IN_PROGRESS, null, client));
+        Project done = new Project(TENANT_1, "Done", "Description", null, ProjectStatus.COMPLETED, null, client);
+        done.setStatus(ProjectStatus.COMPLETED);
+        persist(done);
+        ProjectMember member = new ProjectMember();
+        member.setId(new ProjectMemberId(active.getId(), freelancer.getId()));
+        member.setProject(active);
+        member.setUser(freelancer);
+        member.setTenantId(TENANT_1);
+        persist(member);
+
+        persist(task(active, TaskStatus.TODO, freelancer));
+        persist(task(active, TaskStatus.IN_PROGRESS, null));
+        persist(task(active, TaskStatus.DONE, freelancer));
+
+        persist(invoice(active, InvoiceStatus.SENT, 150));
+        persist(invoice(active, InvoiceStatus.SENT, 50));
+        persist(invoice(active, InvoiceStatus.PAID, 1000));
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TenantContext.clear();
+    }
+
+    @Test
+    @DisplayName("Client dashboard totals come back from one statement")
+    void findClientDashboard_ShouldAggregateOwnedWork() {
+        DashboardAggregate totals = userRepository.findClientDashboard(
+                client.getId(), TENANT_1, ACTIVE_PROJECTS, PENDING_TASKS, AWAITING_PAYMENT).orElseThrow();
+
+        assertEquals(1L, totals.activeProjects());
+        assertEquals(2L, totals.pendingTasks());
+        assertEquals(BigInteger.valueOf(200), totals.awaitingPayment());
+    }
+
+    @Test
+    @DisplayName("Freelancer dashboard counts member projects and assigned tasks")
+    void findFreelancerDashboard_ShouldAggregateMemberWork() {
+        DashboardAggregate totals = userRepository.findFreelancerDashboard(
+                freelancer.getId(), TENANT_1, ACTIVE_PROJECTS, PENDING_TASKS, AWAITING_PAYMENT).orElseThrow();
+
+        assertEquals(1L, totals.activeProjects());
+        assertEquals(1L, totals.pendingTasks());
+        assertEquals(BigInteger.valueOf(200), totals.awaitingPayment());
+    }
+
+    @Test
+    @DisplayName("Admin dashboard is tenant-wide and empty totals are zero")
+    void findAdminDashboard_ShouldAggregateTenant() {
+        DashboardAggregate totals = userRepository.findAdminDashboard(
+                admin.getId(), TENANT_1, ACTIVE_PROJECTS, PENDING_TASKS, List.of(InvoiceStatus.OVERDUE)).orElseThrow();
+
+        assertEquals(1L, totals.activeProjects());
+        assertEquals(2L, totals.pendingTasks());
+        assertEquals(BigInteger.ZERO, totals.awaitingPayment());
+    }
+
+    @Test
+    @DisplayName("Dashboard for an actor of another tenant is empty")
+    void findClientDashboard_ShouldIsolateTenants() {
+        Optional<DashboardAggregate> totals = userRepository.findClientDashboard(
+                client.getId(), TENANT_2, ACTIVE_PROJECTS, PENDING_TASKS, AWAITING_PAYMENT);
+
+        assertTrue(totals.isEmpty());
+    }
+
+    private <T> T persist(T entity) {
+        entityManager.persist(entity);
+        return entity;
+    }
+
+    private User user(String email, Role role) {
+        User user = new User();
+        user.setTenantId(TENANT_1);
+        user.setEmail(email);
+        user.setPassword("password");
+        user.setFullName("Test User");
+        user.setRole(role);
+        return user;
+    }
+
+    private Task task(Project project, TaskStatus status, User assignee) {
+        Task task = new Task();
+        task.setTenantId(TENANT_1);
+        task.setTitle("Task " + status);
+        task.setDescription("Test description");
+        task.setProject(project);
+        task.setStatus(status);
+        task.setAssignedTo(assignee);
+        task.setPriority(TaskPriority.MEDIUM);
+        task.setDueDate(LocalDateTime.now().plusDays(7));
+        task.setEstimatedHours(8);
+        return task;
+    }
+
+    private Invoice invoice(Project project, InvoiceStatus status, long amount) {
+        Invoice invoice = new Invoice();
+        invoice.setTenantId(TENANT_1);
+        invoice.setTitle("Invoice " + amount);
+        invoice.setAmount(BigInteger.valueOf(amount));
+        invoice.setDueDate(LocalDate.now().plusDays(14));
+        invoice.setStatus(status);
+        invoice.setProject(project);
+        invoice.setClient(client);
+        invoice.setFreelancer(freelancer);
+        return invoice;
+    }
+}
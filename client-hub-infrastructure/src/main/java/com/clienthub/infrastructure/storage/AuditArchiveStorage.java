@@ -0,0 +1,13 @@
+package com.clienthub.infrastructure.storage;
+
+import java.io.InputStream;
+import java.nio.file.Path;
+
+/**
+ * Cold storage for detached audit log partitions.
+ */
+public interface AuditArchiveStorage {
+    void store(String key, Path file);
+
+    InputStream open(String key);
+}
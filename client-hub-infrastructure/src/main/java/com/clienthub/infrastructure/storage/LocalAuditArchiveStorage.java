@@ -0,0 +1,47 @@
+package com.clienthub.infrastructure.storage;
+
+import com.clienthub.infrastructure.exception.FileStorageException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+@Service
+@ConditionalOnProperty(name = "audit.archive.storage", havingValue = "local", matchIfMissing = true)
+public class LocalAuditArchiveStorage implements AuditArchiveStorage {
+
+    @Value("${audit.archive.local_directory:./data/audit-archive}")
+    private String directory;
+
+    @Override
+    public void store(String key, Path file) {
+        try {
+            Path target = resolve(key);
+            Files.createDirectories(target.getParent());
+            Files.copy(file, target, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new FileStorageException("Could not store audit archive " + key, e);
+        }
+    }
+
+    @Override
+    public InputStream open(String key) {
+        try {
+            return Files.newInputStream(resolve(key));
+        } catch (IOException e) {
+            throw new FileStorageException("Could not open audit archive " + key, e);
+        }
+    }
+
+    private Path resolve(String key) {
+        Path root = Path.of(directory).toAbsolutePath().normalize();
+        Path target = root.resolve(key).normalize();
+        if (!target.startsWith(root)) throw new FileStorageException("Invalid audit archive key: " + key);
+        return target;
+    }
+}
@@ -0,0 +1,54 @@
+package com.clienthub.infrastructure.storage;
+
+import com.clienthub.infrastructure.exception.FileStorageException;
+import io.minio.BucketExistsArgs;
+import io.minio.GetObjectArgs;
+import io.minio.MakeBucketArgs;
+import io.minio.MinioClient;
+import io.minio.UploadObjectArgs;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.io.InputStream;
+import java.nio.file.Path;
+
+@Service
+@ConditionalOnProperty(name = "audit.archive.storage", havingValue = "minio")
+public class MinioAuditArchiveStorage implements AuditArchiveStorage {
+
+    private final MinioClient minioClient;
+
+    @Value("${audit.archive.bucket:client-hub-audit-archive}")
+    private String bucketName;
+
+    public MinioAuditArchiveStorage(MinioClient minioClient) {
+        this.minioClient = minioClient;
+    }
+
+    @Override
+    public void store(String key, Path file) {
+        try {
+            if (!minioClient.bucketExists(BucketExistsArgs.builder().bucket(bucketName).build())) {
+                minioClient.makeBucket(MakeBucketArgs.builder().bucket(bucketName).build());
+            }
+            minioClient.uploadObject(UploadObjectArgs.builder()
+                    .bucket(bucketName)
+                    .object(key)
+                    .filename(file.toString())
+                    .contentType("application/gzip")
+                    .build());
+        } catch (Exception e) {
+            throw new FileStorageException("Could not store audit archive " + key, e);
+        }
+    }
+
+    @Override
+    public InputStream open(String key) {
+        try {
+            return minioClient.getObject(GetObjectArgs.builder().bucket(bucketName).object(key).build());
+        } catch (Exception e) {
+            throw new FileStorageException("Could not open audit archive " + key, e);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+ALTER TABLE audit_logs ADD COLUMN anchor_status VARCHAR(20) NOT NULL DEFAULT 'WAITING';
+
+-- The owner is subject to the forced tenant policy, so lift it while already anchored records are marked.
+ALTER TABLE audit_logs NO FORCE ROW LEVEL SECURITY;
+UPDATE audit_logs a
+SET anchor_status = CASE b.status
+        WHEN 'CONFIRMED' THEN 'VERIFIED'
+        WHEN 'FAILED' THEN 'FAILED'
+        ELSE 'PENDING'
+    END
+FROM audit_anchor_members m
+JOIN audit_anchor_batches b ON b.id = m.batch_id
+WHERE m.audit_log_id = a.id;
+ALTER TABLE audit_logs FORCE ROW LEVEL SECURITY;
+
+-- Only records still waiting for a batch are indexed, so claiming work stays a short range scan.
+CREATE INDEX idx_audit_logs_anchor_waiting
+    ON audit_logs (tenant_id, id)
+    WHERE anchor_status = 'WAITING';
@@ -0,0 +1,127 @@
+-- ============================================================================
+-- Migration: Monthly range partitioning of audit_logs and archive bookkeeping
+-- ============================================================================
+
+-- A partitioned table can only enforce keys that include created_at, so anchor members
+-- keep their own unique audit_log_id instead of a foreign key.
+ALTER TABLE audit_anchor_members DROP CONSTRAINT IF EXISTS audit_anchor_members_audit_log_id_fkey;
+
+ALTER TABLE audit_logs RENAME TO audit_logs_legacy;
+ALTER INDEX IF EXISTS audit_logs_pkey RENAME TO audit_logs_legacy_pkey;
+ALTER INDEX IF EXISTS idx_audit_tenant RENAME TO idx_audit_legacy_tenant;
+ALTER INDEX IF EXISTS idx_audit_entity RENAME TO idx_audit_legacy_entity;
+ALTER INDEX IF EXISTS idx_audit_created_at RENAME TO idx_audit_legacy_created_at;
+ALTER INDEX IF EXISTS idx_audit_logs_anchor_waiting RENAME TO idx_audit_legacy_anchor_waiting;
+
+CREATE TABLE audit_logs (LIKE audit_logs_legacy INCLUDING DEFAULTS) PARTITION BY RANGE (created_at);
+ALTER TABLE audit_logs ADD PRIMARY KEY (id, created_at);
+ALTER SEQUENCE audit_logs_id_seq OWNED BY audit_logs.id;
+
+CREATE INDEX idx_audit_tenant ON audit_logs(tenant_id);
+CREATE INDEX idx_audit_entity ON audit_logs(entity_type, entity_id);
+CREATE INDEX idx_audit_created_at ON audit_logs(created_at);
+CREATE INDEX idx_audit_logs_anchor_waiting
+    ON audit_logs (tenant_id, id)
+    WHERE anchor_status = 'WAITING';
+
+-- Partition DDL runs as the table owner so the restricted application role can maintain partitions.
+CREATE OR REPLACE FUNCTION audit_logs_ensure_partition(p_month DATE)
+RETURNS TEXT
+LANGUAGE plpgsql
+SECURITY DEFINER
+SET search_path = public
+AS $$
+DECLARE
+    v_start DATE := date_trunc('month', p_month)::date;
+    v_name TEXT := format('audit_logs_p%s', to_char(v_start, 'YYYYMM'));
+BEGIN
+    IF to_regclass(v_name) IS NULL THEN
+        EXECUTE format('CREATE TABLE %I PARTITION OF audit_logs FOR VALUES FROM (%L) TO (%L)',
+                v_name, v_start, (v_start + INTERVAL '1 month')::date);
+    END IF;
+    RETURN v_name;
+END $$;
+
+CREATE OR REPLACE FUNCTION audit_logs_detach_partition(p_name TEXT)
+RETURNS VOID
+LANGUAGE plpgsql
+SECURITY DEFINER
+SET search_path = public
+AS $$
+BEGIN
+    IF p_name !~ '^audit_logs_p[0-9]{6}$' THEN
+        RAISE EXCEPTION 'Not an audit log partition: %', p_name;
+    END IF;
+    IF EXISTS (SELECT 1 FROM pg_inherits WHERE inhrelid = to_regclass(p_name)) THEN
+        EXECUTE format('ALTER TABLE audit_logs DETACH PARTITION %I', p_name);
+    END IF;
+END $$;
+
+CREATE OR REPLACE FUNCTION audit_logs_drop_detached_partition(p_name TEXT)
+RETURNS VOID
+LANGUAGE plpgsql
+SECURITY DEFINER
+SET search_path = public
+AS $$
+BEGIN
+    IF p_name !~ '^audit_logs_p[0-9]{6}$' THEN
+        RAISE EXCEPTION 'Not an audit log partition: %', p_name;
+    END IF;
+    IF EXISTS (SELECT 1 FROM pg_inherits WHERE inhrelid = to_regclass(p_name)) THEN
+        RAISE EXCEPTION 'Partition % is still attached', p_name;
+    END IF;
+    EXECUTE format('DROP TABLE IF EXISTS %I', p_name);
+END $$;
+
+DO $$
+DECLARE
+    v_month DATE := date_trunc('month', COALESCE((SELECT MIN(created_at) FROM audit_logs_legacy), NOW()))::date;
+BEGIN
+    WHILE v_month <= (date_trunc('month', NOW()) + INTERVAL '3 months')::date LOOP
+        PERFORM audit_logs_ensure_partition(v_month);
+        v_month := (v_month + INTERVAL '1 month')::date;
+    END LOOP;
+END $$;
+
+-- Catches rows outside every monthly range; the maintenance job keeps future months created so it stays empty.
+CREATE TABLE audit_logs_default PARTITION OF audit_logs DEFAULT;
+
+-- The owner is subject to the forced tenant policy, so lift it while the history is copied. The new table has no
+-- policy yet. The legacy table is only dropped once every row has arrived.
+ALTER TABLE audit_logs_legacy NO FORCE ROW LEVEL SECURITY;
+INSERT INTO audit_logs SELECT * FROM audit_logs_legacy;
+DO $$
+DECLARE
+    v_legacy BIGINT := (SELECT COUNT(*) FROM audit_logs_legacy);
+    v_copied BIGINT := (SELECT COUNT(*) FROM audit_logs);
+BEGIN
+    IF v_copied <> v_legacy THEN
+        RAISE EXCEPTION 'audit_logs copy is incomplete: % of % rows', v_copied, v_legacy;
+    END IF;
+END $$;
+ALTER TABLE audit_logs_legacy FORCE ROW LEVEL SECURITY;
+DROP TABLE audit_logs_legacy;
+
+ALTER TABLE audit_logs ENABLE ROW LEVEL SECURITY;
+ALTER TABLE audit_logs FORCE ROW LEVEL SECURITY;
+CREATE POLICY tenant_isolation_policy ON audit_logs
+    FOR ALL
+    USING (tenant_id = current_setting('app.current_tenant', true))
+    WITH CHECK (tenant_id = current_setting('app.current_tenant', true));
+
+CREATE TABLE audit_log_archives (
+    id BIGSERIAL PRIMARY KEY,
+    partition_name VARCHAR(63) NOT NULL UNIQUE,
+    range_start TIMESTAMP WITH TIME ZONE NOT NULL,
+    range_end TIMESTAMP WITH TIME ZONE NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    record_count BIGINT NOT NULL DEFAULT 0,
+    first_log_id BIGINT,
+    last_log_id BIGINT,
+    storage_key VARCHAR(500),
+    sha256 VARCHAR(64),
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    archived_at TIMESTAMP WITH TIME ZONE
+);
+
+CREATE INDEX idx_audit_log_archives_log_range ON audit_log_archives(first_log_id, last_log_id);
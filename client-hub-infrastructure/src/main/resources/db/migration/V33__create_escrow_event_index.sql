@@ -0,0 +1,24 @@
+-- ============================================================================
+-- Migration: Local index of escrow contract events and persisted block cursors
+-- ============================================================================
+
+CREATE TABLE escrow_events (
+    id BIGSERIAL PRIMARY KEY,
+    contract_address VARCHAR(42) NOT NULL,
+    invoice_id BIGINT NOT NULL,
+    topic VARCHAR(66) NOT NULL,
+    block_number NUMERIC(78, 0) NOT NULL,
+    log_index INTEGER NOT NULL,
+    transaction_hash VARCHAR(66) NOT NULL,
+    block_hash VARCHAR(66),
+    indexed_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    -- Also serves the latest-event lookup per invoice and topic, scanned backwards.
+    CONSTRAINT uq_escrow_events_log UNIQUE (contract_address, invoice_id, topic, block_number, log_index)
+);
+
+CREATE TABLE blockchain_cursors (
+    name VARCHAR(120) PRIMARY KEY,
+    block_number NUMERIC(78, 0) NOT NULL,
+    log_index INTEGER NOT NULL DEFAULT -1,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
@@ -0,0 +1,23 @@
+-- Certificates are created as PENDING when an invoice is paid and completed by the mint worker.
+ALTER TABLE certificates ADD COLUMN status VARCHAR(20) NOT NULL DEFAULT 'MINTED';
+ALTER TABLE certificates ALTER COLUMN token_id DROP NOT NULL;
+ALTER TABLE certificates ALTER COLUMN metadata_uri DROP NOT NULL;
+ALTER TABLE certificates ALTER COLUMN transaction_hash DROP NOT NULL;
+ALTER TABLE certificates ALTER COLUMN minted_at DROP NOT NULL;
+ALTER TABLE certificates ALTER COLUMN minted_at DROP DEFAULT;
+
+CREATE TABLE sbt_mint_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    tenant_id VARCHAR(255) NOT NULL,
+    invoice_id BIGINT NOT NULL,
+    certificate_id BIGINT NOT NULL REFERENCES certificates(id) ON DELETE CASCADE,
+    status VARCHAR(20) NOT NULL,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    last_error VARCHAR(2000),
+    next_attempt_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    completed_at TIMESTAMP WITH TIME ZONE,
+    CONSTRAINT uq_sbt_mint_outbox_invoice UNIQUE (invoice_id)
+);
+
+CREATE INDEX idx_sbt_mint_outbox_due ON sbt_mint_outbox(status, next_attempt_at);
@@ -0,0 +1,7 @@
+-- Content-addressed record of documents already pinned to IPFS, keyed by the SHA-256 of their canonical JSON.
+CREATE TABLE ipfs_pins (
+    content_hash VARCHAR(64) PRIMARY KEY,
+    cid VARCHAR(255) NOT NULL,
+    size_bytes INTEGER NOT NULL,
+    pinned_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
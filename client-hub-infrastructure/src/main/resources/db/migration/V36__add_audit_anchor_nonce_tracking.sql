@@ -0,0 +1,6 @@
+-- Nonce and gas price of the anchoring transaction, so a stuck transaction can be replaced at the same nonce.
+ALTER TABLE audit_anchor_batches ADD COLUMN nonce NUMERIC(78, 0);
+ALTER TABLE audit_anchor_batches ADD COLUMN gas_price NUMERIC(78, 0);
+ALTER TABLE audit_anchor_batches ADD COLUMN replaced_transaction_hash VARCHAR(66);
+
+CREATE INDEX idx_audit_anchor_batches_tx ON audit_anchor_batches(transaction_hash);
@@ -0,0 +1,60 @@
+-- Per-tenant invoice counts and amounts by status, kept current by triggers in the same transaction as the invoice
+-- write, so trust score and revenue figures are read without scanning invoices.
+CREATE TABLE tenant_invoice_stats (
+    tenant_id VARCHAR(255) NOT NULL,
+    status VARCHAR(50) NOT NULL,
+    invoice_count BIGINT NOT NULL DEFAULT 0,
+    amount_total NUMERIC(60, 0) NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT pk_tenant_invoice_stats PRIMARY KEY (tenant_id, status)
+);
+
+CREATE OR REPLACE FUNCTION apply_tenant_invoice_stats()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        UPDATE tenant_invoice_stats
+        SET invoice_count = invoice_count - 1,
+            amount_total = amount_total - OLD.amount,
+            updated_at = CURRENT_TIMESTAMP
+        WHERE tenant_id = OLD.tenant_id AND status = OLD.status;
+    END IF;
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        INSERT INTO tenant_invoice_stats (tenant_id, status, invoice_count, amount_total)
+        VALUES (NEW.tenant_id, NEW.status, 1, NEW.amount)
+        ON CONFLICT (tenant_id, status) DO UPDATE
+        SET invoice_count = tenant_invoice_stats.invoice_count + 1,
+            amount_total = tenant_invoice_stats.amount_total + EXCLUDED.amount_total,
+            updated_at = CURRENT_TIMESTAMP;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trigger_invoices_stats_insert_delete
+    AFTER INSERT OR DELETE ON invoices
+    FOR EACH ROW
+    EXECUTE FUNCTION apply_tenant_invoice_stats();
+
+CREATE TRIGGER trigger_invoices_stats_update
+    AFTER UPDATE OF tenant_id, status, amount ON invoices
+    FOR EACH ROW
+    WHEN (OLD.tenant_id IS DISTINCT FROM NEW.tenant_id
+        OR OLD.status IS DISTINCT FROM NEW.status
+        OR OLD.amount IS DISTINCT FROM NEW.amount)
+    EXECUTE FUNCTION apply_tenant_invoice_stats();
+
+-- The owner is subject to the forced tenant policy, so lift it while existing invoices are counted.
+ALTER TABLE invoices NO FORCE ROW LEVEL SECURITY;
+INSERT INTO tenant_invoice_stats (tenant_id, status, invoice_count, amount_total)
+SELECT tenant_id, status, COUNT(*), SUM(amount)
+FROM invoices
+GROUP BY tenant_id, status;
+ALTER TABLE invoices FORCE ROW LEVEL SECURITY;
+
+ALTER TABLE tenant_invoice_stats ENABLE ROW LEVEL SECURITY;
+ALTER TABLE tenant_invoice_stats FORCE ROW LEVEL SECURITY;
+CREATE POLICY tenant_isolation_policy ON tenant_invoice_stats
+FOR ALL
+USING (tenant_id = current_setting('app.current_tenant', true))
+WITH CHECK (tenant_id = current_setting('app.current_tenant', true));
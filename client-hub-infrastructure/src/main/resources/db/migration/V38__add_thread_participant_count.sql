@@ -0,0 +1,21 @@
+-- Distinct authors of a thread's live comments, maintained when a comment is posted or deleted, so the response
+-- rate no longer counts comment authors per thread on every read.
+ALTER TABLE communication_threads ADD COLUMN distinct_participant_count INTEGER NOT NULL DEFAULT 0;
+
+-- The owner is subject to the forced tenant policy, so lift it while existing comments are counted.
+ALTER TABLE communication_threads NO FORCE ROW LEVEL SECURITY;
+ALTER TABLE comments NO FORCE ROW LEVEL SECURITY;
+UPDATE communication_threads t
+SET distinct_participant_count = participants.total
+FROM (
+    SELECT thread_id, COUNT(DISTINCT author_id) AS total
+    FROM comments
+    WHERE is_deleted = false
+    GROUP BY thread_id
+) participants
+WHERE participants.thread_id = t.id;
+ALTER TABLE comments FORCE ROW LEVEL SECURITY;
+ALTER TABLE communication_threads FORCE ROW LEVEL SECURITY;
+
+CREATE INDEX idx_thread_tenant_responded ON communication_threads(tenant_id)
+    WHERE distinct_participant_count >= 2 AND is_deleted = false;
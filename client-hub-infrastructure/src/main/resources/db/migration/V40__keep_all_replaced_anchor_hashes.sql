@@ -0,0 +1,4 @@
+-- Every earlier hash sent at a batch's nonce, oldest first and comma-separated. A transaction can be replaced
+-- several times and any one of them may end up mined, so keeping only the last replaced hash is not enough.
+ALTER TABLE audit_anchor_batches RENAME COLUMN replaced_transaction_hash TO replaced_transaction_hashes;
+ALTER TABLE audit_anchor_batches ALTER COLUMN replaced_transaction_hashes TYPE TEXT;
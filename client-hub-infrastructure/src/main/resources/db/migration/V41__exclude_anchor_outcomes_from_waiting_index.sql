@@ -0,0 +1,7 @@
+-- ANCHOR_SUCCESS and ANCHOR_FAILED rows are never anchored themselves, so they stay WAITING forever and
+-- would otherwise grow this index without end. The predicate matches the anchoring backlog queries.
+DROP INDEX IF EXISTS idx_audit_logs_anchor_waiting;
+CREATE INDEX idx_audit_logs_anchor_waiting
+    ON audit_logs (tenant_id, id)
+    WHERE anchor_status = 'WAITING'
+      AND action NOT IN ('ANCHOR_SUCCESS', 'ANCHOR_FAILED');
@@ -2,7 +2,9 @@ package com.clienthub.web.controller;
 
 import com.clienthub.application.dto.admin.*;
 import com.clienthub.application.dto.analytics.AdminDashboardResponse;
+import com.clienthub.application.exception.ResourceNotFoundException;
 import com.clienthub.application.service.AdminService;
+import com.clienthub.application.service.AuditExportService;
 import com.clienthub.domain.enums.AuditAction;
 import com.clienthub.domain.enums.AuditAnchorBatchStatus;
 import com.clienthub.domain.enums.AuditRecordAnchorStatus;
@@ -10,6 +12,7 @@ import com.clienthub.domain.enums.Role;
 import com.clienthub.web.dto.admin.ForceStatusRequest;
 import com.clienthub.web.dto.admin.UserRoleRequest;
 import com.clienthub.web.dto.admin.UserStatusRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -21,16 +24,26 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import com.clienthub.infrastructure.security.CustomUserDetails;
+import com.clienthub.common.context.TenantContext;
 import com.clienthub.web3.service.AuditAnchorBatchResponse;
 import com.clienthub.web3.service.AuditAnchorService;
+import com.clienthub.web3.service.AuditBulkVerificationService;
 import com.clienthub.web3.service.AuditProofResponse;
 import com.clienthub.web3.service.AuditAnchorSummaryResponse;
+import com.clienthub.web3.service.EscrowSnapshot;
+import com.clienthub.web3.service.EscrowSnapshotCache;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
@@ -43,10 +56,23 @@ public class AdminController {
 
     private final AdminService adminService;
     private final AuditAnchorService auditAnchorService;
+    private final AuditBulkVerificationService auditBulkVerificationService;
+    private final AuditExportService auditExportService;
+    private final EscrowSnapshotCache escrowSnapshotCache;
+    private final ObjectMapper objectMapper;
 
-    public AdminController(AdminService adminService, AuditAnchorService auditAnchorService) {
+    public AdminController(AdminService adminService,
+                           AuditAnchorService auditAnchorService,
+                           AuditBulkVerificationService auditBulkVerificationService,
+                           AuditExportService auditExportService,
+                           EscrowSnapshotCache escrowSnapshotCache,
+                           ObjectMapper objectMapper) {
         this.adminService = adminService;
         this.auditAnchorService = auditAnchorService;
+        this.auditBulkVerificationService = auditBulkVerificationService;
+        this.auditExportService = auditExportService;
+        this.escrowSnapshotCache = escrowSnapshotCache;
+        this.objectMapper = objectMapper;
     }
 
     // ─── Helper: build a safe Pageable from explicit params ───────────────────
@@ -115,11 +141,25 @@ public class AdminController {
 
     @GetMapping("/health")
     @Operation(summary = "Get system health",
-               description = "Checks DB, Redis, AI Engine, blockchain readiness, JVM memory, and uptime")
+               description = "Latest background samples of DB, Redis, AI Engine and blockchain readiness, with JVM memory and uptime")
     public ResponseEntity<AdminHealthResponse> getSystemHealth() {
         return ResponseEntity.ok(adminService.getSystemHealth());
     }
 
+    @GetMapping("/health/history")
+    @Operation(summary = "Get health probe history",
+               description = "Recent status and latency samples per component for trend charts")
+    public ResponseEntity<AdminHealthHistoryResponse> getHealthHistory() {
+        return ResponseEntity.ok(adminService.getHealthHistory());
+    }
+
+    @GetMapping("/telemetry")
+    @Operation(summary = "Get JVM and connection pool telemetry",
+               description = "Latest in-process sample, recent history for trend charts and the JVM alerts currently raised")
+    public ResponseEntity<AdminTelemetryResponse> getTelemetry() {
+        return ResponseEntity.ok(adminService.getTelemetry());
+    }
+
     @GetMapping("/audit-logs")
     @Operation(summary = "Get recent system activity",
                description = "Paginated security and compliance audit logs across all tenants")
@@ -145,6 +185,34 @@ public class AdminController {
                 buildPageable(page, size, "createdAt", "desc")));
     }
 
+    @GetMapping("/audit-logs/export")
+    @Operation(summary = "Export audit logs",
+               description = "Streams every matching audit log, oldest first, as CSV or NDJSON without paging")
+    public ResponseEntity<StreamingResponseBody> exportAuditLogs(
+            @Parameter(description = "Format: CSV or NDJSON") @RequestParam(defaultValue = "CSV") String format,
+            @Parameter(description = "Created at lower bound (inclusive)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @Parameter(description = "Created at upper bound (exclusive)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @Parameter(description = "Tenant ID filter") @RequestParam(required = false) String tenantId,
+            @Parameter(description = "Category: AUTH, USER, PROJECT, TASK, INVOICE, AUDIT, SYSTEM, WEB3") @RequestParam(required = false) String category) {
+        AuditExportService.Format exportFormat = AuditExportService.Format.from(format);
+        auditExportService.checkRequest(category, from, to);
+        StreamingResponseBody body = output -> {
+            TenantContext.setSystemContext();
+            try {
+                auditExportService.export(exportFormat, from, to, tenantId, category, output);
+            } finally {
+                TenantContext.clear();
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.contentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("audit-logs." + exportFormat.extension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
     @GetMapping("/audit-anchor-batches")
     @Operation(summary = "List audit anchor batches",
                description = "Returns blockchain audit-proof batches and their submission or confirmation state")
@@ -182,6 +250,39 @@ public class AdminController {
         return ResponseEntity.ok(auditAnchorService.verify(id));
     }
 
+    @PostMapping(value = "/audit-logs/verify-bulk", produces = "application/x-ndjson")
+    @Operation(summary = "Bulk-verify audit log proofs",
+               description = "Verifies every anchored record of a batch or a created-at range. Streams one NDJSON line per mismatch, followed by a summary line")
+    public ResponseEntity<StreamingResponseBody> verifyAuditProofsInBulk(
+            @Parameter(description = "Anchor batch ID") @RequestParam(required = false) UUID batchId,
+            @Parameter(description = "Created at lower bound (inclusive)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @Parameter(description = "Created at upper bound (exclusive)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to) {
+        auditBulkVerificationService.checkRequest(batchId, from, to);
+        StreamingResponseBody body = output -> {
+            TenantContext.setSystemContext();
+            try {
+                var summary = auditBulkVerificationService.verify(batchId, from, to,
+                        mismatch -> writeLine(output, mismatch));
+                writeLine(output, summary);
+            } finally {
+                TenantContext.clear();
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(body);
+    }
+
+    private void writeLine(OutputStream output, Object value) {
+        try {
+            output.write(objectMapper.writeValueAsBytes(value));
+            output.write("\n".getBytes(StandardCharsets.UTF_8));
+            output.flush();
+        } catch (java.io.IOException e) {
+            throw new java.io.UncheckedIOException(e);
+        }
+    }
+
     @GetMapping("/events")
     @Operation(summary = "Get normalized admin events",
                description = "Admin-only domain event timeline derived from audit logs for operational visibility")
@@ -248,6 +349,22 @@ public class AdminController {
         return ResponseEntity.noContent().build();
     }
 
+    @GetMapping("/invoices/{id}/escrow")
+    @Operation(summary = "Get an invoice's escrow snapshot",
+               description = "Served from the escrow snapshot cache; only reads the chain when the snapshot is not cached")
+    public ResponseEntity<EscrowSnapshot> getEscrowSnapshot(@PathVariable Long id) {
+        return ResponseEntity.ok(escrowSnapshotCache.get(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Escrow", "invoiceId", id)));
+    }
+
+    @PostMapping("/invoices/{id}/escrow/verify")
+    @Operation(summary = "Verify an invoice's escrow against the chain now",
+               description = "Always reads the escrow contract and refreshes the cached snapshot")
+    public ResponseEntity<EscrowSnapshot> verifyEscrowSnapshot(@PathVariable Long id) {
+        return ResponseEntity.ok(escrowSnapshotCache.verify(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Escrow", "invoiceId", id)));
+    }
+
     // ─── Impersonation ────────────────────────────────────────────────────────
 
     @PostMapping("/impersonate/{userId}")
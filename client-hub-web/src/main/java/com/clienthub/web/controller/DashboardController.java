@@ -2,6 +2,7 @@ package com.clienthub.web.controller;
 
 import com.clienthub.application.dto.dashboard.DashboardStatsResponse;
 import com.clienthub.application.service.DashboardService;
+import com.clienthub.domain.enums.Role;
 import com.clienthub.infrastructure.security.CustomUserDetails;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -24,6 +25,7 @@ public class DashboardController {
     @PreAuthorize("hasAnyRole('CLIENT', 'FREELANCER', 'ADMIN')")
     public ResponseEntity<DashboardStatsResponse> getDashboardSummary(
             @AuthenticationPrincipal CustomUserDetails currentUser) {
-        return ResponseEntity.ok(dashboardService.getSummaryStats(currentUser.getId()));
+        return ResponseEntity.ok(dashboardService.getSummaryStats(
+                currentUser.getId(), Role.valueOf(currentUser.getRole())));
     }
 }
@@ -132,6 +132,26 @@ public class AdminControllerTest {
                 .andExpect(status().isForbidden());
     }
 
+    // ========== /api/admin/audit-logs/export Tests ==========
+
+    @Test
+    @DisplayName("Audit export - Unknown format should return 400 before streaming")
+    @WithMockUser(username = "admin@test.com", roles = "ADMIN")
+    void testExportAuditLogs_WithUnknownFormat_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/api/admin/audit-logs/export").param("format", "xml"))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Audit export - Client role should return 403 Forbidden")
+    @WithMockUser(username = "client@test.com", roles = "CLIENT")
+    void testExportAuditLogs_WithClientRole_ShouldReturnForbidden() throws Exception {
+        mockMvc.perform(get("/api/admin/audit-logs/export"))
+                .andDo(print())
+                .andExpect(status().isForbidden());
+    }
+
     // ========== /api/admin/events Tests ==========
 
     @Test
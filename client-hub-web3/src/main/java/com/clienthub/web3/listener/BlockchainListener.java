@@ -1,39 +1,53 @@
 package com.clienthub.web3.listener;
 
 import com.clienthub.common.context.TenantContext;
+import com.clienthub.domain.entity.BlockchainCursor;
 import com.clienthub.domain.entity.Invoice;
 import com.clienthub.domain.enums.EscrowStatus;
 import com.clienthub.domain.enums.InvoiceStatus;
 import com.clienthub.domain.event.InvoiceStatusChangedEvent;
+import com.clienthub.domain.repository.BlockchainCursorRepository;
 import com.clienthub.domain.repository.InvoiceRepository;
 import com.clienthub.web3.service.BlockchainService;
+import com.clienthub.web3.service.ChainHeadTracker;
 import com.clienthub.web3.service.EscrowContractEvents;
 import com.clienthub.web3.service.EscrowSnapshot;
+import com.clienthub.web3.service.EscrowSnapshotCache;
 import com.clienthub.web3.service.EscrowValidationResult;
 import com.clienthub.web3.service.EscrowValidationService;
-import jakarta.annotation.PostConstruct;
+import java.io.IOException;
 import java.math.BigInteger;
 import java.time.Instant;
+import java.util.Locale;
 import java.util.Objects;
 import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.DefaultBlockParameter;
 import org.web3j.protocol.core.DefaultBlockParameterName;
-import org.web3j.protocol.core.methods.request.EthFilter;
+import org.web3j.protocol.core.methods.response.EthLog;
 import org.web3j.protocol.core.methods.response.Log;
 import org.web3j.utils.Numeric;
 
 @Component
 public class BlockchainListener {
     private static final Logger log = LoggerFactory.getLogger(BlockchainListener.class);
+    private static final String CURSOR_PREFIX = "escrow-listener:";
 
     private final BlockchainService blockchainService;
     private final InvoiceRepository invoiceRepository;
     private final ApplicationEventPublisher eventPublisher;
     private final EscrowValidationService escrowValidationService;
+    private final BlockchainCursorRepository cursorRepository;
+    private final ChainHeadTracker chainHeadTracker;
+    private final EscrowSnapshotCache snapshotCache;
+    private volatile boolean checkpointHeld;
 
     @Value("${blockchain.enabled:false}")
     private boolean blockchainEnabled;
@@ -44,36 +58,150 @@ public class BlockchainListener {
     @Value("${blockchain.required_confirmations:12}")
     private int requiredConfirmations;
 
+    @Value("${blockchain.listener.reorg_depth:12}")
+    private int reorgDepth;
+
+    @Value("${blockchain.listener.backfill_block_range:2000}")
+    private int backfillBlockRange;
+
     public BlockchainListener(BlockchainService blockchainService,
                               InvoiceRepository invoiceRepository,
                               ApplicationEventPublisher eventPublisher,
-                              EscrowValidationService escrowValidationService) {
+                              EscrowValidationService escrowValidationService,
+                              BlockchainCursorRepository cursorRepository,
+                              ChainHeadTracker chainHeadTracker,
+                              EscrowSnapshotCache snapshotCache) {
         this.blockchainService = blockchainService;
         this.invoiceRepository = invoiceRepository;
         this.eventPublisher = eventPublisher;
         this.escrowValidationService = escrowValidationService;
+        this.cursorRepository = cursorRepository;
+        this.chainHeadTracker = chainHeadTracker;
+        this.snapshotCache = snapshotCache;
     }
 
-    @PostConstruct
+    /**
+     * Replays escrow logs missed while the application was down, then streams new ones. The replay restarts
+     * {@code reorg_depth} blocks before the checkpoint so events from recently reorganised blocks are seen again;
+     * handling an event is idempotent, so replaying an already applied one leaves the invoice unchanged.
+     */
+    @EventListener(ApplicationReadyEvent.class)
     public void subscribeToEvents() {
         if (!blockchainEnabled || contractAddress == null || contractAddress.isEmpty()) {
             return;
         }
 
-        EthFilter filter = new EthFilter(DefaultBlockParameterName.LATEST, DefaultBlockParameterName.LATEST, contractAddress);
-        filter.addOptionalTopics(
-                EscrowContractEvents.DEPOSITED_TOPIC,
-                EscrowContractEvents.RELEASED_TOPIC,
-                EscrowContractEvents.REFUNDED_TOPIC);
+        DefaultBlockParameter liveFrom = DefaultBlockParameterName.LATEST;
+        TenantContext.setSystemContext();
+        try {
+            liveFrom = DefaultBlockParameter.valueOf(backfill());
+        } catch (Exception e) {
+            log.error("Escrow event backfill failed, streaming from the latest block", e);
+        } finally {
+            TenantContext.clear();
+        }
+
+        blockchainService.getWeb3j()
+                .ethLogFlowable(EscrowContractEvents.logFilter(liveFrom, DefaultBlockParameterName.LATEST, contractAddress))
+                .subscribe(logEvent -> {
+                    TenantContext.setSystemContext();
+                    try {
+                        processLog(logEvent);
+                    } catch (Exception e) {
+                        holdCheckpoint();
+                        log.error("Failed to handle escrow event {}", logEvent.getTransactionHash(), e);
+                    } finally {
+                        TenantContext.clear();
+                    }
+                }, error -> log.error("Error subscribing to blockchain events", error));
+    }
+
+    /** Replays logs from the checkpoint up to the current head and returns the first block left to the live stream. */
+    BigInteger backfill() throws IOException {
+        Web3j web3j = blockchainService.getWeb3j();
+        BigInteger head = chainHeadTracker.refresh()
+                .orElseThrow(() -> new IllegalStateException("Chain head is unavailable"));
+        Optional<BlockchainCursor> checkpoint = cursorRepository.findById(cursorName());
+        if (checkpoint.isEmpty()) {
+            advanceCheckpoint(head, -1);
+            return head.add(BigInteger.ONE);
+        }
+
+        BigInteger from = checkpoint.get().getBlockNumber()
+                .subtract(BigInteger.valueOf(Math.max(0, reorgDepth)))
+                .max(BigInteger.ZERO);
+        BigInteger range = BigInteger.valueOf(Math.max(1, backfillBlockRange));
+        int replayed = 0;
+        while (from.compareTo(head) <= 0) {
+            BigInteger to = from.add(range).subtract(BigInteger.ONE).min(head);
+            EthLog response = web3j.ethGetLogs(EscrowContractEvents.logFilter(
+                    DefaultBlockParameter.valueOf(from), DefaultBlockParameter.valueOf(to), contractAddress)).send();
+            if (response.hasError()) {
+                throw new IllegalStateException("eth_getLogs failed for blocks " + from + "-" + to + ": "
+                        + response.getError().getMessage());
+            }
+            for (EthLog.LogResult<?> result : response.getLogs()) {
+                if (result.get() instanceof Log logEvent) {
+                    // One bad event must not abort the replay of the rest, the same as on the live stream.
+                    try {
+                        processLog(logEvent);
+                        replayed++;
+                    } catch (Exception e) {
+                        holdCheckpoint();
+                        log.error("Failed to replay escrow event {}", logEvent.getTransactionHash(), e);
+                    }
+                }
+            }
+            advanceCheckpoint(to, -1);
+            from = to.add(BigInteger.ONE);
+        }
+
+        log.info("Replayed {} escrow events up to block {}", replayed, head);
+        return head.add(BigInteger.ONE);
+    }
+
+    private void processLog(Log logEvent) {
+        if (logEvent.isRemoved()) {
+            log.warn("Ignoring escrow event {} removed by a chain reorganisation", logEvent.getTransactionHash());
+            if (logEvent.getTopics().size() >= 2) {
+                snapshotCache.invalidate(Numeric.decodeQuantity(logEvent.getTopics().get(1)).longValue());
+            }
+            return;
+        }
+        handleEscrowLog(logEvent);
+        advanceCheckpoint(logEvent.getBlockNumber(), logEvent.getLogIndex().intValue());
+    }
+
+    /**
+     * Keeps the checkpoint before an event that failed for the rest of this run, so the next start's backfill
+     * replays it. Later events are still handled; replaying them again is idempotent.
+     */
+    private void holdCheckpoint() {
+        if (!checkpointHeld) {
+            checkpointHeld = true;
+            log.warn("Escrow event checkpoint held at its last position until the failed event is replayed");
+        }
+    }
 
-        blockchainService.getWeb3j().ethLogFlowable(filter).subscribe(logEvent -> {
-            TenantContext.setSystemContext();
-            try {
-                handleEscrowLog(logEvent);
-            } finally {
-                TenantContext.clear();
+    private synchronized void advanceCheckpoint(BigInteger blockNumber, int logIndex) {
+        if (checkpointHeld) {
+            return;
+        }
+        Optional<BlockchainCursor> existing = cursorRepository.findById(cursorName());
+        if (existing.isPresent()) {
+            int order = blockNumber.compareTo(existing.get().getBlockNumber());
+            if (order < 0 || (order == 0 && logIndex <= existing.get().getLogIndex())) {
+                return;
             }
-        }, error -> log.error("Error subscribing to blockchain events", error));
+        }
+        BlockchainCursor cursor = existing.orElseGet(() -> new BlockchainCursor(cursorName(), blockNumber));
+        cursor.setBlockNumber(blockNumber);
+        cursor.setLogIndex(logIndex);
+        cursorRepository.save(cursor);
+    }
+
+    private String cursorName() {
+        return CURSOR_PREFIX + contractAddress.toLowerCase(Locale.ROOT);
     }
 
     private void handleEscrowLog(Log logEvent) {
@@ -96,7 +224,8 @@ public class BlockchainListener {
             return;
         }
 
-        Optional<EscrowSnapshot> optSnapshot = blockchainService.getEscrowSnapshot(invoiceId);
+        // The event means the cached snapshot is stale: read it from the chain and replace the cache entry.
+        Optional<EscrowSnapshot> optSnapshot = snapshotCache.verify(invoiceId);
         if (optSnapshot.isEmpty()) {
             log.warn("Ignoring escrow event for invoice {} because the chain snapshot could not be read", invoiceId);
             return;
@@ -140,7 +269,7 @@ public class BlockchainListener {
         invoice.setSmartContractId(contractAddress);
 
         if (status == EscrowStatus.DEPOSITED) {
-            int confirmations = blockchainService.getConfirmationsSince(blockNumber);
+            int confirmations = chainHeadTracker.confirmationsSince(blockNumber);
             invoice.setEscrowStatus(EscrowStatus.DEPOSITED);
             invoice.setConfirmations(confirmations);
             invoice.setStatus(confirmations >= effectiveRequiredConfirmations()
@@ -167,7 +296,7 @@ public class BlockchainListener {
     }
 
     private void setMaxConfirmations(Invoice invoice, BigInteger blockNumber) {
-        int confirmations = blockchainService.getConfirmationsSince(blockNumber);
+        int confirmations = chainHeadTracker.confirmationsSince(blockNumber);
         int existingConfirmations = invoice.getConfirmations() != null ? invoice.getConfirmations() : 0;
         if (confirmations > existingConfirmations) {
             invoice.setConfirmations(confirmations);
@@ -0,0 +1,41 @@
+package com.clienthub.web3.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Decides how many waiting records go into the next anchor batch. A batch is built once the backlog covers the
+ * target records per anchor, or once its oldest record has waited past the target latency; busy backlogs grow
+ * the batch up to the maximum size so they drain without extra transactions.
+ */
+@Component
+public class AuditAnchorBatchSizer {
+
+    @Value("${audit.anchor.batch_size:1000}") private int targetRecordsPerAnchor;
+    @Value("${audit.anchor.min_batch_size:50}") private int minBatchSize;
+    @Value("${audit.anchor.max_batch_size:10000}") private int maxBatchSize;
+    @Value("${audit.anchor.target_latency_minutes:240}") private long targetLatencyMinutes;
+    @Value("${audit.anchor.max_age_hours:24}") private int maxAgeHours;
+
+    /** Returns the size of the next batch, or {@code 0} when the backlog should keep waiting. */
+    public int size(long waiting, Instant oldestCreatedAt, boolean force, Instant now) {
+        if (waiting <= 0) return 0;
+        int size = (int) Math.min(waiting, maxBatchSize());
+        if (force || waiting >= Math.max(1, targetRecordsPerAnchor)) return size;
+        if (oldestCreatedAt == null) return 0;
+
+        Duration age = Duration.between(oldestCreatedAt, now);
+        if (age.compareTo(Duration.ofHours(maxAgeHours)) >= 0) return size;
+        if (age.compareTo(Duration.ofMinutes(targetLatencyMinutes)) >= 0 && waiting >= Math.max(1, minBatchSize)) {
+            return size;
+        }
+        return 0;
+    }
+
+    public int maxBatchSize() {
+        return Math.max(Math.max(1, targetRecordsPerAnchor), maxBatchSize);
+    }
+}
@@ -12,15 +12,18 @@ import org.web3j.abi.datatypes.*;
 import org.web3j.abi.datatypes.generated.Uint256;
 import org.web3j.abi.datatypes.generated.Bytes32;
 import org.web3j.crypto.Credentials;
+import org.web3j.crypto.RawTransaction;
 import org.web3j.protocol.Web3j;
 import org.web3j.protocol.core.DefaultBlockParameterName;
 import org.web3j.protocol.core.methods.request.Transaction;
+import org.web3j.protocol.core.methods.response.EthSendTransaction;
 import org.web3j.protocol.core.methods.response.TransactionReceipt;
-import org.web3j.protocol.http.HttpService;
 import org.web3j.tx.RawTransactionManager;
 import org.web3j.tx.gas.DefaultGasProvider;
+import org.web3j.utils.Convert;
 import org.web3j.utils.Numeric;
 
+import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.List;
 import java.util.Optional;
@@ -28,16 +31,31 @@ import java.util.Optional;
 @Service
 public class AuditAnchorBlockchainService {
     private static final Logger log = LoggerFactory.getLogger(AuditAnchorBlockchainService.class);
+    private static final long ANCHOR_GAS_LIMIT = 350_000;
+    private static final long ADDITIONAL_ROOT_GAS_LIMIT = 120_000;
 
     @Value("${audit.anchor.enabled:false}") private boolean enabled;
     @Value("${blockchain.node_url:http://localhost:8545}") private String nodeUrl;
     @Value("${blockchain.admin_private_key:}") private String privateKey;
     @Value("${audit.anchor.contract_address:}") private String contractAddress;
+    @Value("${audit.anchor.multi_root_enabled:false}") private boolean multiRootEnabled;
+    @Value("${audit.anchor.max_roots_per_transaction:8}") private int maxRootsPerTransaction;
+    @Value("${audit.anchor.replacement_gas_bump_percent:25}") private int replacementGasBumpPercent;
+    @Value("${audit.anchor.max_gas_price_gwei:200}") private long maxGasPriceGwei;
 
+    private final ChainHeadTracker chainHeadTracker;
+    private final RpcTransport rpcTransport;
     private Web3j web3j;
     private RawTransactionManager transactionManager;
+    private Credentials credentials;
+    private BigInteger nextNonce;
     private long chainId;
 
+    public AuditAnchorBlockchainService(ChainHeadTracker chainHeadTracker, RpcTransport rpcTransport) {
+        this.chainHeadTracker = chainHeadTracker;
+        this.rpcTransport = rpcTransport;
+    }
+
     @PostConstruct
     void init() {
         if (!enabled) return;
@@ -46,9 +64,10 @@ public class AuditAnchorBlockchainService {
             return;
         }
         try {
-            web3j = Web3j.build(new HttpService(nodeUrl));
+            web3j = rpcTransport.web3j();
             chainId = web3j.ethChainId().send().getChainId().longValueExact();
-            transactionManager = new RawTransactionManager(web3j, Credentials.create(privateKey), chainId);
+            credentials = Credentials.create(privateKey);
+            transactionManager = new RawTransactionManager(web3j, credentials, chainId);
         } catch (Exception e) {
             log.error("Unable to initialize audit anchor blockchain client", e);
             web3j = null;
@@ -60,18 +79,85 @@ public class AuditAnchorBlockchainService {
         return enabled && web3j != null && transactionManager != null && !contractAddress.isBlank();
     }
 
-    public synchronized Submission submit(String root, int recordCount, String metadataHash) throws Exception {
+    /** Roots per anchoring transaction: several only when the contract exposes {@code anchorRoots}. */
+    public int maxRootsPerTransaction() {
+        return multiRootEnabled ? Math.max(1, maxRootsPerTransaction) : 1;
+    }
+
+    /**
+     * Sends one anchoring transaction for {@code roots} at the next locally tracked nonce, without waiting for it to
+     * be mined. The nonce is read from the node once and then counted locally, so back-to-back submissions cost a
+     * single {@code eth_sendRawTransaction} each; any failed send makes the next submission re-read it.
+     */
+    public synchronized Submission submit(List<AnchorRoot> roots) throws Exception {
+        requireReady();
+        if (roots.isEmpty() || roots.size() > maxRootsPerTransaction()) {
+            throw new IllegalArgumentException("Expected between 1 and " + maxRootsPerTransaction() + " roots");
+        }
+        if (nextNonce == null) {
+            nextNonce = web3j.ethGetTransactionCount(credentials.getAddress(), DefaultBlockParameterName.PENDING)
+                    .send().getTransactionCount();
+        }
+        BigInteger gasPrice = DefaultGasProvider.GAS_PRICE;
+        Submission submission = send(roots, nextNonce, gasPrice);
+        nextNonce = nextNonce.add(BigInteger.ONE);
+        return submission;
+    }
+
+    /**
+     * Re-sends {@code roots} at the nonce of a transaction that has not been mined, with the gas price raised by
+     * {@code audit.anchor.replacement_gas_bump_percent}. Returns empty when the bump would exceed the configured cap.
+     */
+    public synchronized Optional<Submission> replace(List<AnchorRoot> roots, BigInteger nonce, BigInteger gasPrice)
+            throws Exception {
         requireReady();
-        Function function = new Function("anchorRoot",
-                List.of(bytes32(root), new Uint256(recordCount), bytes32(metadataHash)), List.of());
-        var response = transactionManager.sendTransaction(
-                DefaultGasProvider.GAS_PRICE,
-                BigInteger.valueOf(350_000),
-                contractAddress,
-                FunctionEncoder.encode(function),
-                BigInteger.ZERO);
-        if (response.hasError()) throw new IllegalStateException(response.getError().getMessage());
-        return new Submission(response.getTransactionHash(), chainId, contractAddress);
+        BigInteger base = gasPrice != null ? gasPrice : DefaultGasProvider.GAS_PRICE;
+        BigInteger bumped = base.multiply(BigInteger.valueOf(100L + Math.max(10, replacementGasBumpPercent)))
+                .divide(BigInteger.valueOf(100));
+        if (bumped.compareTo(maxGasPrice()) > 0) return Optional.empty();
+        return Optional.of(send(roots, nonce, bumped));
+    }
+
+    private Submission send(List<AnchorRoot> roots, BigInteger nonce, BigInteger gasPrice) throws Exception {
+        RawTransaction transaction = RawTransaction.createTransaction(
+                nonce, gasPrice, gasLimit(roots.size()), contractAddress, BigInteger.ZERO, encode(roots));
+        EthSendTransaction response;
+        try {
+            response = transactionManager.signAndSend(transaction);
+        } catch (Exception e) {
+            // The node may or may not have accepted it, so the cached nonce can no longer be trusted.
+            nextNonce = null;
+            throw e;
+        }
+        if (response.hasError()) {
+            // "already known", "replacement transaction underpriced" and nonce errors all leave the cached nonce
+            // out of step with the node; re-read it rather than guess from the message.
+            nextNonce = null;
+            throw new IllegalStateException(response.getError().getMessage());
+        }
+        return new Submission(response.getTransactionHash(), chainId, contractAddress, nonce, gasPrice);
+    }
+
+    private String encode(List<AnchorRoot> roots) {
+        if (roots.size() == 1) {
+            AnchorRoot root = roots.getFirst();
+            return FunctionEncoder.encode(new Function("anchorRoot",
+                    List.of(bytes32(root.root()), new Uint256(root.recordCount()), bytes32(root.metadataHash())),
+                    List.of()));
+        }
+        return FunctionEncoder.encode(new Function("anchorRoots", List.of(
+                new DynamicArray<>(Bytes32.class, roots.stream().map(root -> bytes32(root.root())).toList()),
+                new DynamicArray<>(Uint256.class, roots.stream().map(root -> new Uint256(root.recordCount())).toList()),
+                new DynamicArray<>(Bytes32.class, roots.stream().map(root -> bytes32(root.metadataHash())).toList())),
+                List.of()));
+    }
+
+    private BigInteger gasLimit(int roots) {
+        return BigInteger.valueOf(ANCHOR_GAS_LIMIT + (long) (roots - 1) * ADDITIONAL_ROOT_GAS_LIMIT);
+    }
+
+    private BigInteger maxGasPrice() {
+        return Convert.toWei(BigDecimal.valueOf(maxGasPriceGwei), Convert.Unit.GWEI).toBigInteger();
     }
 
     public Optional<TransactionReceipt> receipt(String transactionHash) {
@@ -82,11 +168,11 @@ public class AuditAnchorBlockchainService {
 
     public int confirmations(BigInteger blockNumber) {
         if (!isReady() || blockNumber == null) return 0;
+        if (chainHeadTracker.isEnabled() && chainHeadTracker.currentBlock().isPresent()) {
+            return chainHeadTracker.confirmationsSince(blockNumber);
+        }
         try {
-            BigInteger current = web3j.ethBlockNumber().send().getBlockNumber();
-            if (current.compareTo(blockNumber) < 0) return 0;
-            return current.subtract(blockNumber).add(BigInteger.ONE)
-                    .min(BigInteger.valueOf(Integer.MAX_VALUE)).intValue();
+            return BlockchainService.confirmations(web3j.ethBlockNumber().send().getBlockNumber(), blockNumber);
         } catch (Exception e) {
             throw new BlockchainUnavailableException("Unable to read current block", e);
         }
@@ -125,7 +211,9 @@ public class AuditAnchorBlockchainService {
         if (!isReady()) throw new BlockchainUnavailableException("Audit anchor blockchain client is not ready");
     }
 
-    public record Submission(String transactionHash, long chainId, String contractAddress) {}
+    public record AnchorRoot(String root, int recordCount, String metadataHash) {}
+    public record Submission(String transactionHash, long chainId, String contractAddress, BigInteger nonce,
+                             BigInteger gasPrice) {}
     public record OnChainAnchor(int recordCount, String metadataHash, BigInteger anchoredAt, String submitter) {}
 
     public static class BlockchainUnavailableException extends RuntimeException {
@@ -0,0 +1,47 @@
+package com.clienthub.web3.service;
+
+import com.clienthub.domain.repository.AuditAnchorBacklog;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class AuditAnchorMetrics {
+    private final AtomicLong backlog = new AtomicLong();
+    private final AtomicLong oldestAgeSeconds = new AtomicLong();
+    private final DistributionSummary batchSize;
+
+    public AuditAnchorMetrics(MeterRegistry registry) {
+        Gauge.builder("audit.anchor.backlog", backlog, AtomicLong::get)
+                .description("Audit records waiting for an anchor batch")
+                .register(registry);
+        Gauge.builder("audit.anchor.oldest.age", oldestAgeSeconds, AtomicLong::get)
+                .description("Age of the oldest audit record waiting for an anchor batch")
+                .baseUnit("seconds")
+                .register(registry);
+        this.batchSize = DistributionSummary.builder("audit.anchor.batch.size")
+                .description("Records per audit anchor batch")
+                .register(registry);
+    }
+
+    public void recordBacklog(Collection<AuditAnchorBacklog> tenants, Instant now) {
+        backlog.set(tenants.stream().mapToLong(AuditAnchorBacklog::waiting).sum());
+        oldestAgeSeconds.set(tenants.stream()
+                .map(AuditAnchorBacklog::oldestCreatedAt)
+                .filter(Objects::nonNull)
+                .min(Instant::compareTo)
+                .map(oldest -> Math.max(0, Duration.between(oldest, now).toSeconds()))
+                .orElse(0L));
+    }
+
+    public void recordBatch(int records) {
+        batchSize.record(records);
+    }
+}
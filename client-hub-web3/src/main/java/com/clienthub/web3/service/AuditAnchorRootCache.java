@@ -0,0 +1,124 @@
+package com.clienthub.web3.service;
+
+import com.clienthub.domain.entity.AuditAnchorBatch;
+import com.clienthub.domain.enums.AuditAnchorBatchStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Caches on-chain anchor reads per batch and anchoring transaction. Anchors of confirmed batches are final
+ * and kept without expiry, locally and in Redis; anything read before finality only lives for a short TTL.
+ * Redis is best effort: when it is unreachable the cache falls back to the local tier and the chain. The local
+ * tier keeps the most recently used {@code max_entries} anchors and evicts the least recently used one when full.
+ */
+@Component
+public class AuditAnchorRootCache {
+    private static final Logger log = LoggerFactory.getLogger(AuditAnchorRootCache.class);
+    private static final String KEY_PREFIX = "audit:anchor-root:";
+
+    private final AuditAnchorBlockchainService blockchainService;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Map<String, CachedAnchor> entries = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedAnchor> eldest) {
+            return size() > Math.max(1, maxEntries);
+        }
+    };
+
+    @Value("${audit.anchor.root_cache.pending_ttl_seconds:60}") private long pendingTtlSeconds;
+    @Value("${audit.anchor.root_cache.max_entries:10000}") private int maxEntries;
+
+    public AuditAnchorRootCache(AuditAnchorBlockchainService blockchainService,
+                                StringRedisTemplate redisTemplate,
+                                ObjectMapper objectMapper) {
+        this.blockchainService = blockchainService;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    public Optional<AuditAnchorBlockchainService.OnChainAnchor> read(AuditAnchorBatch batch) {
+        String key = key(batch);
+        if (key == null) return blockchainService.readAnchor(batch.getMerkleRoot());
+
+        CachedAnchor local;
+        synchronized (entries) {
+            local = entries.get(key);
+        }
+        if (local != null && !local.isExpired()) return Optional.of(local.anchor());
+
+        Optional<AuditAnchorBlockchainService.OnChainAnchor> remote = readRemote(key);
+        if (remote.isPresent()) {
+            storeLocal(key, remote.get(), isFinal(batch));
+            return remote;
+        }
+
+        Optional<AuditAnchorBlockchainService.OnChainAnchor> anchor = blockchainService.readAnchor(batch.getMerkleRoot());
+        anchor.ifPresent(value -> put(batch, value));
+        return anchor;
+    }
+
+    /** Records an anchor that was just read from the chain, e.g. while reconciling its transaction. */
+    public void put(AuditAnchorBatch batch, AuditAnchorBlockchainService.OnChainAnchor anchor) {
+        String key = key(batch);
+        if (key == null || anchor == null) return;
+        boolean finalized = isFinal(batch);
+        storeLocal(key, anchor, finalized);
+        try {
+            String value = objectMapper.writeValueAsString(anchor);
+            if (finalized) redisTemplate.opsForValue().set(key, value);
+            else redisTemplate.opsForValue().set(key, value, pendingTtl());
+        } catch (Exception e) {
+            log.debug("Unable to store anchor root for batch {} in Redis: {}", batch.getId(), e.getMessage());
+        }
+    }
+
+    private Optional<AuditAnchorBlockchainService.OnChainAnchor> readRemote(String key) {
+        try {
+            String value = redisTemplate.opsForValue().get(key);
+            if (value == null) return Optional.empty();
+            return Optional.of(objectMapper.readValue(value, AuditAnchorBlockchainService.OnChainAnchor.class));
+        } catch (Exception e) {
+            log.debug("Unable to read anchor root {} from Redis: {}", key, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void storeLocal(String key, AuditAnchorBlockchainService.OnChainAnchor anchor, boolean finalized) {
+        CachedAnchor entry = new CachedAnchor(anchor, finalized ? null : Instant.now().plus(pendingTtl()));
+        synchronized (entries) {
+            entries.put(key, entry);
+        }
+    }
+
+    private boolean isFinal(AuditAnchorBatch batch) {
+        return batch.getStatus() == AuditAnchorBatchStatus.CONFIRMED;
+    }
+
+    private Duration pendingTtl() {
+        return Duration.ofSeconds(Math.max(1, pendingTtlSeconds));
+    }
+
+    private String key(AuditAnchorBatch batch) {
+        if (batch.getId() == null || batch.getTransactionHash() == null || batch.getTransactionHash().isBlank()) {
+            return null;
+        }
+        return KEY_PREFIX + batch.getId() + ":" + batch.getTransactionHash().toLowerCase();
+    }
+
+    private record CachedAnchor(AuditAnchorBlockchainService.OnChainAnchor anchor, Instant expiresAt) {
+        boolean isExpired() {
+            return expiresAt != null && !expiresAt.isAfter(Instant.now());
+        }
+    }
+}
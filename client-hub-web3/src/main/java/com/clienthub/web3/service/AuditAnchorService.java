@@ -1,6 +1,8 @@
 package com.clienthub.web3.service;
 
+import com.clienthub.application.service.AuditArchiveService;
 import com.clienthub.application.service.AuditService;
+import com.clienthub.common.context.TenantContext;
 import com.clienthub.application.service.AuditProofReader;
 import com.clienthub.application.dto.audit.UserAuditProofResponse;
 import com.clienthub.application.exception.ResourceNotFoundException;
@@ -9,6 +11,8 @@ import com.clienthub.domain.enums.*;
 import com.clienthub.domain.repository.*;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -20,26 +24,31 @@ import org.web3j.protocol.core.methods.response.TransactionReceipt;
 
 import java.time.*;
 import java.util.*;
+import java.util.concurrent.*;
 
 @Service
 public class AuditAnchorService implements AuditProofReader {
     private static final Logger log = LoggerFactory.getLogger(AuditAnchorService.class);
-    private static final List<AuditAction> EXCLUDED_ACTIONS =
-            List.of(AuditAction.ANCHOR_SUCCESS, AuditAction.ANCHOR_FAILED);
 
     private final AuditLogRepository auditLogRepository;
     private final AuditAnchorBatchRepository batchRepository;
     private final AuditAnchorMemberRepository memberRepository;
     private final AuditMerkleService merkleService;
     private final AuditAnchorBlockchainService blockchainService;
+    private final AuditAnchorRootCache rootCache;
+    private final AuditAnchorBatchSizer batchSizer;
+    private final AuditAnchorMetrics metrics;
     private final AuditService auditService;
+    private final AuditArchiveService archiveService;
     private final ObjectMapper objectMapper;
     private final TransactionTemplate transactionTemplate;
+    private ExecutorService batchExecutor;
 
     @Value("${audit.anchor.enabled:false}") private boolean enabled;
-    @Value("${audit.anchor.batch_size:1000}") private int batchSize;
-    @Value("${audit.anchor.max_age_hours:24}") private int maxAgeHours;
+    @Value("${audit.anchor.parallelism:4}") private int parallelism;
+    @Value("${audit.anchor.max_batches_per_run:4}") private int maxBatchesPerRun;
     @Value("${audit.anchor.max_attempts:5}") private int maxAttempts;
+    @Value("${audit.anchor.replace_after_seconds:600}") private long replaceAfterSeconds;
     @Value("${blockchain.required_confirmations:12}") private int requiredConfirmations;
 
     public AuditAnchorService(AuditLogRepository auditLogRepository,
@@ -47,7 +56,11 @@ public class AuditAnchorService implements AuditProofReader {
                               AuditAnchorMemberRepository memberRepository,
                               AuditMerkleService merkleService,
                               AuditAnchorBlockchainService blockchainService,
+                              AuditAnchorRootCache rootCache,
+                              AuditAnchorBatchSizer batchSizer,
+                              AuditAnchorMetrics metrics,
                               AuditService auditService,
+                              AuditArchiveService archiveService,
                               ObjectMapper objectMapper,
                               PlatformTransactionManager transactionManager) {
         this.auditLogRepository = auditLogRepository;
@@ -55,34 +68,58 @@ public class AuditAnchorService implements AuditProofReader {
         this.memberRepository = memberRepository;
         this.merkleService = merkleService;
         this.blockchainService = blockchainService;
+        this.rootCache = rootCache;
+        this.batchSizer = batchSizer;
+        this.metrics = metrics;
         this.auditService = auditService;
+        this.archiveService = archiveService;
         this.objectMapper = objectMapper;
         this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
+    /** Tenant trees are built on one pool for the life of the bean instead of a new pool per run. */
+    @PostConstruct
+    void startBatchExecutor() {
+        batchExecutor = Executors.newFixedThreadPool(Math.max(1, parallelism),
+                Thread.ofPlatform().name("audit-anchor-", 0).daemon().factory());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        batchExecutor.shutdownNow();
+    }
+
     public Optional<AuditAnchorBatchResponse> run(boolean force) {
         if (!enabled) return Optional.empty();
-        UUID batchId = transactionTemplate.execute(status -> createBatch(force));
-        if (batchId == null) return Optional.empty();
-        submit(batchId);
-        return batchRepository.findById(batchId).map(AuditAnchorBatchResponse::from);
+        List<UUID> batchIds = createBatches(force);
+        if (batchIds.isEmpty()) return Optional.empty();
+        submit(batchIds);
+        return batchRepository.findById(batchIds.getFirst()).map(AuditAnchorBatchResponse::from);
     }
 
     public void submitPending() {
         if (!enabled || !blockchainService.isReady()) return;
         List<AuditAnchorBatch> pending = batchRepository.findByStatusInOrderByCreatedAtAsc(
                 List.of(AuditAnchorBatchStatus.READY, AuditAnchorBatchStatus.FAILED));
+        List<UUID> due = new ArrayList<>();
         for (AuditAnchorBatch batch : pending) {
             boolean retryDue = batch.getNextAttemptAt() == null || !batch.getNextAttemptAt().isAfter(Instant.now());
-            if (batch.getAttempts() < Math.max(1, maxAttempts) && retryDue) submit(batch.getId());
+            if (batch.getAttempts() < Math.max(1, maxAttempts) && retryDue) due.add(batch.getId());
         }
+        submit(due);
     }
 
+    /**
+     * Polls receipts for submitted batches (once per transaction, since batches can share one), then replaces
+     * transactions that have sat unmined for longer than {@code audit.anchor.replace_after_seconds}.
+     */
     public void reconcileSubmitted() {
         if (!enabled || !blockchainService.isReady()) return;
         List<AuditAnchorBatch> batches = batchRepository.findByStatusInOrderByCreatedAtAsc(
                 List.of(AuditAnchorBatchStatus.SUBMITTED));
-        for (AuditAnchorBatch batch : batches) reconcile(batch.getId());
+        Map<String, Optional<TransactionReceipt>> receipts = new HashMap<>();
+        for (AuditAnchorBatch batch : batches) reconcile(batch.getId(), receipts);
+        replaceStuckTransactions();
     }
 
     public Page<AuditAnchorBatchResponse> listBatches(Pageable pageable) {
@@ -95,7 +132,7 @@ public class AuditAnchorService implements AuditProofReader {
     }
 
     public AuditAnchorSummaryResponse summary() {
-        long waiting = auditLogRepository.countUnassignedForAnchoring(EXCLUDED_ACTIONS);
+        long waiting = auditLogRepository.countUnassignedForAnchoring();
         long pending = batchRepository.countByStatusIn(List.of(
                 AuditAnchorBatchStatus.BUILDING,
                 AuditAnchorBatchStatus.READY,
@@ -111,16 +148,14 @@ public class AuditAnchorService implements AuditProofReader {
     }
 
     public AuditProofResponse getProof(long auditLogId) {
-        AuditLog logEntry = auditLogRepository.findById(auditLogId)
-                .orElseThrow(() -> new ResourceNotFoundException("AuditLog", "id", auditLogId));
+        AuditLog logEntry = findAuditLog(auditLogId);
         return memberRepository.findByAuditLogId(auditLogId)
                 .map(member -> response(logEntry, member, localStatus(logEntry, member)))
                 .orElseGet(() -> notAnchored(auditLogId));
     }
 
     public AuditProofResponse verify(long auditLogId) {
-        AuditLog logEntry = auditLogRepository.findById(auditLogId)
-                .orElseThrow(() -> new ResourceNotFoundException("AuditLog", "id", auditLogId));
+        AuditLog logEntry = findAuditLog(auditLogId);
         Optional<AuditAnchorMember> optionalMember = memberRepository.findByAuditLogId(auditLogId);
         if (optionalMember.isEmpty()) return notAnchored(auditLogId);
 
@@ -132,8 +167,7 @@ public class AuditAnchorService implements AuditProofReader {
         }
 
         try {
-            Optional<AuditAnchorBlockchainService.OnChainAnchor> anchor =
-                    blockchainService.readAnchor(member.getBatch().getMerkleRoot());
+            Optional<AuditAnchorBlockchainService.OnChainAnchor> anchor = rootCache.read(member.getBatch());
             if (anchor.isEmpty()) return response(logEntry, member, AuditVerificationStatus.TAMPERED);
             AuditAnchorBlockchainService.OnChainAnchor value = anchor.get();
             boolean matches = value.recordCount() == member.getBatch().getRecordCount()
@@ -170,6 +204,9 @@ public class AuditAnchorService implements AuditProofReader {
         if (auditLogIds == null || auditLogIds.isEmpty()) return Map.of();
         Map<Long, AuditLog> logs = auditLogRepository.findAllById(auditLogIds).stream()
                 .collect(java.util.stream.Collectors.toMap(AuditLog::getId, value -> value));
+        if (logs.size() < auditLogIds.size()) {
+            logs.putAll(archiveService.findArchived(auditLogIds.stream().filter(id -> !logs.containsKey(id)).toList()));
+        }
         Map<Long, AuditAnchorMember> members = memberRepository.findByAuditLogIdIn(auditLogIds).stream()
                 .collect(java.util.stream.Collectors.toMap(AuditAnchorMember::getAuditLogId, value -> value));
         Map<Long, UserAuditProofResponse> result = new HashMap<>();
@@ -186,6 +223,12 @@ public class AuditAnchorService implements AuditProofReader {
         return result;
     }
 
+    private AuditLog findAuditLog(long auditLogId) {
+        return auditLogRepository.findById(auditLogId)
+                .or(() -> archiveService.findArchived(auditLogId))
+                .orElseThrow(() -> new ResourceNotFoundException("AuditLog", "id", auditLogId));
+    }
+
     private UserAuditProofResponse toUserProof(AuditProofResponse proof, Instant anchoredAt) {
         return new UserAuditProofResponse(
                 proof.auditLogId(), proof.batchId() != null, proof.verificationStatus(), proof.batchStatus(),
@@ -194,14 +237,65 @@ public class AuditAnchorService implements AuditProofReader {
                 proof.confirmedBlock());
     }
 
-    private UUID createBatch(boolean force) {
-        long waiting = auditLogRepository.countUnassignedForAnchoring(EXCLUDED_ACTIONS);
-        Optional<Instant> oldest = auditLogRepository.findOldestUnassignedCreatedAt(EXCLUDED_ACTIONS);
-        boolean dueByAge = oldest.map(value -> value.isBefore(Instant.now().minus(Duration.ofHours(maxAgeHours)))).orElse(false);
-        if (waiting == 0 || (!force && waiting < batchSize && !dueByAge)) return null;
+    /**
+     * Builds batches for every tenant whose backlog is due. Tenants are claimed with SKIP LOCKED, so their trees
+     * are built concurrently, each in its own transaction.
+     */
+    private List<UUID> createBatches(boolean force) {
+        Instant now = Instant.now();
+        List<AuditAnchorBacklog> backlog = transactionTemplate.execute(status ->
+                auditLogRepository.findAnchoringBacklogByTenant());
+        if (backlog == null || backlog.isEmpty()) {
+            metrics.recordBacklog(List.of(), now);
+            return List.of();
+        }
+        metrics.recordBacklog(backlog, now);
+
+        List<Callable<List<UUID>>> tasks = backlog.stream()
+                .filter(tenant -> batchSizer.size(tenant.waiting(), tenant.oldestCreatedAt(), force, now) > 0)
+                .<Callable<List<UUID>>>map(tenant -> () -> createTenantBatches(tenant, force, now))
+                .toList();
+        if (tasks.isEmpty()) return List.of();
+
+        List<UUID> batchIds = new ArrayList<>();
+        try {
+            for (Future<List<UUID>> result : batchExecutor.invokeAll(tasks)) {
+                try {
+                    batchIds.addAll(result.get());
+                } catch (ExecutionException e) {
+                    log.error("Audit anchor batch creation failed", e.getCause());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return batchIds;
+    }
+
+    private List<UUID> createTenantBatches(AuditAnchorBacklog tenant, boolean force, Instant now) {
+        TenantContext.setSystemContext();
+        try {
+            List<UUID> batchIds = new ArrayList<>();
+            long remaining = tenant.waiting();
+            int size = batchSizer.size(remaining, tenant.oldestCreatedAt(), force, now);
+            while (size > 0 && batchIds.size() < Math.max(1, maxBatchesPerRun)) {
+                int limit = size;
+                AuditAnchorBatch batch = transactionTemplate.execute(status -> createBatch(tenant.tenantId(), limit));
+                if (batch == null) break;
+                batchIds.add(batch.getId());
+                metrics.recordBatch(batch.getRecordCount());
+                remaining -= batch.getRecordCount();
+                // Follow-up batches only go out while the remaining backlog still covers a full anchor.
+                size = batchSizer.size(remaining, null, false, now);
+            }
+            return batchIds;
+        } finally {
+            TenantContext.clear();
+        }
+    }
 
-        int limit = Math.max(1, batchSize);
-        List<AuditLog> logs = auditLogRepository.findUnassignedForAnchoring(limit);
+    private AuditAnchorBatch createBatch(String tenantId, int limit) {
+        List<AuditLog> logs = auditLogRepository.findUnassignedForAnchoringByTenant(tenantId, limit);
         if (logs.isEmpty()) return null;
 
         AuditMerkleService.MerkleBatch tree = merkleService.build(logs);
@@ -220,45 +314,130 @@ public class AuditAnchorService implements AuditProofReader {
             memberRepository.save(new AuditAnchorMember(batch, leaf.auditLogId(), leaf.index(), leaf.hash(), writeProof(leaf.proof())));
         }
         memberRepository.flush();
-        return batch.getId();
+        markRecords(batch.getId(), AuditRecordAnchorStatus.PENDING);
+        return batch;
+    }
+
+    /**
+     * Sends the batches back to back without waiting for receipts, packing up to
+     * {@link AuditAnchorBlockchainService#maxRootsPerTransaction()} roots into each transaction.
+     */
+    private void submit(List<UUID> batchIds) {
+        int chunk = blockchainService.maxRootsPerTransaction();
+        for (int from = 0; from < batchIds.size(); from += chunk) {
+            submitTransaction(batchIds.subList(from, Math.min(batchIds.size(), from + chunk)));
+        }
     }
 
-    private void submit(UUID batchId) {
+    private void submitTransaction(List<UUID> batchIds) {
         transactionTemplate.executeWithoutResult(status -> {
-            AuditAnchorBatch batch = batchRepository.findById(batchId).orElseThrow();
-            if (batch.getStatus() == AuditAnchorBatchStatus.SUBMITTED || batch.getStatus() == AuditAnchorBatchStatus.CONFIRMED) return;
-            batch.setAttempts(batch.getAttempts() + 1);
-            batch.setLastError(null);
-            batch.setNextAttemptAt(null);
+            List<AuditAnchorBatch> batches = batchRepository.findAllById(batchIds).stream()
+                    .filter(batch -> batch.getStatus() != AuditAnchorBatchStatus.SUBMITTED
+                            && batch.getStatus() != AuditAnchorBatchStatus.CONFIRMED)
+                    .toList();
+            if (batches.isEmpty()) return;
+            for (AuditAnchorBatch batch : batches) {
+                batch.setAttempts(batch.getAttempts() + 1);
+                batch.setLastError(null);
+                batch.setNextAttemptAt(null);
+            }
+            try {
+                AuditAnchorBlockchainService.Submission submission = blockchainService.submit(roots(batches));
+                for (AuditAnchorBatch batch : batches) {
+                    boolean retry = batch.getStatus() == AuditAnchorBatchStatus.FAILED;
+                    batch.setTransactionHash(submission.transactionHash());
+                    batch.clearReplacedTransactionHashes();
+                    batch.setNonce(submission.nonce());
+                    batch.setGasPrice(submission.gasPrice());
+                    batch.setChainId(submission.chainId());
+                    batch.setContractAddress(submission.contractAddress());
+                    batch.setSubmittedBlock(null);
+                    batch.setSubmittedAt(Instant.now());
+                    batch.setStatus(AuditAnchorBatchStatus.SUBMITTED);
+                    if (retry) markRecords(batch.getId(), AuditRecordAnchorStatus.PENDING);
+                }
+            } catch (Exception e) {
+                for (AuditAnchorBatch batch : batches) {
+                    batch.setStatus(AuditAnchorBatchStatus.FAILED);
+                    markRecords(batch.getId(), AuditRecordAnchorStatus.FAILED);
+                    batch.setLastError(limit(e.getMessage()));
+                    batch.setNextAttemptAt(Instant.now().plus(retryDelay(batch.getAttempts())));
+                    log.error("Audit anchor submission failed for batch {}", batch.getId(), e);
+                    auditService.log(AuditAction.ANCHOR_FAILED, "AUDIT_ANCHOR_BATCH", batch.getId().toString(), null,
+                            Map.of("root", batch.getMerkleRoot(), "error", limit(e.getMessage())), null);
+                }
+            }
+        });
+    }
+
+    /**
+     * Re-sends unmined anchoring transactions at their nonce with a higher gas price. Every earlier hash is kept so
+     * reconciliation still finds the receipt whichever of them wins the race.
+     */
+    private void replaceStuckTransactions() {
+        Instant cutoff = Instant.now().minusSeconds(Math.max(1, replaceAfterSeconds));
+        Map<String, List<UUID>> stuck = new LinkedHashMap<>();
+        for (AuditAnchorBatch batch : batchRepository.findByStatusInOrderByCreatedAtAsc(
+                List.of(AuditAnchorBatchStatus.SUBMITTED))) {
+            if (batch.getSubmittedBlock() != null || batch.getNonce() == null || batch.getTransactionHash() == null
+                    || batch.getSubmittedAt() == null || batch.getSubmittedAt().isAfter(cutoff)) continue;
+            stuck.computeIfAbsent(batch.getTransactionHash(), hash -> new ArrayList<>()).add(batch.getId());
+        }
+        stuck.keySet().forEach(this::replace);
+    }
+
+    private void replace(String transactionHash) {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<AuditAnchorBatch> batches = batchRepository.findByTransactionHashAndStatus(
+                    transactionHash, AuditAnchorBatchStatus.SUBMITTED);
+            if (batches.isEmpty() || batches.getFirst().getSubmittedBlock() != null) return;
+            AuditAnchorBatch first = batches.getFirst();
             try {
-                AuditAnchorBlockchainService.Submission submission = blockchainService.submit(
-                        batch.getMerkleRoot(), batch.getRecordCount(), batch.getMetadataHash());
-                batch.setTransactionHash(submission.transactionHash());
-                batch.setChainId(submission.chainId());
-                batch.setContractAddress(submission.contractAddress());
-                batch.setSubmittedAt(Instant.now());
-                batch.setStatus(AuditAnchorBatchStatus.SUBMITTED);
+                Optional<AuditAnchorBlockchainService.Submission> replacement =
+                        blockchainService.replace(roots(batches), first.getNonce(), first.getGasPrice());
+                if (replacement.isEmpty()) {
+                    log.warn("Anchor transaction {} is stuck at the gas price cap", transactionHash);
+                    return;
+                }
+                for (AuditAnchorBatch batch : batches) {
+                    batch.addReplacedTransactionHash(transactionHash);
+                    batch.setTransactionHash(replacement.get().transactionHash());
+                    batch.setGasPrice(replacement.get().gasPrice());
+                    batch.setSubmittedAt(Instant.now());
+                }
+                log.info("Replaced stuck anchor transaction {} with {} at nonce {}",
+                        transactionHash, replacement.get().transactionHash(), first.getNonce());
             } catch (Exception e) {
-                batch.setStatus(AuditAnchorBatchStatus.FAILED);
-                batch.setLastError(limit(e.getMessage()));
-                batch.setNextAttemptAt(Instant.now().plus(retryDelay(batch.getAttempts())));
-                log.error("Audit anchor submission failed for batch {}", batchId, e);
-                auditService.log(AuditAction.ANCHOR_FAILED, "AUDIT_ANCHOR_BATCH", batchId.toString(), null,
-                        Map.of("root", batch.getMerkleRoot(), "error", limit(e.getMessage())), null);
+                // Usually "nonce too low": one of the transactions at this nonce was mined meanwhile.
+                log.warn("Unable to replace anchor transaction {}: {}", transactionHash, e.getMessage());
             }
         });
     }
 
-    private void reconcile(UUID batchId) {
+    private List<AuditAnchorBlockchainService.AnchorRoot> roots(List<AuditAnchorBatch> batches) {
+        return batches.stream()
+                .map(batch -> new AuditAnchorBlockchainService.AnchorRoot(
+                        batch.getMerkleRoot(), batch.getRecordCount(), batch.getMetadataHash()))
+                .toList();
+    }
+
+    private void reconcile(UUID batchId, Map<String, Optional<TransactionReceipt>> receipts) {
         transactionTemplate.executeWithoutResult(status -> {
             AuditAnchorBatch batch = batchRepository.findById(batchId).orElseThrow();
             try {
-                Optional<TransactionReceipt> optionalReceipt = blockchainService.receipt(batch.getTransactionHash());
+                Optional<TransactionReceipt> optionalReceipt = receipt(batch.getTransactionHash(), receipts);
+                List<String> replaced = batch.getReplacedTransactionHashes();
+                for (int i = replaced.size() - 1; i >= 0 && optionalReceipt.isEmpty(); i--) {
+                    optionalReceipt = receipt(replaced.get(i), receipts);
+                    if (optionalReceipt.isPresent()) batch.setTransactionHash(replaced.get(i));
+                }
+                if (optionalReceipt.isPresent()) batch.clearReplacedTransactionHashes();
                 if (optionalReceipt.isEmpty()) return;
                 TransactionReceipt receipt = optionalReceipt.get();
                 if (!receipt.isStatusOK()) {
                     batch.setStatus(AuditAnchorBatchStatus.FAILED);
                     batch.setLastError("Anchor transaction reverted");
+                    markRecords(batchId, AuditRecordAnchorStatus.FAILED);
                     batch.setNextAttemptAt(Instant.now().plus(retryDelay(batch.getAttempts())));
                     return;
                 }
@@ -274,12 +453,15 @@ public class AuditAnchorService implements AuditProofReader {
                         || !anchor.get().metadataHash().equalsIgnoreCase(batch.getMetadataHash())) {
                     batch.setStatus(AuditAnchorBatchStatus.FAILED);
                     batch.setLastError("On-chain anchor metadata mismatch");
+                    markRecords(batchId, AuditRecordAnchorStatus.FAILED);
                     batch.setNextAttemptAt(Instant.now().plus(retryDelay(batch.getAttempts())));
                     return;
                 }
                 batch.setStatus(AuditAnchorBatchStatus.CONFIRMED);
                 batch.setConfirmedBlock(receipt.getBlockNumber());
                 batch.setConfirmedAt(Instant.now());
+                rootCache.put(batch, anchor.get());
+                markRecords(batchId, AuditRecordAnchorStatus.VERIFIED);
                 auditService.log(AuditAction.ANCHOR_SUCCESS, "AUDIT_ANCHOR_BATCH", batchId.toString(), null,
                         Map.of("root", batch.getMerkleRoot(), "transactionHash", batch.getTransactionHash()), null);
             } catch (AuditAnchorBlockchainService.BlockchainUnavailableException e) {
@@ -288,6 +470,19 @@ public class AuditAnchorService implements AuditProofReader {
         });
     }
 
+    private Optional<TransactionReceipt> receipt(String transactionHash,
+                                                 Map<String, Optional<TransactionReceipt>> receipts) {
+        Optional<TransactionReceipt> cached = receipts.get(transactionHash);
+        if (cached != null) return cached;
+        Optional<TransactionReceipt> receipt = blockchainService.receipt(transactionHash);
+        receipts.put(transactionHash, receipt);
+        return receipt;
+    }
+
+    private void markRecords(UUID batchId, AuditRecordAnchorStatus status) {
+        auditLogRepository.updateAnchorStatusForBatch(batchId, status.name());
+    }
+
     private AuditVerificationStatus localStatus(AuditLog logEntry, AuditAnchorMember member) {
         List<String> proof = readProof(member.getMerkleProof());
         boolean leafMatches = merkleService.leafHash(logEntry).equalsIgnoreCase(member.getLeafHash());
@@ -0,0 +1,209 @@
+package com.clienthub.web3.service;
+
+import com.clienthub.application.exception.ResourceNotFoundException;
+import com.clienthub.application.service.AuditArchiveService;
+import com.clienthub.domain.entity.AuditAnchorBatch;
+import com.clienthub.domain.entity.AuditAnchorMember;
+import com.clienthub.domain.entity.AuditLog;
+import com.clienthub.domain.enums.AuditAnchorBatchStatus;
+import com.clienthub.domain.enums.AuditVerificationStatus;
+import com.clienthub.domain.repository.AuditAnchorBatchRepository;
+import com.clienthub.domain.repository.AuditAnchorMemberRepository;
+import com.clienthub.domain.repository.AuditLogRepository;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Verifies many audit records at once. Records are grouped by anchor batch so the batch root and its
+ * on-chain anchor are read once through {@link AuditAnchorRootCache}, while leaf hashes and proofs are
+ * checked in parallel.
+ */
+@Service
+public class AuditBulkVerificationService {
+    private static final Logger log = LoggerFactory.getLogger(AuditBulkVerificationService.class);
+
+    private final AuditLogRepository auditLogRepository;
+    private final AuditAnchorBatchRepository batchRepository;
+    private final AuditAnchorMemberRepository memberRepository;
+    private final AuditMerkleService merkleService;
+    private final AuditAnchorRootCache rootCache;
+    private final AuditArchiveService archiveService;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${audit.verification.parallelism:4}") private int parallelism;
+
+    public AuditBulkVerificationService(AuditLogRepository auditLogRepository,
+                                        AuditAnchorBatchRepository batchRepository,
+                                        AuditAnchorMemberRepository memberRepository,
+                                        AuditMerkleService merkleService,
+                                        AuditAnchorRootCache rootCache,
+                                        AuditArchiveService archiveService,
+                                        ObjectMapper objectMapper,
+                                        PlatformTransactionManager transactionManager) {
+        this.auditLogRepository = auditLogRepository;
+        this.batchRepository = batchRepository;
+        this.memberRepository = memberRepository;
+        this.merkleService = merkleService;
+        this.rootCache = rootCache;
+        this.archiveService = archiveService;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    public void checkRequest(UUID batchId, Instant from, Instant to) {
+        if (batchId == null && (from == null || to == null)) {
+            throw new IllegalArgumentException("Either batchId or both from and to are required");
+        }
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new IllegalArgumentException("from must be before to");
+        }
+        if (batchId != null && !batchRepository.existsById(batchId)) {
+            throw new ResourceNotFoundException("AuditAnchorBatch", "id", batchId);
+        }
+    }
+
+    /**
+     * Verifies every anchored record of a batch, or every anchored record created in {@code [from, to)}.
+     * Mismatches are handed to {@code mismatches} on the calling thread, batch by batch, in leaf order.
+     */
+    public AuditBulkVerificationSummary verify(UUID batchId, Instant from, Instant to,
+                                               Consumer<AuditVerificationMismatch> mismatches) {
+        checkRequest(batchId, from, to);
+        Instant startedAt = Instant.now();
+        boolean ranged = from != null && to != null;
+        Collection<UUID> batchIds = batchId != null
+                ? List.of(batchId)
+                : transactionTemplate.execute(status -> rangeBatchIds(from, to));
+
+        long[] counts = new long[AuditVerificationStatus.values().length];
+        int batches = 0;
+        ForkJoinPool pool = new ForkJoinPool(Math.max(1, parallelism));
+        try {
+            for (UUID id : batchIds == null ? List.<UUID>of() : batchIds) {
+                List<LeafResult> results = transactionTemplate.execute(status ->
+                        verifyBatch(id, ranged ? from : null, ranged ? to : null, pool));
+                // Archived months are matched by id window, so a batch may turn out to hold no record in range.
+                if (results == null || results.isEmpty()) continue;
+                batches++;
+                for (LeafResult result : results) {
+                    counts[result.status().ordinal()]++;
+                    if (result.status() == AuditVerificationStatus.TAMPERED) {
+                        mismatches.accept(new AuditVerificationMismatch(
+                                result.auditLogId(), id, result.status(), result.reason()));
+                    }
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        log.info("Bulk audit verification checked {} batches: {} verified, {} tampered",
+                batches, counts[AuditVerificationStatus.VERIFIED.ordinal()],
+                counts[AuditVerificationStatus.TAMPERED.ordinal()]);
+        return new AuditBulkVerificationSummary(batchId, from, to, batches,
+                counts[AuditVerificationStatus.VERIFIED.ordinal()],
+                counts[AuditVerificationStatus.PENDING.ordinal()],
+                counts[AuditVerificationStatus.TAMPERED.ordinal()],
+                counts[AuditVerificationStatus.CHAIN_UNAVAILABLE.ordinal()],
+                startedAt, Instant.now());
+    }
+
+    /** Batches with live records in the range plus those whose records were archived out of {@code audit_logs}. */
+    private Set<UUID> rangeBatchIds(Instant from, Instant to) {
+        Set<UUID> ids = new LinkedHashSet<>(memberRepository.findBatchIdsByAuditLogCreatedAtBetween(from, to));
+        ids.addAll(memberRepository.findBatchIdsCoveringArchivedRange(from, to));
+        return ids;
+    }
+
+    private List<LeafResult> verifyBatch(UUID batchId, Instant from, Instant to, ForkJoinPool pool) {
+        AuditAnchorBatch batch = batchRepository.findById(batchId).orElse(null);
+        if (batch == null) return null;
+
+        List<AuditAnchorMember> allMembers = memberRepository.findByBatchIdOrderByLeafIndexAsc(batchId);
+        List<Long> auditLogIds = allMembers.stream().map(AuditAnchorMember::getAuditLogId).toList();
+        Map<Long, AuditLog> logs = auditLogRepository.findAllById(auditLogIds).stream()
+                .collect(Collectors.toMap(AuditLog::getId, value -> value));
+        if (logs.size() < auditLogIds.size()) {
+            logs.putAll(archiveService.findArchived(auditLogIds.stream().filter(id -> !logs.containsKey(id)).toList()));
+        }
+        List<AuditAnchorMember> members = from == null ? allMembers : allMembers.stream()
+                .filter(member -> inRange(logs.get(member.getAuditLogId()), from, to))
+                .toList();
+        if (members.isEmpty()) return List.of();
+
+        AuditVerificationStatus anchorStatus = anchorStatus(batch);
+        try {
+            return pool.submit(() -> members.parallelStream()
+                    .map(member -> verifyLeaf(batch, member, logs.get(member.getAuditLogId()), anchorStatus))
+                    .toList()).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Bulk audit verification was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Bulk audit verification failed for batch " + batchId, e.getCause());
+        }
+    }
+
+    private AuditVerificationStatus anchorStatus(AuditAnchorBatch batch) {
+        String expectedMetadata = merkleService.metadataHash(
+                batch.getFirstLogId(), batch.getLastLogId(), batch.getRecordCount());
+        if (!expectedMetadata.equalsIgnoreCase(batch.getMetadataHash())) return AuditVerificationStatus.TAMPERED;
+        if (batch.getStatus() != AuditAnchorBatchStatus.CONFIRMED) return AuditVerificationStatus.PENDING;
+        try {
+            Optional<AuditAnchorBlockchainService.OnChainAnchor> anchor = rootCache.read(batch);
+            boolean matches = anchor.isPresent()
+                    && anchor.get().recordCount() == batch.getRecordCount()
+                    && anchor.get().metadataHash().equalsIgnoreCase(batch.getMetadataHash());
+            return matches ? AuditVerificationStatus.VERIFIED : AuditVerificationStatus.TAMPERED;
+        } catch (AuditAnchorBlockchainService.BlockchainUnavailableException e) {
+            return AuditVerificationStatus.CHAIN_UNAVAILABLE;
+        }
+    }
+
+    private LeafResult verifyLeaf(AuditAnchorBatch batch, AuditAnchorMember member, AuditLog logEntry,
+                                  AuditVerificationStatus anchorStatus) {
+        Long auditLogId = member.getAuditLogId();
+        if (logEntry == null) {
+            return new LeafResult(auditLogId, AuditVerificationStatus.TAMPERED, "Audit record is missing");
+        }
+        if (!merkleService.leafHash(logEntry).equalsIgnoreCase(member.getLeafHash())) {
+            return new LeafResult(auditLogId, AuditVerificationStatus.TAMPERED,
+                    "Audit record does not match its anchored leaf hash");
+        }
+        if (!merkleService.verify(member.getLeafHash(), readProof(member.getMerkleProof()), batch.getMerkleRoot())) {
+            return new LeafResult(auditLogId, AuditVerificationStatus.TAMPERED,
+                    "Merkle proof does not resolve to the batch root");
+        }
+        if (anchorStatus == AuditVerificationStatus.TAMPERED) {
+            return new LeafResult(auditLogId, AuditVerificationStatus.TAMPERED,
+                    "Batch metadata does not match the anchored root");
+        }
+        return new LeafResult(auditLogId, anchorStatus, null);
+    }
+
+    private boolean inRange(AuditLog logEntry, Instant from, Instant to) {
+        return logEntry != null && !logEntry.getCreatedAt().isBefore(from) && logEntry.getCreatedAt().isBefore(to);
+    }
+
+    private List<String> readProof(String proof) {
+        try { return objectMapper.readValue(proof, new TypeReference<>() {}); }
+        catch (Exception e) { throw new IllegalStateException("Unable to read Merkle proof", e); }
+    }
+
+    private record LeafResult(Long auditLogId, AuditVerificationStatus status, String reason) {}
+}
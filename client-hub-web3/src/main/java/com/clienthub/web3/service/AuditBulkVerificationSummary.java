@@ -0,0 +1,17 @@
+package com.clienthub.web3.service;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record AuditBulkVerificationSummary(
+        UUID batchId,
+        Instant from,
+        Instant to,
+        int batches,
+        long verifiedRecords,
+        long pendingRecords,
+        long tamperedRecords,
+        long chainUnavailableRecords,
+        Instant startedAt,
+        Instant finishedAt) {
+}
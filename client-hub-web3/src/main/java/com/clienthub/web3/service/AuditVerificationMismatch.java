@@ -0,0 +1,8 @@
+package com.clienthub.web3.service;
+
+import com.clienthub.domain.enums.AuditVerificationStatus;
+import java.util.UUID;
+
+public record AuditVerificationMismatch(
+        Long auditLogId, UUID batchId, AuditVerificationStatus verificationStatus, String reason) {
+}
@@ -7,10 +7,22 @@ import com.clienthub.domain.enums.InvoiceStatus;
 import com.clienthub.domain.enums.PaymentMethod;
 import com.clienthub.domain.event.InvoiceStatusChangedEvent;
 import com.clienthub.domain.repository.InvoiceRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.math.BigInteger;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -22,11 +34,16 @@ import org.springframework.stereotype.Component;
 public class BlockchainReconciliationJob {
 
     private static final Logger log = LoggerFactory.getLogger(BlockchainReconciliationJob.class);
+    private static final List<InvoiceStatus> CLOSED_STATUSES = List.of(InvoiceStatus.PAID, InvoiceStatus.REFUNDED);
 
     private final BlockchainService blockchainService;
     private final InvoiceRepository invoiceRepository;
     private final ApplicationEventPublisher eventPublisher;
     private final EscrowValidationService escrowValidationService;
+    private final ChainHeadTracker chainHeadTracker;
+    private final EscrowReconciliationSchedule schedule;
+    private final EscrowSnapshotCache snapshotCache;
+    private ExecutorService workerExecutor;
 
     @Value("${blockchain.enabled:false}")
     private boolean blockchainEnabled;
@@ -37,17 +54,44 @@ public class BlockchainReconciliationJob {
     @Value("${blockchain.required_confirmations:12}")
     private int requiredConfirmations;
 
+    @Value("${blockchain.rpc.batch_size:200}")
+    private int rpcBatchSize;
+
+    @Value("${blockchain.reconciliation.workers:4}")
+    private int workers;
+
+    @Value("${blockchain.reconciliation.max_checks_per_run:2000}")
+    private int maxChecksPerRun;
+
     public BlockchainReconciliationJob(BlockchainService blockchainService,
                                        InvoiceRepository invoiceRepository,
                                        ApplicationEventPublisher eventPublisher,
-                                       EscrowValidationService escrowValidationService) {
+                                       EscrowValidationService escrowValidationService,
+                                       ChainHeadTracker chainHeadTracker,
+                                       EscrowReconciliationSchedule schedule,
+                                       EscrowSnapshotCache snapshotCache) {
         this.blockchainService = blockchainService;
         this.invoiceRepository = invoiceRepository;
         this.eventPublisher = eventPublisher;
         this.escrowValidationService = escrowValidationService;
+        this.chainHeadTracker = chainHeadTracker;
+        this.schedule = schedule;
+        this.snapshotCache = snapshotCache;
+    }
+
+    /** Chunks run on one pool for the life of the bean instead of a new pool per run. */
+    @PostConstruct
+    void startWorkerExecutor() {
+        workerExecutor = Executors.newFixedThreadPool(Math.max(1, workers),
+                Thread.ofPlatform().name("escrow-reconcile-", 0).daemon().factory());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        workerExecutor.shutdownNow();
     }
 
-    @Scheduled(fixedDelayString = "${blockchain.reconciliation_delay_ms:300000}")
+    @Scheduled(fixedDelayString = "${blockchain.reconciliation_delay_ms:30000}")
     public void reconcileEscrowStatuses() {
         if (!blockchainEnabled) {
             return;
@@ -55,49 +99,121 @@ public class BlockchainReconciliationJob {
 
         TenantContext.setSystemContext();
         try {
-            log.info("Starting blockchain reconciliation job for escrow invoices...");
+            Instant now = Instant.now();
+            schedule.sync(invoiceRepository.findSystemCryptoInvoiceIdsByPaymentMethodAndStatusNotIn(
+                    PaymentMethod.CRYPTO_ESCROW, CLOSED_STATUSES), now);
+            List<Long> due = schedule.pollDue(now, Math.max(1, maxChecksPerRun));
+            if (due.isEmpty()) {
+                return;
+            }
 
-            List<Invoice> activeInvoices = invoiceRepository.findSystemCryptoInvoicesByPaymentMethodAndStatusNotIn(
-                    PaymentMethod.CRYPTO_ESCROW,
-                    List.of(InvoiceStatus.PAID, InvoiceStatus.REFUNDED)
-            );
+            log.info("Reconciling {} of {} open escrow invoices", due.size(), schedule.size());
+            try {
+                List<Invoice> invoices = invoiceRepository.findSystemCryptoInvoicesByIdInAndPaymentMethodAndStatusNotIn(
+                        due, PaymentMethod.CRYPTO_ESCROW, CLOSED_STATUSES);
+                Set<Long> loaded = invoices.stream().map(Invoice::getId).collect(Collectors.toSet());
+                due.stream().filter(invoiceId -> !loaded.contains(invoiceId))
+                        .forEach(invoiceId -> schedule.reschedule(invoiceId, false, now));
 
-            for (Invoice invoice : activeInvoices) {
-                reconcileInvoice(invoice);
+                BigInteger currentBlock = chainHeadTracker.currentBlock().or(chainHeadTracker::refresh).orElse(null);
+                runChunks(invoices, currentBlock);
+            } finally {
+                // Anything a failed chunk or an interruption left unscheduled would otherwise never be checked again.
+                schedule.release(due, Instant.now());
             }
-
-            log.info("Finished blockchain reconciliation job.");
         } finally {
             TenantContext.clear();
         }
     }
 
-    private void reconcileInvoice(Invoice invoice) {
-        Optional<EscrowSnapshot> optSnapshot = blockchainService.getEscrowSnapshot(invoice.getId());
-        if (optSnapshot.isEmpty()) {
-            log.warn("Skipping invoice {} reconciliation because escrow snapshot could not be read", invoice.getId());
-            return;
+    /** Spreads the due invoices over the worker pool in chunks of one JSON-RPC batch each. */
+    private void runChunks(List<Invoice> invoices, BigInteger currentBlock) {
+        int chunkSize = Math.max(1, rpcBatchSize);
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int start = 0; start < invoices.size(); start += chunkSize) {
+            List<Invoice> chunk = invoices.subList(start, Math.min(invoices.size(), start + chunkSize));
+            tasks.add(() -> {
+                TenantContext.setSystemContext();
+                try {
+                    reconcile(chunk, currentBlock);
+                } finally {
+                    TenantContext.clear();
+                }
+                return null;
+            });
+        }
+
+        try {
+            for (Future<Void> result : workerExecutor.invokeAll(tasks)) {
+                try {
+                    result.get();
+                } catch (ExecutionException e) {
+                    log.error("Escrow reconciliation chunk failed", e.getCause());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
         }
+    }
+
+    /**
+     * Reads the chunk's snapshots and the needed transaction receipts in JSON-RPC batches, then applies them
+     * invoice by invoice and schedules each invoice's next check.
+     */
+    private void reconcile(List<Invoice> invoices, BigInteger currentBlock) {
+        Map<Long, EscrowSnapshot> snapshots = blockchainService.getEscrowSnapshots(
+                invoices.stream().map(Invoice::getId).toList());
+        snapshotCache.putAll(snapshots);
+        List<String> txHashes = invoices.stream()
+                .filter(invoice -> isStarted(snapshots.get(invoice.getId())))
+                .map(Invoice::getTxHash)
+                .filter(txHash -> txHash != null && !txHash.isBlank())
+                .distinct()
+                .toList();
+        ChainView chain = new ChainView(
+                currentBlock,
+                txHashes.isEmpty() ? Map.of() : blockchainService.getTransactionBlockNumbers(txHashes));
+
+        for (Invoice invoice : invoices) {
+            boolean changed = false;
+            try {
+                changed = reconcileInvoice(invoice, snapshots.get(invoice.getId()), chain)
+                        || invoice.getStatus() == InvoiceStatus.DEPOSIT_DETECTED;
+            } finally {
+                schedule.reschedule(invoice.getId(), changed, Instant.now());
+            }
+        }
+    }
+
+    private static boolean isStarted(EscrowSnapshot snapshot) {
+        return snapshot != null && snapshot.status() != EscrowStatus.NOT_STARTED;
+    }
 
-        EscrowSnapshot snapshot = optSnapshot.get();
+    private boolean reconcileInvoice(Invoice invoice, EscrowSnapshot snapshot, ChainView chain) {
+        if (snapshot == null) {
+            log.warn("Skipping invoice {} reconciliation because escrow snapshot could not be read", invoice.getId());
+            return false;
+        }
         if (snapshot.status() == EscrowStatus.NOT_STARTED) {
-            return;
+            return false;
         }
 
         EscrowValidationResult validation = escrowValidationService.validate(invoice, snapshot, snapshot.status());
         if (!validation.valid()) {
             log.warn("Skipping invoice {} reconciliation: {}", invoice.getId(), validation.reason());
-            return;
+            return false;
         }
 
         InvoiceStatus previousStatus = invoice.getStatus();
-        if (applyValidatedSnapshot(invoice, snapshot.status())) {
-            invoiceRepository.save(invoice);
-            eventPublisher.publishEvent(new InvoiceStatusChangedEvent(this, invoice, previousStatus));
+        if (!applyValidatedSnapshot(invoice, snapshot.status(), chain)) {
+            return false;
         }
+        invoiceRepository.save(invoice);
+        eventPublisher.publishEvent(new InvoiceStatusChangedEvent(this, invoice, previousStatus));
+        return true;
     }
 
-    private boolean applyValidatedSnapshot(Invoice invoice, EscrowStatus onChainStatus) {
+    private boolean applyValidatedSnapshot(Invoice invoice, EscrowStatus onChainStatus, ChainView chain) {
         InvoiceStatus previousStatus = invoice.getStatus();
         EscrowStatus previousEscrowStatus = invoice.getEscrowStatus();
         String previousTxHash = invoice.getTxHash();
@@ -108,11 +224,11 @@ public class BlockchainReconciliationJob {
         invoice.setSmartContractId(contractAddress);
 
         if (onChainStatus == EscrowStatus.DEPOSITED) {
-            applyDepositedSnapshot(invoice);
+            applyDepositedSnapshot(invoice, chain);
         } else if (onChainStatus == EscrowStatus.RELEASED) {
-            applyTerminalSnapshot(invoice, EscrowStatus.RELEASED, InvoiceStatus.PAID, EscrowContractEvents.RELEASED_TOPIC);
+            applyTerminalSnapshot(invoice, EscrowStatus.RELEASED, InvoiceStatus.PAID, EscrowContractEvents.RELEASED_TOPIC, chain);
         } else if (onChainStatus == EscrowStatus.REFUNDED) {
-            applyTerminalSnapshot(invoice, EscrowStatus.REFUNDED, InvoiceStatus.REFUNDED, EscrowContractEvents.REFUNDED_TOPIC);
+            applyTerminalSnapshot(invoice, EscrowStatus.REFUNDED, InvoiceStatus.REFUNDED, EscrowContractEvents.REFUNDED_TOPIC, chain);
         }
 
         return previousStatus != invoice.getStatus()
@@ -123,12 +239,12 @@ public class BlockchainReconciliationJob {
                 || !Objects.equals(previousSmartContractId, invoice.getSmartContractId());
     }
 
-    private void applyDepositedSnapshot(Invoice invoice) {
-        Optional<BlockchainEventReference> reference = existingTransactionReference(invoice)
+    private void applyDepositedSnapshot(Invoice invoice, ChainView chain) {
+        Optional<BlockchainEventReference> reference = existingTransactionReference(invoice, chain)
                 .or(() -> blockchainService.findEventReference(EscrowContractEvents.DEPOSITED_TOPIC, invoice.getId()));
         int confirmations = reference
                 .map(BlockchainEventReference::blockNumber)
-                .map(blockchainService::getConfirmationsSince)
+                .map(chain::confirmationsSince)
                 .orElse(invoice.getConfirmations() != null ? invoice.getConfirmations() : 0);
 
         reference.map(BlockchainEventReference::transactionHash).ifPresent(invoice::setTxHash);
@@ -141,12 +257,13 @@ public class BlockchainReconciliationJob {
         }
     }
 
-    private void applyTerminalSnapshot(Invoice invoice, EscrowStatus escrowStatus, InvoiceStatus invoiceStatus, String eventTopic) {
+    private void applyTerminalSnapshot(Invoice invoice, EscrowStatus escrowStatus, InvoiceStatus invoiceStatus,
+                                       String eventTopic, ChainView chain) {
         Optional<BlockchainEventReference> reference = blockchainService.findEventReference(eventTopic, invoice.getId())
-                .or(() -> existingTransactionReference(invoice));
+                .or(() -> existingTransactionReference(invoice, chain));
         reference.map(BlockchainEventReference::transactionHash).ifPresent(invoice::setTxHash);
         reference.map(BlockchainEventReference::blockNumber)
-                .map(blockchainService::getConfirmationsSince)
+                .map(chain::confirmationsSince)
                 .ifPresent(confirmations -> {
                     int existingConfirmations = invoice.getConfirmations() != null ? invoice.getConfirmations() : 0;
                     if (confirmations > existingConfirmations) {
@@ -161,17 +278,23 @@ public class BlockchainReconciliationJob {
         }
     }
 
-    private Optional<BlockchainEventReference> existingTransactionReference(Invoice invoice) {
+    private Optional<BlockchainEventReference> existingTransactionReference(Invoice invoice, ChainView chain) {
         String txHash = invoice.getTxHash();
         if (txHash == null || txHash.isBlank()) {
             return Optional.empty();
         }
 
-        return blockchainService.getTransactionBlockNumber(txHash)
+        return Optional.ofNullable(chain.transactionBlocks().get(txHash))
                 .map(blockNumber -> new BlockchainEventReference(txHash, blockNumber));
     }
 
     private int effectiveRequiredConfirmations() {
         return Math.max(1, requiredConfirmations);
     }
+
+    private record ChainView(BigInteger currentBlock, Map<String, BigInteger> transactionBlocks) {
+        int confirmationsSince(BigInteger blockNumber) {
+            return BlockchainService.confirmations(currentBlock, blockNumber);
+        }
+    }
 }
@@ -1,6 +1,9 @@
 package com.clienthub.web3.service;
 
+import com.clienthub.domain.entity.BlockchainCursor;
 import com.clienthub.domain.enums.EscrowStatus;
+import com.clienthub.domain.repository.BlockchainCursorRepository;
+import com.clienthub.domain.repository.EscrowEventRepository;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.web3j.abi.FunctionEncoder;
@@ -12,20 +15,29 @@ import org.web3j.abi.datatypes.Type;
 import org.web3j.abi.datatypes.generated.Uint256;
 import org.web3j.abi.datatypes.generated.Uint8;
 import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.DefaultBlockParameter;
 import org.web3j.protocol.core.DefaultBlockParameterName;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
 import org.web3j.protocol.core.methods.request.EthFilter;
 import org.web3j.protocol.core.methods.request.Transaction;
 import org.web3j.protocol.core.methods.response.EthCall;
 import org.web3j.protocol.core.methods.response.EthGetTransactionReceipt;
 import org.web3j.protocol.core.methods.response.EthLog;
+import org.web3j.protocol.core.methods.response.Log;
 import org.web3j.protocol.core.methods.response.TransactionReceipt;
-import org.web3j.protocol.http.HttpService;
 import org.web3j.utils.Numeric;
 
 import jakarta.annotation.PostConstruct;
 import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -37,18 +49,35 @@ public class BlockchainService {
     @Value("${blockchain.enabled:false}")
     private boolean blockchainEnabled;
 
-    @Value("${blockchain.node_url:http://localhost:8545}")
-    private String nodeUrl;
-
     @Value("${blockchain.contract_address:}")
     private String contractAddress;
 
+    @Value("${blockchain.rpc.batch_size:200}")
+    private int rpcBatchSize;
+
+    @Value("${blockchain.indexer.live_lookup_blocks:2000}")
+    private int liveLookupBlocks;
+
+    private final EscrowEventRepository escrowEventRepository;
+    private final BlockchainCursorRepository cursorRepository;
+    private final RpcRateLimiter rateLimiter;
+    private final RpcTransport rpcTransport;
     private Web3j web3j;
 
+    public BlockchainService(EscrowEventRepository escrowEventRepository,
+                             BlockchainCursorRepository cursorRepository,
+                             RpcRateLimiter rateLimiter,
+                             RpcTransport rpcTransport) {
+        this.escrowEventRepository = escrowEventRepository;
+        this.cursorRepository = cursorRepository;
+        this.rateLimiter = rateLimiter;
+        this.rpcTransport = rpcTransport;
+    }
+
     @PostConstruct
     public void init() {
         if (blockchainEnabled) {
-            this.web3j = Web3j.build(new HttpService(nodeUrl));
+            this.web3j = rpcTransport.web3j();
         }
     }
 
@@ -64,65 +93,121 @@ public class BlockchainService {
         }
 
         try {
-            Function function = new Function("escrows",
-                    Arrays.asList(new Uint256(BigInteger.valueOf(invoiceId))),
-                    Arrays.asList(
-                            new TypeReference<Address>() {},
-                            new TypeReference<Address>() {},
-                            new TypeReference<Address>() {},
-                            new TypeReference<Uint256>() {},
-                            new TypeReference<Uint8>() {}));
-
-            String encodedFunction = FunctionEncoder.encode(function);
-            EthCall response = web3j.ethCall(
-                    Transaction.createEthCallTransaction(null, contractAddress, encodedFunction),
-                    DefaultBlockParameterName.LATEST).send();
-
-            String value = response.getValue();
-            if (value == null || value.equals("0x")) {
-                return Optional.empty();
-            }
+            rateLimiter.acquire(1);
+            EthCall response = escrowCall(invoiceId).send();
+            return decodeSnapshot(response.getValue());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        } catch (Exception e) {
+            log.error("Error getting escrow snapshot", e);
+            return Optional.empty();
+        }
+    }
 
-            List<Type> decoded = FunctionReturnDecoder.decode(value, function.getOutputParameters());
-            if (decoded.size() < 5) {
-                return Optional.empty();
+    /**
+     * Reads escrow snapshots with JSON-RPC batch requests of {@code blockchain.rpc.batch_size} calls each. Invoices
+     * whose call fails or returns nothing are absent from the result.
+     */
+    public Map<Long, EscrowSnapshot> getEscrowSnapshots(Collection<Long> invoiceIds) {
+        Map<Long, EscrowSnapshot> snapshots = new HashMap<>();
+        if (invoiceIds.isEmpty() || !blockchainEnabled || web3j == null
+                || contractAddress == null || contractAddress.isEmpty()) {
+            return snapshots;
+        }
+
+        for (List<Long> chunk : chunks(List.copyOf(invoiceIds))) {
+            try {
+                rateLimiter.acquire(chunk.size());
+                BatchRequest batch = web3j.newBatch();
+                Map<Long, Long> invoiceByRequestId = new HashMap<>();
+                for (Long invoiceId : chunk) {
+                    Request<?, EthCall> request = escrowCall(invoiceId);
+                    invoiceByRequestId.put(request.getId(), invoiceId);
+                    batch.add(request);
+                }
+                for (Response<?> response : batch.send().getResponses()) {
+                    Long invoiceId = invoiceByRequestId.get(response.getId());
+                    if (invoiceId == null || response.hasError()) continue;
+                    decodeSnapshot(((EthCall) response).getValue())
+                            .ifPresent(snapshot -> snapshots.put(invoiceId, snapshot));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.error("Error getting escrow snapshots for {} invoices", chunk.size(), e);
             }
+        }
+        return snapshots;
+    }
 
-            String clientAddress = ((Address) decoded.get(0)).getValue();
-            String freelancerAddress = ((Address) decoded.get(1)).getValue();
-            String tokenAddress = ((Address) decoded.get(2)).getValue();
-            BigInteger amount = ((Uint256) decoded.get(3)).getValue();
-            int statusCode = ((Uint8) decoded.get(4)).getValue().intValue();
-
-            return Optional.of(new EscrowSnapshot(
-                    clientAddress,
-                    freelancerAddress,
-                    tokenAddress,
-                    amount,
-                    mapEscrowStatus(statusCode)));
-            
-        } catch (Exception e) {
-            log.error("Error getting escrow snapshot", e);
+    private Request<?, EthCall> escrowCall(Long invoiceId) {
+        return web3j.ethCall(
+                Transaction.createEthCallTransaction(null, contractAddress, FunctionEncoder.encode(escrowsFunction(invoiceId))),
+                DefaultBlockParameterName.LATEST);
+    }
+
+    private static Function escrowsFunction(Long invoiceId) {
+        return new Function("escrows",
+                Arrays.asList(new Uint256(BigInteger.valueOf(invoiceId))),
+                Arrays.asList(
+                        new TypeReference<Address>() {},
+                        new TypeReference<Address>() {},
+                        new TypeReference<Address>() {},
+                        new TypeReference<Uint256>() {},
+                        new TypeReference<Uint8>() {}));
+    }
+
+    private Optional<EscrowSnapshot> decodeSnapshot(String value) {
+        if (value == null || value.equals("0x")) {
             return Optional.empty();
         }
+
+        List<Type> decoded = FunctionReturnDecoder.decode(value, escrowsFunction(0L).getOutputParameters());
+        if (decoded.size() < 5) {
+            return Optional.empty();
+        }
+
+        String clientAddress = ((Address) decoded.get(0)).getValue();
+        String freelancerAddress = ((Address) decoded.get(1)).getValue();
+        String tokenAddress = ((Address) decoded.get(2)).getValue();
+        BigInteger amount = ((Uint256) decoded.get(3)).getValue();
+        int statusCode = ((Uint8) decoded.get(4)).getValue().intValue();
+
+        return Optional.of(new EscrowSnapshot(
+                clientAddress,
+                freelancerAddress,
+                tokenAddress,
+                amount,
+                mapEscrowStatus(statusCode)));
     }
 
-    public int getConfirmationsSince(BigInteger blockNumber) {
-        if (blockNumber == null || blockNumber.signum() < 0 || !blockchainEnabled || web3j == null) {
-            return 0;
+    public Optional<BigInteger> getBlockNumber() {
+        if (!blockchainEnabled || web3j == null) {
+            return Optional.empty();
         }
 
         try {
-            BigInteger currentBlock = web3j.ethBlockNumber().send().getBlockNumber();
-            if (currentBlock.compareTo(blockNumber) < 0) {
-                return 0;
-            }
-            BigInteger confirmations = currentBlock.subtract(blockNumber).add(BigInteger.ONE);
-            return confirmations.min(BigInteger.valueOf(Integer.MAX_VALUE)).intValue();
+            rateLimiter.acquire(1);
+            return Optional.of(web3j.ethBlockNumber().send().getBlockNumber());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
         } catch (Exception e) {
-            log.error("Error calculating blockchain confirmations", e);
+            log.error("Error reading current block number", e);
+            return Optional.empty();
+        }
+    }
+
+    /** Confirmations of a block at the given chain head, counting the block itself. */
+    public static int confirmations(BigInteger currentBlock, BigInteger blockNumber) {
+        if (currentBlock == null || blockNumber == null || blockNumber.signum() < 0
+                || currentBlock.compareTo(blockNumber) < 0) {
             return 0;
         }
+        BigInteger confirmations = currentBlock.subtract(blockNumber).add(BigInteger.ONE);
+        return confirmations.min(BigInteger.valueOf(Integer.MAX_VALUE)).intValue();
     }
 
     public Optional<BigInteger> getTransactionBlockNumber(String transactionHash) {
@@ -131,38 +216,116 @@ public class BlockchainService {
         }
 
         try {
+            rateLimiter.acquire(1);
             EthGetTransactionReceipt response = web3j.ethGetTransactionReceipt(transactionHash).send();
             return response.getTransactionReceipt().map(TransactionReceipt::getBlockNumber);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
         } catch (Exception e) {
             log.error("Error getting transaction receipt for {}", transactionHash, e);
             return Optional.empty();
         }
     }
 
+    /** Block numbers of mined transactions, read with JSON-RPC batch requests; unknown hashes are absent. */
+    public Map<String, BigInteger> getTransactionBlockNumbers(Collection<String> transactionHashes) {
+        Map<String, BigInteger> blockNumbers = new HashMap<>();
+        if (transactionHashes.isEmpty() || !blockchainEnabled || web3j == null) {
+            return blockNumbers;
+        }
+
+        for (List<String> chunk : chunks(List.copyOf(transactionHashes))) {
+            try {
+                rateLimiter.acquire(chunk.size());
+                BatchRequest batch = web3j.newBatch();
+                Map<Long, String> hashByRequestId = new HashMap<>();
+                for (String transactionHash : chunk) {
+                    Request<?, EthGetTransactionReceipt> request = web3j.ethGetTransactionReceipt(transactionHash);
+                    hashByRequestId.put(request.getId(), transactionHash);
+                    batch.add(request);
+                }
+                for (Response<?> response : batch.send().getResponses()) {
+                    String transactionHash = hashByRequestId.get(response.getId());
+                    if (transactionHash == null || response.hasError()) continue;
+                    ((EthGetTransactionReceipt) response).getTransactionReceipt()
+                            .map(TransactionReceipt::getBlockNumber)
+                            .ifPresent(blockNumber -> blockNumbers.put(transactionHash, blockNumber));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.error("Error getting transaction receipts for {} transactions", chunk.size(), e);
+            }
+        }
+        return blockNumbers;
+    }
+
+    private <T> List<List<T>> chunks(List<T> values) {
+        int size = Math.max(1, rpcBatchSize);
+        List<List<T>> chunks = new ArrayList<>();
+        for (int start = 0; start < values.size(); start += size) {
+            chunks.add(values.subList(start, Math.min(values.size(), start + size)));
+        }
+        return chunks;
+    }
+
+    /**
+     * Latest occurrence of an escrow event for the invoice. Blocks already indexed by {@link EscrowEventIndexer} are
+     * read from {@code escrow_events}; the blocks it has not reached yet, at most {@code live_lookup_blocks} below
+     * the head, are read live with one {@code eth_getLogs} call.
+     */
     public Optional<BlockchainEventReference> findEventReference(String eventTopic, Long invoiceId) {
         if (eventTopic == null || eventTopic.isBlank() || invoiceId == null
-                || !blockchainEnabled || web3j == null || contractAddress == null || contractAddress.isEmpty()) {
+                || contractAddress == null || contractAddress.isEmpty()) {
             return Optional.empty();
         }
 
+        String contract = contractAddress.toLowerCase(Locale.ROOT);
+        Optional<BlockchainEventReference> indexed = escrowEventRepository
+                .findFirstByContractAddressAndInvoiceIdAndTopicOrderByBlockNumberDescLogIndexDesc(
+                        contract, invoiceId, eventTopic)
+                .map(event -> new BlockchainEventReference(event.getTransactionHash(), event.getBlockNumber()));
+        return indexed.isPresent() ? indexed : findUnindexedEventReference(contract, eventTopic, invoiceId);
+    }
+
+    private Optional<BlockchainEventReference> findUnindexedEventReference(String contract, String eventTopic,
+                                                                           Long invoiceId) {
+        if (!blockchainEnabled || web3j == null) return Optional.empty();
         try {
-            EthFilter filter = new EthFilter(DefaultBlockParameterName.EARLIEST, DefaultBlockParameterName.LATEST, contractAddress);
+            rateLimiter.acquire(1);
+            BigInteger head = web3j.ethBlockNumber().send().getBlockNumber();
+            BigInteger from = head.subtract(BigInteger.valueOf(Math.max(1, liveLookupBlocks) - 1L))
+                    .max(BigInteger.ZERO);
+            Optional<BigInteger> indexedThrough = cursorRepository.findById(EscrowEventIndexer.cursorName(contract))
+                    .map(BlockchainCursor::getBlockNumber);
+            if (indexedThrough.isPresent()) from = from.max(indexedThrough.get().add(BigInteger.ONE));
+            if (from.compareTo(head) > 0) return Optional.empty();
+
+            EthFilter filter = new EthFilter(DefaultBlockParameter.valueOf(from), DefaultBlockParameter.valueOf(head),
+                    contract);
             filter.addSingleTopic(eventTopic);
             filter.addSingleTopic(Numeric.toHexStringWithPrefixZeroPadded(BigInteger.valueOf(invoiceId), 64));
-
+            rateLimiter.acquire(1);
             EthLog response = web3j.ethGetLogs(filter).send();
+            if (response.hasError()) {
+                log.warn("eth_getLogs failed for invoice {} events: {}", invoiceId, response.getError().getMessage());
+                return Optional.empty();
+            }
             List<EthLog.LogResult> logs = response.getLogs();
-            for (int index = logs.size() - 1; index >= 0; index--) {
-                Object rawLog = logs.get(index).get();
-                if (rawLog instanceof org.web3j.protocol.core.methods.response.Log eventLog) {
-                    return Optional.of(new BlockchainEventReference(
-                            eventLog.getTransactionHash(),
-                            eventLog.getBlockNumber()));
-                }
+            Log latest = null;
+            for (EthLog.LogResult<?> result : logs == null ? List.<EthLog.LogResult>of() : logs) {
+                if (result.get() instanceof Log eventLog && !eventLog.isRemoved()) latest = eventLog;
             }
+            return Optional.ofNullable(latest)
+                    .map(eventLog -> new BlockchainEventReference(eventLog.getTransactionHash(),
+                            eventLog.getBlockNumber()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
             return Optional.empty();
         } catch (Exception e) {
-            log.error("Error finding blockchain event reference for invoice {}", invoiceId, e);
+            log.error("Error looking up escrow events for invoice {}", invoiceId, e);
             return Optional.empty();
         }
     }
@@ -0,0 +1,35 @@
+package com.clienthub.web3.service;
+
+import java.time.Duration;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+@Component("chainHead")
+public class ChainHeadHealthIndicator implements HealthIndicator {
+    private final ChainHeadTracker tracker;
+
+    @Value("${blockchain.head.max_staleness_seconds:60}") private long maxStalenessSeconds;
+
+    public ChainHeadHealthIndicator(ChainHeadTracker tracker) {
+        this.tracker = tracker;
+    }
+
+    @Override
+    public Health health() {
+        if (!tracker.isEnabled()) {
+            return Health.up().withDetail("blockchain", "disabled").build();
+        }
+
+        Optional<Duration> staleness = tracker.staleness();
+        if (staleness.isEmpty()) {
+            return Health.down().withDetail("reason", "chain head not read yet").build();
+        }
+
+        Health.Builder builder = staleness.get().toSeconds() > maxStalenessSeconds ? Health.down() : Health.up();
+        tracker.currentBlock().ifPresent(block -> builder.withDetail("block", block));
+        return builder.withDetail("stalenessSeconds", staleness.get().toSeconds()).build();
+    }
+}
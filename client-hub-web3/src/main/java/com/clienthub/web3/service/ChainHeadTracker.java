@@ -0,0 +1,83 @@
+package com.clienthub.web3.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.math.BigInteger;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Polls the chain head at block cadence and publishes it for local confirmation math, so callers never issue
+ * their own {@code eth_blockNumber}.
+ */
+@Component
+public class ChainHeadTracker {
+    private final BlockchainService blockchainService;
+    private final Clock clock;
+
+    private volatile BigInteger head;
+    private volatile Instant updatedAt;
+
+    @Value("${blockchain.enabled:false}") private boolean blockchainEnabled;
+
+    @Autowired
+    public ChainHeadTracker(BlockchainService blockchainService, MeterRegistry registry) {
+        this(blockchainService, registry, Clock.systemUTC());
+    }
+
+    ChainHeadTracker(BlockchainService blockchainService, MeterRegistry registry, Clock clock) {
+        this.blockchainService = blockchainService;
+        this.clock = clock;
+        Gauge.builder("blockchain.head.block", this, tracker -> tracker.head == null ? Double.NaN : tracker.head.doubleValue())
+                .description("Latest chain head seen by the node poller")
+                .register(registry);
+        Gauge.builder("blockchain.head.staleness", this, tracker -> tracker.staleness().map(Duration::toSeconds)
+                        .map(Long::doubleValue).orElse(Double.NaN))
+                .description("Time since the chain head was last read")
+                .baseUnit("seconds")
+                .register(registry);
+    }
+
+    @Scheduled(fixedDelayString = "${blockchain.head.poll_ms:2000}")
+    public void poll() {
+        if (blockchainEnabled) {
+            refresh();
+        }
+    }
+
+    /** Reads the head from the node now; keeps the previous value when the read fails. */
+    public Optional<BigInteger> refresh() {
+        Optional<BigInteger> latest = blockchainService.getBlockNumber();
+        latest.ifPresent(block -> {
+            if (head == null || block.compareTo(head) >= 0) {
+                head = block;
+            }
+            updatedAt = clock.instant();
+        });
+        return currentBlock();
+    }
+
+    public Optional<BigInteger> currentBlock() {
+        return Optional.ofNullable(head);
+    }
+
+    public int confirmationsSince(BigInteger blockNumber) {
+        return BlockchainService.confirmations(head, blockNumber);
+    }
+
+    /** Time since the head was last read successfully; empty until the first read. */
+    public Optional<Duration> staleness() {
+        Instant last = updatedAt;
+        return last == null ? Optional.empty() : Optional.of(Duration.between(last, clock.instant()));
+    }
+
+    public boolean isEnabled() {
+        return blockchainEnabled;
+    }
+}
@@ -6,6 +6,8 @@ import org.web3j.abi.TypeReference;
 import org.web3j.abi.datatypes.Address;
 import org.web3j.abi.datatypes.Event;
 import org.web3j.abi.datatypes.generated.Uint256;
+import org.web3j.protocol.core.DefaultBlockParameter;
+import org.web3j.protocol.core.methods.request.EthFilter;
 
 public final class EscrowContractEvents {
     private EscrowContractEvents() {}
@@ -26,4 +28,11 @@ public final class EscrowContractEvents {
     public static final String DEPOSITED_TOPIC = EventEncoder.encode(DEPOSITED_EVENT);
     public static final String RELEASED_TOPIC = EventEncoder.encode(RELEASED_EVENT);
     public static final String REFUNDED_TOPIC = EventEncoder.encode(REFUNDED_EVENT);
+
+    public static EthFilter logFilter(DefaultBlockParameter fromBlock, DefaultBlockParameter toBlock,
+                                      String contractAddress) {
+        EthFilter filter = new EthFilter(fromBlock, toBlock, contractAddress);
+        filter.addOptionalTopics(DEPOSITED_TOPIC, RELEASED_TOPIC, REFUNDED_TOPIC);
+        return filter;
+    }
 }
@@ -0,0 +1,151 @@
+package com.clienthub.web3.service;
+
+import com.clienthub.domain.entity.BlockchainCursor;
+import com.clienthub.domain.entity.EscrowEvent;
+import com.clienthub.domain.repository.BlockchainCursorRepository;
+import com.clienthub.domain.repository.EscrowEventRepository;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Locale;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.DefaultBlockParameter;
+import org.web3j.protocol.core.methods.response.EthLog;
+import org.web3j.protocol.core.methods.response.Log;
+import org.web3j.utils.Numeric;
+
+/**
+ * Copies escrow contract events into {@code escrow_events}. Each run continues from the persisted block cursor
+ * and reads {@code eth_getLogs} in bounded block ranges, halving the range when the node rejects a page. Blocks
+ * are only indexed once they are {@code confirmations} deep, so rows are never written for a block that a reorg
+ * can still replace and the cursor never moves past one.
+ */
+@Component
+public class EscrowEventIndexer {
+    private static final Logger log = LoggerFactory.getLogger(EscrowEventIndexer.class);
+    private static final String CURSOR_PREFIX = "escrow-events:";
+
+    private final BlockchainService blockchainService;
+    private final EscrowEventRepository eventRepository;
+    private final BlockchainCursorRepository cursorRepository;
+    private final ChainHeadTracker chainHeadTracker;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${blockchain.enabled:false}") private boolean blockchainEnabled;
+    @Value("${blockchain.contract_address:}") private String contractAddress;
+    @Value("${blockchain.indexer.enabled:true}") private boolean indexerEnabled;
+    @Value("${blockchain.indexer.start_block:-1}") private long startBlock;
+    @Value("${blockchain.indexer.initial_lookback_blocks:50000}") private long initialLookbackBlocks;
+    @Value("${blockchain.indexer.block_range:2000}") private int blockRange;
+    @Value("${blockchain.indexer.max_ranges_per_run:50}") private int maxRangesPerRun;
+    @Value("${blockchain.indexer.confirmations:12}") private int confirmations;
+
+    public EscrowEventIndexer(BlockchainService blockchainService,
+                              EscrowEventRepository eventRepository,
+                              BlockchainCursorRepository cursorRepository,
+                              ChainHeadTracker chainHeadTracker,
+                              PlatformTransactionManager transactionManager) {
+        this.blockchainService = blockchainService;
+        this.eventRepository = eventRepository;
+        this.cursorRepository = cursorRepository;
+        this.chainHeadTracker = chainHeadTracker;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(fixedDelayString = "${blockchain.indexer.delay_ms:15000}")
+    public void poll() {
+        if (!blockchainEnabled || !indexerEnabled || contractAddress == null || contractAddress.isBlank()) return;
+        try {
+            indexNewBlocks();
+        } catch (Exception e) {
+            log.error("Escrow event indexing failed", e);
+        }
+    }
+
+    /** Indexes confirmed blocks after the cursor and returns the number of new events stored. */
+    public int indexNewBlocks() throws IOException {
+        Web3j web3j = blockchainService.getWeb3j();
+        if (web3j == null || contractAddress == null || contractAddress.isBlank()) return 0;
+
+        String contract = contractAddress.toLowerCase(Locale.ROOT);
+        String cursorName = cursorName(contract);
+        BigInteger head = chainHeadTracker.currentBlock().or(chainHeadTracker::refresh)
+                .orElseThrow(() -> new IllegalStateException("Chain head is unavailable"))
+                .subtract(BigInteger.valueOf(Math.max(0, confirmations)));
+        BigInteger from = cursorRepository.findById(cursorName)
+                .map(cursor -> cursor.getBlockNumber().add(BigInteger.ONE))
+                .orElseGet(() -> firstBlock(head));
+
+        int range = Math.max(1, blockRange);
+        int ranges = 0;
+        int stored = 0;
+        while (from.compareTo(head) <= 0 && ranges < Math.max(1, maxRangesPerRun)) {
+            BigInteger to = from.add(BigInteger.valueOf(range - 1L)).min(head);
+            EthLog response = web3j.ethGetLogs(EscrowContractEvents.logFilter(
+                    DefaultBlockParameter.valueOf(from), DefaultBlockParameter.valueOf(to), contract)).send();
+            if (response.hasError()) {
+                if (range == 1) {
+                    throw new IllegalStateException("eth_getLogs failed for block " + from + ": "
+                            + response.getError().getMessage());
+                }
+                range = Math.max(1, range / 2);
+                log.warn("eth_getLogs rejected blocks {}-{} ({}), retrying with {} blocks",
+                        from, to, response.getError().getMessage(), range);
+                continue;
+            }
+
+            BigInteger pageEnd = to;
+            List<EthLog.LogResult> logs = response.getLogs();
+            stored += transactionTemplate.execute(status -> store(contract, cursorName, pageEnd, logs));
+            from = to.add(BigInteger.ONE);
+            ranges++;
+        }
+        return stored;
+    }
+
+    /** The last block indexed for a contract is kept in the cursor with this name. */
+    static String cursorName(String contract) {
+        return CURSOR_PREFIX + contract;
+    }
+
+    /**
+     * Where a contract without a cursor starts: the configured deployment block, or without one a bounded window
+     * below the head rather than genesis, since reconciliation reads blocks the indexer has not reached live.
+     */
+    private BigInteger firstBlock(BigInteger head) {
+        if (startBlock >= 0) return BigInteger.valueOf(startBlock);
+        return head.subtract(BigInteger.valueOf(Math.max(0, initialLookbackBlocks))).max(BigInteger.ZERO);
+    }
+
+    private int store(String contract, String cursorName, BigInteger pageEnd, List<EthLog.LogResult> logs) {
+        int stored = 0;
+        for (EthLog.LogResult<?> result : logs == null ? List.<EthLog.LogResult>of() : logs) {
+            if (!(result.get() instanceof Log eventLog) || eventLog.isRemoved() || eventLog.getTopics().size() < 2) {
+                continue;
+            }
+            String topic = eventLog.getTopics().get(0);
+            Long invoiceId = Numeric.decodeQuantity(eventLog.getTopics().get(1)).longValue();
+            int logIndex = eventLog.getLogIndex().intValueExact();
+            if (eventRepository.existsByContractAddressAndInvoiceIdAndTopicAndBlockNumberAndLogIndex(
+                    contract, invoiceId, topic, eventLog.getBlockNumber(), logIndex)) {
+                continue;
+            }
+            eventRepository.save(new EscrowEvent(contract, invoiceId, topic, eventLog.getBlockNumber(), logIndex,
+                    eventLog.getTransactionHash(), eventLog.getBlockHash()));
+            stored++;
+        }
+
+        BlockchainCursor cursor = cursorRepository.findById(cursorName)
+                .orElseGet(() -> new BlockchainCursor(cursorName, pageEnd));
+        cursor.setBlockNumber(pageEnd);
+        cursorRepository.save(cursor);
+        return stored;
+    }
+}
@@ -0,0 +1,112 @@
+package com.clienthub.web3.service;
+
+import com.clienthub.domain.event.InvoiceStatusChangedEvent;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Next-check times for open escrow invoices. An invoice whose check changes nothing waits twice as long before the
+ * next one, up to the maximum interval; a change or a status event brings it back to the minimum interval.
+ */
+@Component
+public class EscrowReconciliationSchedule {
+    private record Entry(Long invoiceId, Instant nextCheckAt, Duration interval) {}
+
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final PriorityQueue<Entry> queue = new PriorityQueue<>(
+            Comparator.comparing(Entry::nextCheckAt).thenComparing(Entry::invoiceId));
+    private final Set<Long> inFlight = new HashSet<>();
+
+    @Value("${blockchain.reconciliation.min_interval_seconds:30}") private long minIntervalSeconds;
+    @Value("${blockchain.reconciliation.max_interval_seconds:3600}") private long maxIntervalSeconds;
+
+    /** Adds newly opened invoices as due now and forgets the ones that are no longer open. */
+    public synchronized void sync(Collection<Long> openInvoiceIds, Instant now) {
+        Set<Long> open = new HashSet<>(openInvoiceIds);
+        entries.keySet().removeIf(invoiceId -> !open.contains(invoiceId));
+        inFlight.retainAll(open);
+        for (Long invoiceId : open) {
+            if (!entries.containsKey(invoiceId)) {
+                schedule(new Entry(invoiceId, now, minInterval()));
+            }
+        }
+    }
+
+    /** Removes up to {@code limit} due invoices, earliest first; they stay out until rescheduled. */
+    public synchronized List<Long> pollDue(Instant now, int limit) {
+        List<Long> due = new ArrayList<>();
+        while (due.size() < limit && !queue.isEmpty() && !queue.peek().nextCheckAt().isAfter(now)) {
+            Entry entry = queue.poll();
+            if (entry.equals(entries.get(entry.invoiceId())) && inFlight.add(entry.invoiceId())) {
+                due.add(entry.invoiceId());
+            }
+        }
+        return due;
+    }
+
+    public synchronized void reschedule(Long invoiceId, boolean changed, Instant now) {
+        Entry current = entries.get(invoiceId);
+        inFlight.remove(invoiceId);
+        if (current == null) return;
+        Duration interval = changed ? minInterval() : min(current.interval().multipliedBy(2), maxInterval());
+        schedule(new Entry(invoiceId, now.plus(interval), interval));
+    }
+
+    /**
+     * Puts polled invoices that were never rescheduled, because their chunk failed or the run was interrupted, back
+     * in the queue at their current interval. Invoices already rescheduled are left alone.
+     */
+    public synchronized void release(Collection<Long> invoiceIds, Instant now) {
+        for (Long invoiceId : invoiceIds) {
+            if (!inFlight.remove(invoiceId)) continue;
+            Entry current = entries.get(invoiceId);
+            if (current != null) schedule(new Entry(invoiceId, now.plus(current.interval()), current.interval()));
+        }
+    }
+
+    public synchronized void expedite(Long invoiceId, Instant now) {
+        if (entries.containsKey(invoiceId) && !inFlight.contains(invoiceId)) {
+            schedule(new Entry(invoiceId, now, minInterval()));
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    @EventListener
+    public void onInvoiceStatusChanged(InvoiceStatusChangedEvent event) {
+        if (event.getInvoice() != null && event.getInvoice().getId() != null) {
+            expedite(event.getInvoice().getId(), Instant.now());
+        }
+    }
+
+    private void schedule(Entry entry) {
+        entries.put(entry.invoiceId(), entry);
+        queue.add(entry);
+    }
+
+    private Duration minInterval() {
+        return Duration.ofSeconds(Math.max(1, minIntervalSeconds));
+    }
+
+    private Duration maxInterval() {
+        return Duration.ofSeconds(Math.max(minIntervalSeconds, maxIntervalSeconds));
+    }
+
+    private static Duration min(Duration left, Duration right) {
+        return left.compareTo(right) <= 0 ? left : right;
+    }
+}
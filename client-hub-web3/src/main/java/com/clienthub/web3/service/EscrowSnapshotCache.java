@@ -0,0 +1,140 @@
+package com.clienthub.web3.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caches escrow snapshots per invoice, locally and in Redis. Escrow events decoded by the listener replace the
+ * cached entry, so the TTL only bounds how long a missed event can leave a stale snapshot. Reads go to the chain
+ * only on a miss; {@link #verify(Long)} always does. Redis is best effort, as in {@link AuditAnchorRootCache}.
+ * A snapshot copied from Redis keeps the time it has left there, so a local copy never outlives the shared one.
+ */
+@Component
+public class EscrowSnapshotCache {
+    private static final Logger log = LoggerFactory.getLogger(EscrowSnapshotCache.class);
+    private static final String KEY_PREFIX = "escrow:snapshot:";
+
+    private final BlockchainService blockchainService;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Map<Long, CachedSnapshot> entries = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, CachedSnapshot> eldest) {
+            return size() > Math.max(1, maxEntries);
+        }
+    };
+
+    @Value("${blockchain.contract_address:}") private String contractAddress;
+    @Value("${blockchain.escrow_cache.ttl_seconds:300}") private long ttlSeconds;
+    @Value("${blockchain.escrow_cache.max_entries:10000}") private int maxEntries;
+
+    public EscrowSnapshotCache(BlockchainService blockchainService,
+                               StringRedisTemplate redisTemplate,
+                               ObjectMapper objectMapper) {
+        this.blockchainService = blockchainService;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    public Optional<EscrowSnapshot> get(Long invoiceId) {
+        if (invoiceId == null) return Optional.empty();
+
+        CachedSnapshot local;
+        synchronized (entries) {
+            local = entries.get(invoiceId);
+        }
+        if (local != null && !local.isExpired()) return Optional.of(local.snapshot());
+
+        Optional<CachedSnapshot> remote = readRemote(invoiceId);
+        if (remote.isPresent()) {
+            storeLocal(invoiceId, remote.get());
+            return Optional.of(remote.get().snapshot());
+        }
+        return verify(invoiceId);
+    }
+
+    /** Reads the snapshot from the chain regardless of what is cached and replaces the cached entry. */
+    public Optional<EscrowSnapshot> verify(Long invoiceId) {
+        if (invoiceId == null) return Optional.empty();
+        Optional<EscrowSnapshot> snapshot = blockchainService.getEscrowSnapshot(invoiceId);
+        if (snapshot.isPresent()) put(invoiceId, snapshot.get());
+        else invalidate(invoiceId);
+        return snapshot;
+    }
+
+    /** Records snapshots that were just read from the chain, e.g. by the reconciliation job. */
+    public void putAll(Map<Long, EscrowSnapshot> snapshots) {
+        snapshots.forEach(this::put);
+    }
+
+    public void put(Long invoiceId, EscrowSnapshot snapshot) {
+        if (invoiceId == null || snapshot == null) return;
+        storeLocal(invoiceId, new CachedSnapshot(snapshot, Instant.now().plus(ttl())));
+        try {
+            redisTemplate.opsForValue().set(key(invoiceId), objectMapper.writeValueAsString(snapshot), ttl());
+        } catch (Exception e) {
+            log.debug("Unable to store escrow snapshot for invoice {} in Redis: {}", invoiceId, e.getMessage());
+        }
+    }
+
+    public void invalidate(Long invoiceId) {
+        if (invoiceId == null) return;
+        synchronized (entries) {
+            entries.remove(invoiceId);
+        }
+        try {
+            redisTemplate.delete(key(invoiceId));
+        } catch (Exception e) {
+            log.debug("Unable to evict escrow snapshot for invoice {} from Redis: {}", invoiceId, e.getMessage());
+        }
+    }
+
+    /** Reads the shared snapshot together with the time its Redis key has left to live. */
+    private Optional<CachedSnapshot> readRemote(Long invoiceId) {
+        try {
+            String value = redisTemplate.opsForValue().get(key(invoiceId));
+            if (value == null) return Optional.empty();
+            EscrowSnapshot snapshot = objectMapper.readValue(value, EscrowSnapshot.class);
+            Long remainingMs = redisTemplate.getExpire(key(invoiceId), TimeUnit.MILLISECONDS);
+            Duration remaining = remainingMs != null && remainingMs > 0
+                    ? Duration.ofMillis(Math.min(remainingMs, ttl().toMillis()))
+                    : Duration.ZERO;
+            return Optional.of(new CachedSnapshot(snapshot, Instant.now().plus(remaining)));
+        } catch (Exception e) {
+            log.debug("Unable to read escrow snapshot for invoice {} from Redis: {}", invoiceId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void storeLocal(Long invoiceId, CachedSnapshot entry) {
+        if (entry.isExpired()) return;
+        synchronized (entries) {
+            entries.put(invoiceId, entry);
+        }
+    }
+
+    private Duration ttl() {
+        return Duration.ofSeconds(Math.max(1, ttlSeconds));
+    }
+
+    private String key(Long invoiceId) {
+        return KEY_PREFIX + (contractAddress == null ? "" : contractAddress.toLowerCase()) + ":" + invoiceId;
+    }
+
+    private record CachedSnapshot(EscrowSnapshot snapshot, Instant expiresAt) {
+        boolean isExpired() {
+            return !expiresAt.isAfter(Instant.now());
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.clienthub.web3.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import okhttp3.HttpUrl;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.RequestBody;
+import okhttp3.ResponseBody;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.web3j.protocol.Service;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.stream.IntStream;
+
+/**
+ * JSON-RPC transport over a shared OkHttp client that fails over across several node endpoints. Each endpoint has a
+ * circuit breaker: after {@code failureThreshold} consecutive transport failures it is skipped for
+ * {@code openDuration}, then tried again. Every call is timed by JSON-RPC method name.
+ */
+public class FailoverRpcService extends Service {
+    private static final Logger log = LoggerFactory.getLogger(FailoverRpcService.class);
+    private static final MediaType JSON = MediaType.get("application/json; charset=utf-8");
+    static final String LATENCY_METRIC = "blockchain.rpc.latency";
+    static final String FAILOVER_METRIC = "blockchain.rpc.failovers";
+
+    private final OkHttpClient httpClient;
+    private final List<Endpoint> endpoints;
+    private final int failureThreshold;
+    private final Duration openDuration;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+
+    public FailoverRpcService(OkHttpClient httpClient, List<String> urls, int failureThreshold, Duration openDuration,
+                              MeterRegistry meterRegistry, Clock clock) {
+        super(false);
+        if (urls.isEmpty()) throw new IllegalArgumentException("At least one RPC endpoint is required");
+        this.httpClient = httpClient;
+        this.endpoints = IntStream.range(0, urls.size()).mapToObj(i -> new Endpoint(i, urls.get(i))).toList();
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openDuration = openDuration;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+    }
+
+    @Override
+    public <T extends Response> T send(Request request, Class<T> responseType) throws IOException {
+        return timed(request.getMethod(), () -> super.send(request, responseType));
+    }
+
+    @Override
+    public BatchResponse sendBatch(BatchRequest batchRequest) throws IOException {
+        return timed("batch", () -> super.sendBatch(batchRequest));
+    }
+
+    @Override
+    protected InputStream performIO(String payload) throws IOException {
+        IOException lastFailure = null;
+        Instant now = clock.instant();
+        for (Endpoint endpoint : candidates(now)) {
+            try {
+                byte[] body = post(endpoint, payload);
+                endpoint.recordSuccess();
+                return new ByteArrayInputStream(body);
+            } catch (IOException e) {
+                lastFailure = e;
+                endpoint.recordFailure(clock.instant());
+                meterRegistry.counter(FAILOVER_METRIC, "endpoint", String.valueOf(endpoint.index)).increment();
+                log.warn("RPC endpoint {} failed, trying the next one: {}", endpoint, e.getMessage());
+            }
+        }
+        throw lastFailure != null ? lastFailure : new IOException("No RPC endpoint is available");
+    }
+
+    @Override
+    public void close() {
+        httpClient.dispatcher().executorService().shutdown();
+        httpClient.connectionPool().evictAll();
+    }
+
+    /** Endpoints with a closed or half-open breaker first, in configured order; open ones only as a last resort. */
+    private List<Endpoint> candidates(Instant now) {
+        List<Endpoint> available = endpoints.stream().filter(endpoint -> endpoint.isAvailable(now)).toList();
+        return available.isEmpty() ? endpoints : available;
+    }
+
+    private byte[] post(Endpoint endpoint, String payload) throws IOException {
+        okhttp3.Request request = new okhttp3.Request.Builder()
+                .url(endpoint.url)
+                .post(RequestBody.create(payload, JSON))
+                .build();
+        try (okhttp3.Response response = httpClient.newCall(request).execute()) {
+            ResponseBody body = response.body();
+            if (!response.isSuccessful()) {
+                throw new IOException("Invalid response received: " + response.code() + "; "
+                        + (body != null ? body.string() : "N/A"));
+            }
+            return body != null ? body.bytes() : new byte[0];
+        }
+    }
+
+    private <T> T timed(String method, Callable<T> call) throws IOException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            T result = call.call();
+            outcome = "success";
+            return result;
+        } catch (IOException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IOException(e);
+        } finally {
+            sample.stop(Timer.builder(LATENCY_METRIC)
+                    .tag("method", method)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
+    private final class Endpoint {
+        private final int index;
+        private final String url;
+        private int consecutiveFailures;
+        private Instant openUntil = Instant.MIN;
+
+        private Endpoint(int index, String url) {
+            this.index = index;
+            this.url = url;
+        }
+
+        synchronized boolean isAvailable(Instant now) {
+            return !openUntil.isAfter(now);
+        }
+
+        synchronized void recordSuccess() {
+            consecutiveFailures = 0;
+            openUntil = Instant.MIN;
+        }
+
+        synchronized void recordFailure(Instant now) {
+            if (++consecutiveFailures >= failureThreshold) {
+                openUntil = now.plus(openDuration);
+                log.warn("RPC endpoint {} opened its circuit breaker until {}", this, openUntil);
+            }
+        }
+
+        /** Index and host only: node URLs often carry an API key in the path. */
+        @Override
+        public String toString() {
+            HttpUrl parsed = HttpUrl.parse(url);
+            return "#" + index + " (" + (parsed != null ? parsed.host() : "invalid url") + ")";
+        }
+    }
+}
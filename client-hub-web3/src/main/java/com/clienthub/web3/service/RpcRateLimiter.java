@@ -0,0 +1,38 @@
+package com.clienthub.web3.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Token bucket shared by every caller of the escrow node. Each JSON-RPC call takes one permit, so a batch of
+ * {@code n} calls waits for {@code n} permits; a non-positive rate disables the limit.
+ */
+@Component
+public class RpcRateLimiter {
+    private final double permitsPerSecond;
+    private double available;
+    private long refilledAt = System.nanoTime();
+
+    public RpcRateLimiter(@Value("${blockchain.rpc.max_calls_per_second:100}") double permitsPerSecond) {
+        this.permitsPerSecond = permitsPerSecond;
+        this.available = Math.max(1, permitsPerSecond);
+    }
+
+    public void acquire(int permits) throws InterruptedException {
+        if (permitsPerSecond <= 0 || permits <= 0) return;
+        long waitNanos = reserve(permits);
+        if (waitNanos > 0) {
+            Thread.sleep(waitNanos / 1_000_000, (int) (waitNanos % 1_000_000));
+        }
+    }
+
+    /** Takes the permits, possibly going into debt, and returns how long the caller must wait to repay it. */
+    private synchronized long reserve(int permits) {
+        long now = System.nanoTime();
+        double burst = Math.max(1, permitsPerSecond);
+        available = Math.min(burst, available + (now - refilledAt) / 1e9 * permitsPerSecond);
+        refilledAt = now;
+        available -= permits;
+        return available >= 0 ? 0 : (long) (-available / permitsPerSecond * 1e9);
+    }
+}
@@ -0,0 +1,77 @@
+package com.clienthub.web3.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import okhttp3.ConnectionPool;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.web3j.protocol.Web3j;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The single JSON-RPC client shared by every blockchain service: one pooled, kept-alive OkHttp client (HTTP/2 is
+ * negotiated where the node supports it, and responses are gzip-decoded transparently) behind a
+ * {@link FailoverRpcService} over {@code blockchain.node_url} and {@code blockchain.rpc.fallback_urls}.
+ */
+@Component
+public class RpcTransport {
+    private final MeterRegistry meterRegistry;
+    private Web3j web3j;
+
+    @Value("${blockchain.node_url:http://localhost:8545}") private String nodeUrl;
+    @Value("${blockchain.rpc.fallback_urls:}") private String fallbackUrls;
+    @Value("${blockchain.rpc.connect_timeout_ms:3000}") private long connectTimeoutMs;
+    @Value("${blockchain.rpc.read_timeout_ms:10000}") private long readTimeoutMs;
+    @Value("${blockchain.rpc.call_timeout_ms:15000}") private long callTimeoutMs;
+    @Value("${blockchain.rpc.max_idle_connections:16}") private int maxIdleConnections;
+    @Value("${blockchain.rpc.keep_alive_seconds:300}") private long keepAliveSeconds;
+    @Value("${blockchain.rpc.breaker.failure_threshold:3}") private int failureThreshold;
+    @Value("${blockchain.rpc.breaker.open_seconds:30}") private long openSeconds;
+
+    public RpcTransport(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public synchronized Web3j web3j() {
+        if (web3j == null) {
+            web3j = Web3j.build(new FailoverRpcService(httpClient(), endpoints(), failureThreshold,
+                    Duration.ofSeconds(Math.max(1, openSeconds)), meterRegistry, Clock.systemUTC()));
+        }
+        return web3j;
+    }
+
+    @PreDestroy
+    synchronized void close() {
+        if (web3j != null) web3j.shutdown();
+    }
+
+    List<String> endpoints() {
+        List<String> urls = new ArrayList<>();
+        urls.add(nodeUrl);
+        Arrays.stream(fallbackUrls.split(","))
+                .map(String::trim)
+                .filter(url -> !url.isEmpty() && !urls.contains(url))
+                .forEach(urls::add);
+        return urls;
+    }
+
+    private OkHttpClient httpClient() {
+        return new OkHttpClient.Builder()
+                .connectionPool(new ConnectionPool(Math.max(1, maxIdleConnections), keepAliveSeconds, TimeUnit.SECONDS))
+                .protocols(List.of(Protocol.HTTP_2, Protocol.HTTP_1_1))
+                .connectTimeout(connectTimeoutMs, TimeUnit.MILLISECONDS)
+                .readTimeout(readTimeoutMs, TimeUnit.MILLISECONDS)
+                .writeTimeout(readTimeoutMs, TimeUnit.MILLISECONDS)
+                .callTimeout(callTimeoutMs, TimeUnit.MILLISECONDS)
+                .retryOnConnectionFailure(true)
+                .build();
+    }
+}
@@ -0,0 +1,132 @@
+package com.clienthub.web3.listener;
+
+import com.clienthub.domain.entity.BlockchainCursor;
+import com.clienthub.domain.repository.BlockchainCursorRepository;
+import com.clienthub.domain.repository.InvoiceRepository;
+import com.clienthub.web3.service.BlockchainService;
+import com.clienthub.web3.service.ChainHeadTracker;
+import com.clienthub.web3.service.EscrowContractEvents;
+import com.clienthub.web3.service.EscrowSnapshotCache;
+import com.clienthub.web3.service.EscrowValidationService;
+import com.clienthub.web3.service.FakeJsonRpcService;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.web3j.protocol.Web3j;
+import org.web3j.utils.Numeric;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BlockchainListenerTest {
+    private static final String CONTRACT_ADDRESS = "0x5FbDB2315678afecb367f032d93F642f64180aa3";
+    private static final String CURSOR = "escrow-listener:" + CONTRACT_ADDRESS.toLowerCase();
+
+    @Mock private BlockchainService blockchainService;
+    @Mock private InvoiceRepository invoiceRepository;
+    @Mock private ApplicationEventPublisher eventPublisher;
+    @Mock private EscrowValidationService escrowValidationService;
+    @Mock private BlockchainCursorRepository cursorRepository;
+    @Mock private ChainHeadTracker chainHeadTracker;
+    @Mock private EscrowSnapshotCache snapshotCache;
+
+    private final FakeJsonRpcService node = new FakeJsonRpcService();
+    private BlockchainListener listener;
+
+    @BeforeEach
+    void setUp() {
+        listener = new BlockchainListener(blockchainService, invoiceRepository, eventPublisher,
+                escrowValidationService, cursorRepository, chainHeadTracker, snapshotCache);
+        ReflectionTestUtils.setField(listener, "contractAddress", CONTRACT_ADDRESS);
+        ReflectionTestUtils.setField(listener, "reorgDepth", 2);
+        ReflectionTestUtils.setField(listener, "backfillBlockRange", 3);
+        when(blockchainService.getWeb3j()).thenReturn(Web3j.build(node));
+        when(chainHeadTracker.refresh()).thenReturn(Optional.of(BigInteger.valueOf(105)));
+    }
+
+    @Test
+    void backfillReplaysFromCheckpointMinusReorgDepthInBoundedChunks() throws Exception {
+        BlockchainCursor checkpoint = new BlockchainCursor(CURSOR, BigInteger.valueOf(100));
+        checkpoint.setLogIndex(4);
+        when(cursorRepository.findById(CURSOR)).thenReturn(Optional.of(checkpoint));
+        when(invoiceRepository.findSystemCryptoEscrowById(10L)).thenReturn(Optional.empty());
+        node.on("eth_getLogs", params -> block(params, "fromBlock") == 101
+                ? List.of(log(102, 0, false), log(103, 1, true))
+                : List.of());
+
+        BigInteger liveFrom = listener.backfill();
+
+        assertThat(liveFrom).isEqualTo(BigInteger.valueOf(106));
+        assertThat(node.calls("eth_getLogs")).extracting(call -> block(call.path("params"), "fromBlock") + "-"
+                + block(call.path("params"), "toBlock"))
+                .containsExactly("98-100", "101-103", "104-105");
+        verify(invoiceRepository, times(1)).findSystemCryptoEscrowById(10L);
+        verify(snapshotCache).invalidate(10L);
+        assertThat(checkpoint.getBlockNumber()).isEqualTo(BigInteger.valueOf(105));
+        assertThat(checkpoint.getLogIndex()).isEqualTo(-1);
+    }
+
+    @Test
+    void backfillReplaysPastAFailingEventButKeepsTheCheckpointBeforeIt() throws Exception {
+        BlockchainCursor checkpoint = new BlockchainCursor(CURSOR, BigInteger.valueOf(100));
+        when(cursorRepository.findById(CURSOR)).thenReturn(Optional.of(checkpoint));
+        when(invoiceRepository.findSystemCryptoEscrowById(10L))
+                .thenThrow(new IllegalStateException("database unavailable"))
+                .thenReturn(Optional.empty());
+        node.on("eth_getLogs", params -> block(params, "fromBlock") == 101
+                ? List.of(log(102, 0, false), log(103, 0, false))
+                : List.of());
+
+        BigInteger liveFrom = listener.backfill();
+
+        assertThat(liveFrom).isEqualTo(BigInteger.valueOf(106));
+        verify(invoiceRepository, times(2)).findSystemCryptoEscrowById(10L);
+        assertThat(checkpoint.getBlockNumber()).isEqualTo(BigInteger.valueOf(100));
+        verify(cursorRepository, never()).save(any());
+    }
+
+    @Test
+    void firstStartRecordsHeadAsCheckpointWithoutReplaying() throws Exception {
+        when(cursorRepository.findById(CURSOR)).thenReturn(Optional.empty());
+
+        BigInteger liveFrom = listener.backfill();
+
+        assertThat(liveFrom).isEqualTo(BigInteger.valueOf(106));
+        assertThat(node.calls("eth_getLogs")).isEmpty();
+        ArgumentCaptor<BlockchainCursor> saved = ArgumentCaptor.forClass(BlockchainCursor.class);
+        verify(cursorRepository).save(saved.capture());
+        assertThat(saved.getValue().getBlockNumber()).isEqualTo(BigInteger.valueOf(105));
+        verify(invoiceRepository, never()).findSystemCryptoEscrowById(any());
+    }
+
+    private static long block(JsonNode params, String field) {
+        return Numeric.decodeQuantity(params.get(0).path(field).asText()).longValue();
+    }
+
+    private static Map<String, Object> log(long block, int logIndex, boolean removed) {
+        return Map.of(
+                "removed", removed,
+                "logIndex", Numeric.toHexStringWithPrefix(BigInteger.valueOf(logIndex)),
+                "transactionIndex", "0x0",
+                "transactionHash", "0xdeposit" + block,
+                "blockHash", "0x" + "0".repeat(61) + block,
+                "blockNumber", Numeric.toHexStringWithPrefix(BigInteger.valueOf(block)),
+                "address", CONTRACT_ADDRESS,
+                "data", "0x",
+                "topics", List.of(EscrowContractEvents.DEPOSITED_TOPIC,
+                        Numeric.toHexStringWithPrefixZeroPadded(BigInteger.TEN, 64)));
+    }
+}
@@ -0,0 +1,45 @@
+package com.clienthub.web3.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuditAnchorBatchSizerTest {
+    private final Instant now = Instant.parse("2026-07-12T12:00:00Z");
+    private AuditAnchorBatchSizer sizer;
+
+    @BeforeEach
+    void setUp() {
+        sizer = new AuditAnchorBatchSizer();
+        ReflectionTestUtils.setField(sizer, "targetRecordsPerAnchor", 1000);
+        ReflectionTestUtils.setField(sizer, "minBatchSize", 50);
+        ReflectionTestUtils.setField(sizer, "maxBatchSize", 10000);
+        ReflectionTestUtils.setField(sizer, "targetLatencyMinutes", 240L);
+        ReflectionTestUtils.setField(sizer, "maxAgeHours", 24);
+    }
+
+    @Test
+    void busyBacklogGrowsBatchUpToMaximum() {
+        assertThat(sizer.size(2500, now, false, now)).isEqualTo(2500);
+        assertThat(sizer.size(50_000, now, false, now)).isEqualTo(10000);
+    }
+
+    @Test
+    void smallBacklogWaitsUntilTargetLatency() {
+        assertThat(sizer.size(200, now.minus(Duration.ofHours(1)), false, now)).isZero();
+        assertThat(sizer.size(200, now.minus(Duration.ofHours(5)), false, now)).isEqualTo(200);
+    }
+
+    @Test
+    void nearEmptyBacklogOnlyGoesOutAtMaximumAgeOrWhenForced() {
+        assertThat(sizer.size(3, now.minus(Duration.ofHours(5)), false, now)).isZero();
+        assertThat(sizer.size(3, now.minus(Duration.ofHours(25)), false, now)).isEqualTo(3);
+        assertThat(sizer.size(3, now, true, now)).isEqualTo(3);
+        assertThat(sizer.size(0, now, true, now)).isZero();
+    }
+}
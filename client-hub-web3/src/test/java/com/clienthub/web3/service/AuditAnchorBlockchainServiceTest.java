@@ -0,0 +1,125 @@
+package com.clienthub.web3.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.web3j.crypto.Hash;
+import org.web3j.crypto.RawTransaction;
+import org.web3j.crypto.TransactionDecoder;
+import org.web3j.protocol.Web3j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigInteger;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AuditAnchorBlockchainServiceTest {
+    private static final String CONTRACT_ADDRESS = "0x5fbdb2315678afecb367f032d93f642f64180aa3";
+    private static final String PRIVATE_KEY = "0xac0974bec39a17e36ba4a6b4d238ff944bacb478cbed5efcaf4d7e8a6e2ff80";
+    private static final AuditAnchorBlockchainService.AnchorRoot FIRST =
+            new AuditAnchorBlockchainService.AnchorRoot("0x" + "11".repeat(32), 10, "0x" + "aa".repeat(32));
+    private static final AuditAnchorBlockchainService.AnchorRoot SECOND =
+            new AuditAnchorBlockchainService.AnchorRoot("0x" + "22".repeat(32), 20, "0x" + "bb".repeat(32));
+
+    @Mock private RpcTransport rpcTransport;
+
+    private final FakeJsonRpcService node = new FakeJsonRpcService();
+    private AuditAnchorBlockchainService service;
+
+    @BeforeEach
+    void setUp() {
+        node.on("eth_chainId", params -> "0x7a69")
+                .on("eth_getTransactionCount", params -> "0x7")
+                .on("eth_sendRawTransaction", params -> Hash.sha3(params.get(0).asText()));
+        when(rpcTransport.web3j()).thenReturn(Web3j.build(node));
+        service = new AuditAnchorBlockchainService(null, rpcTransport);
+        ReflectionTestUtils.setField(service, "enabled", true);
+        ReflectionTestUtils.setField(service, "nodeUrl", "http://node.test");
+        ReflectionTestUtils.setField(service, "privateKey", PRIVATE_KEY);
+        ReflectionTestUtils.setField(service, "contractAddress", CONTRACT_ADDRESS);
+        ReflectionTestUtils.setField(service, "maxRootsPerTransaction", 8);
+        ReflectionTestUtils.setField(service, "replacementGasBumpPercent", 25);
+        ReflectionTestUtils.setField(service, "maxGasPriceGwei", 200L);
+        service.init();
+    }
+
+    @Test
+    void backToBackSubmissionsReadTheNonceOnceAndCountLocally() throws Exception {
+        AuditAnchorBlockchainService.Submission first = service.submit(List.of(FIRST));
+        AuditAnchorBlockchainService.Submission second = service.submit(List.of(SECOND));
+
+        assertThat(node.calls("eth_getTransactionCount")).hasSize(1);
+        assertThat(sent()).extracting(RawTransaction::getNonce)
+                .containsExactly(BigInteger.valueOf(7), BigInteger.valueOf(8));
+        assertThat(first.nonce()).isEqualTo(7);
+        assertThat(second.nonce()).isEqualTo(8);
+        assertThat(second.transactionHash()).isNotEqualTo(first.transactionHash());
+    }
+
+    @Test
+    void nonceErrorMakesTheNextSubmissionReadItAgain() throws Exception {
+        node.on("eth_sendRawTransaction", params -> new FakeJsonRpcService.RpcError(-32000, "nonce too low"));
+        assertThatThrownBy(() -> service.submit(List.of(FIRST))).isInstanceOf(IllegalStateException.class);
+
+        node.on("eth_sendRawTransaction", params -> Hash.sha3(params.get(0).asText()));
+        service.submit(List.of(FIRST));
+
+        assertThat(node.calls("eth_getTransactionCount")).hasSize(2);
+    }
+
+    @Test
+    void anyFailedSendMakesTheNextSubmissionReadTheNonceAgain() throws Exception {
+        node.on("eth_sendRawTransaction", params -> new FakeJsonRpcService.RpcError(-32000, "already known"));
+        assertThatThrownBy(() -> service.submit(List.of(FIRST))).isInstanceOf(IllegalStateException.class);
+        node.on("eth_sendRawTransaction", params -> {
+            throw new UncheckedIOException(new IOException("connection reset"));
+        });
+        assertThatThrownBy(() -> service.submit(List.of(FIRST))).isInstanceOf(UncheckedIOException.class);
+
+        node.on("eth_sendRawTransaction", params -> Hash.sha3(params.get(0).asText()));
+        service.submit(List.of(FIRST));
+
+        assertThat(node.calls("eth_getTransactionCount")).hasSize(3);
+    }
+
+    @Test
+    void replacementReusesTheNonceWithABumpedGasPrice() throws Exception {
+        AuditAnchorBlockchainService.Submission original = service.submit(List.of(FIRST));
+
+        AuditAnchorBlockchainService.Submission replacement =
+                service.replace(List.of(FIRST), original.nonce(), original.gasPrice()).orElseThrow();
+
+        List<RawTransaction> sent = sent();
+        assertThat(sent.get(1).getNonce()).isEqualTo(sent.get(0).getNonce());
+        assertThat(sent.get(1).getGasPrice())
+                .isEqualTo(original.gasPrice().multiply(BigInteger.valueOf(125)).divide(BigInteger.valueOf(100)));
+        assertThat(replacement.transactionHash()).isNotEqualTo(original.transactionHash());
+        assertThat(service.replace(List.of(FIRST), original.nonce(), new BigInteger("190000000000"))).isEmpty();
+    }
+
+    @Test
+    void multiRootContractAnchorsSeveralRootsInOneTransaction() throws Exception {
+        assertThatThrownBy(() -> service.submit(List.of(FIRST, SECOND))).isInstanceOf(IllegalArgumentException.class);
+        ReflectionTestUtils.setField(service, "multiRootEnabled", true);
+
+        service.submit(List.of(FIRST, SECOND));
+
+        assertThat(service.maxRootsPerTransaction()).isEqualTo(8);
+        assertThat(sent()).singleElement()
+                .satisfies(transaction -> assertThat(transaction.getData()).contains("11".repeat(32), "22".repeat(32)));
+    }
+
+    private List<RawTransaction> sent() {
+        return node.calls("eth_sendRawTransaction").stream()
+                .map(call -> TransactionDecoder.decode(call.path("params").get(0).asText()))
+                .toList();
+    }
+}
@@ -0,0 +1,114 @@
+package com.clienthub.web3.service;
+
+import com.clienthub.domain.entity.AuditAnchorBatch;
+import com.clienthub.domain.enums.AuditAnchorBatchStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuditAnchorRootCacheTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AuditAnchorBlockchainService.OnChainAnchor anchor =
+            new AuditAnchorBlockchainService.OnChainAnchor(5, "0x" + "ab".repeat(32), BigInteger.TEN, "0xabc");
+
+    @Mock private AuditAnchorBlockchainService blockchainService;
+    @Mock private StringRedisTemplate redisTemplate;
+    @Mock private ValueOperations<String, String> valueOperations;
+
+    private AuditAnchorRootCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new AuditAnchorRootCache(blockchainService, redisTemplate, objectMapper);
+        ReflectionTestUtils.setField(cache, "pendingTtlSeconds", 60L);
+        ReflectionTestUtils.setField(cache, "maxEntries", 100);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    void confirmedAnchorIsReadFromChainOnceAndStoredWithoutExpiry() {
+        AuditAnchorBatch batch = batch(AuditAnchorBatchStatus.CONFIRMED);
+        when(blockchainService.readAnchor(batch.getMerkleRoot())).thenReturn(Optional.of(anchor));
+
+        assertThat(cache.read(batch)).contains(anchor);
+        assertThat(cache.read(batch)).contains(anchor);
+
+        verify(blockchainService, times(1)).readAnchor(batch.getMerkleRoot());
+        verify(valueOperations).set(eq(key(batch)), anyString());
+        verify(valueOperations, never()).set(anyString(), anyString(), any(Duration.class));
+    }
+
+    @Test
+    void redisHitAvoidsChainRead() throws Exception {
+        AuditAnchorBatch batch = batch(AuditAnchorBatchStatus.CONFIRMED);
+        when(valueOperations.get(key(batch))).thenReturn(objectMapper.writeValueAsString(anchor));
+
+        assertThat(cache.read(batch)).contains(anchor);
+
+        verify(blockchainService, never()).readAnchor(anyString());
+    }
+
+    @Test
+    void pendingAnchorIsStoredWithShortTtlAndMissingAnchorIsNotCached() {
+        AuditAnchorBatch batch = batch(AuditAnchorBatchStatus.SUBMITTED);
+        when(blockchainService.readAnchor(batch.getMerkleRoot()))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(anchor));
+
+        assertThat(cache.read(batch)).isEmpty();
+        assertThat(cache.read(batch)).contains(anchor);
+
+        verify(blockchainService, times(2)).readAnchor(batch.getMerkleRoot());
+        verify(valueOperations).set(eq(key(batch)), anyString(), eq(Duration.ofSeconds(60)));
+    }
+
+    @Test
+    void fullLocalTierEvictsTheLeastRecentlyUsedAnchor() {
+        ReflectionTestUtils.setField(cache, "maxEntries", 2);
+        AuditAnchorBatch first = batch(AuditAnchorBatchStatus.CONFIRMED);
+        AuditAnchorBatch second = batch(AuditAnchorBatchStatus.CONFIRMED);
+        AuditAnchorBatch third = batch(AuditAnchorBatchStatus.CONFIRMED);
+        cache.put(first, anchor);
+        cache.put(second, anchor);
+        cache.read(first);
+
+        cache.put(third, anchor);
+
+        assertThat(cache.read(third)).contains(anchor);
+        assertThat(cache.read(first)).contains(anchor);
+        verify(valueOperations, never()).get(key(first));
+        verify(valueOperations, never()).get(key(third));
+        cache.read(second);
+        verify(valueOperations).get(key(second));
+    }
+
+    private AuditAnchorBatch batch(AuditAnchorBatchStatus status) {
+        AuditAnchorBatch batch = new AuditAnchorBatch();
+        batch.setId(UUID.randomUUID());
+        batch.setStatus(status);
+        batch.setMerkleRoot("0x" + "cd".repeat(32));
+        batch.setTransactionHash("0xABC123");
+        return batch;
+    }
+
+    private String key(AuditAnchorBatch batch) {
+        return "audit:anchor-root:" + batch.getId() + ":0xabc123";
+    }
+}
@@ -0,0 +1,153 @@
+package com.clienthub.web3.service;
+
+import com.clienthub.application.service.AuditArchiveService;
+import com.clienthub.domain.entity.AuditAnchorBatch;
+import com.clienthub.domain.entity.AuditAnchorMember;
+import com.clienthub.domain.entity.AuditLog;
+import com.clienthub.domain.enums.AuditAction;
+import com.clienthub.domain.enums.AuditAnchorBatchStatus;
+import com.clienthub.domain.enums.AuditVerificationStatus;
+import com.clienthub.domain.repository.AuditAnchorBatchRepository;
+import com.clienthub.domain.repository.AuditAnchorMemberRepository;
+import com.clienthub.domain.repository.AuditLogRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigInteger;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AuditBulkVerificationServiceTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AuditMerkleService merkleService = new AuditMerkleService(objectMapper);
+
+    @Mock private AuditLogRepository auditLogRepository;
+    @Mock private AuditAnchorBatchRepository batchRepository;
+    @Mock private AuditAnchorMemberRepository memberRepository;
+    @Mock private AuditAnchorRootCache rootCache;
+    @Mock private AuditArchiveService archiveService;
+    @Mock private PlatformTransactionManager transactionManager;
+
+    private AuditBulkVerificationService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new AuditBulkVerificationService(auditLogRepository, batchRepository, memberRepository,
+                merkleService, rootCache, archiveService, objectMapper, transactionManager);
+        ReflectionTestUtils.setField(service, "parallelism", 2);
+    }
+
+    @Test
+    void verifyReadsAnchorOncePerBatchAndStreamsTamperedRecords() throws Exception {
+        List<AuditLog> logs = IntStream.rangeClosed(1, 5)
+                .mapToObj(index -> auditLog((long) index, "{\"value\":" + index + "}"))
+                .toList();
+        AuditMerkleService.MerkleBatch tree = merkleService.build(logs);
+        AuditAnchorBatch batch = confirmedBatch(tree, logs);
+        List<AuditAnchorMember> members = new ArrayList<>();
+        for (AuditMerkleService.MerkleLeaf leaf : tree.leaves()) {
+            members.add(new AuditAnchorMember(batch, leaf.auditLogId(), leaf.index(), leaf.hash(),
+                    objectMapper.writeValueAsString(leaf.proof())));
+        }
+        List<AuditLog> stored = new ArrayList<>(logs);
+        stored.set(2, auditLog(3L, "{\"value\":999}"));
+
+        when(batchRepository.existsById(batch.getId())).thenReturn(true);
+        when(batchRepository.findById(batch.getId())).thenReturn(Optional.of(batch));
+        when(memberRepository.findByBatchIdOrderByLeafIndexAsc(batch.getId())).thenReturn(members);
+        when(auditLogRepository.findAllById(anyIterable())).thenReturn(stored);
+        when(rootCache.read(batch)).thenReturn(Optional.of(
+                new AuditAnchorBlockchainService.OnChainAnchor(5, batch.getMetadataHash(), BigInteger.ONE, "0xabc")));
+
+        List<AuditVerificationMismatch> mismatches = new ArrayList<>();
+        AuditBulkVerificationSummary summary = service.verify(batch.getId(), null, null, mismatches::add);
+
+        assertThat(summary.batches()).isEqualTo(1);
+        assertThat(summary.verifiedRecords()).isEqualTo(4);
+        assertThat(summary.tamperedRecords()).isEqualTo(1);
+        assertThat(mismatches).singleElement().satisfies(mismatch -> {
+            assertThat(mismatch.auditLogId()).isEqualTo(3L);
+            assertThat(mismatch.verificationStatus()).isEqualTo(AuditVerificationStatus.TAMPERED);
+        });
+        verify(rootCache, times(1)).read(batch);
+    }
+
+    @Test
+    void verifyRangeFindsBatchesOfArchivedMonthAndReadsTheirRecordsFromArchive() throws Exception {
+        List<AuditLog> logs = IntStream.rangeClosed(1, 3)
+                .mapToObj(index -> auditLog((long) index, "{\"value\":" + index + "}"))
+                .toList();
+        AuditMerkleService.MerkleBatch tree = merkleService.build(logs);
+        AuditAnchorBatch batch = confirmedBatch(tree, logs);
+        List<AuditAnchorMember> members = new ArrayList<>();
+        for (AuditMerkleService.MerkleLeaf leaf : tree.leaves()) {
+            members.add(new AuditAnchorMember(batch, leaf.auditLogId(), leaf.index(), leaf.hash(),
+                    objectMapper.writeValueAsString(leaf.proof())));
+        }
+        Instant from = Instant.parse("2026-07-01T00:00:00Z");
+        Instant to = Instant.parse("2026-08-01T00:00:00Z");
+
+        when(memberRepository.findBatchIdsByAuditLogCreatedAtBetween(from, to)).thenReturn(List.of());
+        when(memberRepository.findBatchIdsCoveringArchivedRange(from, to)).thenReturn(List.of(batch.getId()));
+        when(batchRepository.findById(batch.getId())).thenReturn(Optional.of(batch));
+        when(memberRepository.findByBatchIdOrderByLeafIndexAsc(batch.getId())).thenReturn(members);
+        when(auditLogRepository.findAllById(anyIterable())).thenReturn(List.of());
+        when(archiveService.findArchived(List.of(1L, 2L, 3L))).thenReturn(
+                logs.stream().collect(Collectors.toMap(AuditLog::getId, value -> value)));
+        when(rootCache.read(batch)).thenReturn(Optional.of(
+                new AuditAnchorBlockchainService.OnChainAnchor(3, batch.getMetadataHash(), BigInteger.ONE, "0xabc")));
+
+        AuditBulkVerificationSummary summary = service.verify(null, from, to, mismatch -> {});
+
+        assertThat(summary.batches()).isEqualTo(1);
+        assertThat(summary.verifiedRecords()).isEqualTo(3);
+        assertThat(summary.tamperedRecords()).isZero();
+    }
+
+    @Test
+    void verifyRequiresBatchIdOrCompleteRange() {
+        assertThatThrownBy(() -> service.verify(null, Instant.now(), null, mismatch -> {}))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private AuditAnchorBatch confirmedBatch(AuditMerkleService.MerkleBatch tree, List<AuditLog> logs) {
+        AuditAnchorBatch batch = new AuditAnchorBatch();
+        batch.setId(UUID.randomUUID());
+        batch.setStatus(AuditAnchorBatchStatus.CONFIRMED);
+        batch.setMerkleRoot(tree.root());
+        batch.setFirstLogId(logs.getFirst().getId());
+        batch.setLastLogId(logs.getLast().getId());
+        batch.setRecordCount(logs.size());
+        batch.setMetadataHash(merkleService.metadataHash(batch.getFirstLogId(), batch.getLastLogId(), logs.size()));
+        batch.setHashVersion(AuditMerkleService.HASH_VERSION);
+        return batch;
+    }
+
+    private AuditLog auditLog(Long id, String newValue) {
+        AuditLog log = new AuditLog("default", null, "admin@clienthub.io", "ADMIN",
+                AuditAction.UPDATE, "PROJECT", "project-1", null, newValue,
+                "127.0.0.1", "legacy-data-hash");
+        ReflectionTestUtils.setField(log, "id", id);
+        ReflectionTestUtils.setField(log, "createdAt", Instant.parse("2026-07-12T00:00:00Z"));
+        return log;
+    }
+}
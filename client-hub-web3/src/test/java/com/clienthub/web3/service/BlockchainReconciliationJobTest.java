@@ -9,8 +9,10 @@ import com.clienthub.domain.enums.Role;
 import com.clienthub.domain.repository.InvoiceRepository;
 import java.math.BigInteger;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -21,6 +23,7 @@ import org.springframework.test.util.ReflectionTestUtils;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -45,6 +48,13 @@ class BlockchainReconciliationJobTest {
     @Mock
     private EscrowValidationService escrowValidationService;
 
+    @Mock
+    private ChainHeadTracker chainHeadTracker;
+
+    @Mock
+    private EscrowSnapshotCache snapshotCache;
+
+    private final EscrowReconciliationSchedule schedule = new EscrowReconciliationSchedule();
     private BlockchainReconciliationJob reconciliationJob;
 
     @BeforeEach
@@ -53,10 +63,24 @@ class BlockchainReconciliationJobTest {
                 blockchainService,
                 invoiceRepository,
                 eventPublisher,
-                escrowValidationService);
+                escrowValidationService,
+                chainHeadTracker,
+                schedule,
+                snapshotCache);
         ReflectionTestUtils.setField(reconciliationJob, "blockchainEnabled", true);
         ReflectionTestUtils.setField(reconciliationJob, "contractAddress", CONTRACT_ADDRESS);
         ReflectionTestUtils.setField(reconciliationJob, "requiredConfirmations", 12);
+        ReflectionTestUtils.setField(reconciliationJob, "rpcBatchSize", 200);
+        ReflectionTestUtils.setField(reconciliationJob, "workers", 2);
+        ReflectionTestUtils.setField(reconciliationJob, "maxChecksPerRun", 100);
+        ReflectionTestUtils.setField(schedule, "minIntervalSeconds", 30L);
+        ReflectionTestUtils.setField(schedule, "maxIntervalSeconds", 3600L);
+        reconciliationJob.startWorkerExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        reconciliationJob.shutdown();
     }
 
     @Test
@@ -90,17 +114,58 @@ class BlockchainReconciliationJobTest {
         verify(invoiceRepository).save(invoice);
     }
 
+    @Test
+    void reconcileEscrowStatuses_WhenInvoiceWasJustChecked_ShouldWaitForItsNextCheck() {
+        Invoice invoice = createInvoice();
+        EscrowSnapshot snapshot = createDepositedSnapshot();
+        stubActiveInvoice(invoice, snapshot, 12);
+
+        reconciliationJob.reconcileEscrowStatuses();
+        reconciliationJob.reconcileEscrowStatuses();
+
+        verify(blockchainService, times(1)).getEscrowSnapshots(List.of(INVOICE_ID));
+        verify(invoiceRepository, times(2)).findSystemCryptoInvoiceIdsByPaymentMethodAndStatusNotIn(
+                PaymentMethod.CRYPTO_ESCROW, List.of(InvoiceStatus.PAID, InvoiceStatus.REFUNDED));
+    }
+
+    @Test
+    void reconcileEscrowStatuses_WhenChunkFails_ShouldRequeueItsInvoices() {
+        Invoice invoice = createInvoice();
+        when(invoiceRepository.findSystemCryptoInvoiceIdsByPaymentMethodAndStatusNotIn(
+                PaymentMethod.CRYPTO_ESCROW,
+                List.of(InvoiceStatus.PAID, InvoiceStatus.REFUNDED)))
+                .thenReturn(List.of(INVOICE_ID));
+        when(invoiceRepository.findSystemCryptoInvoicesByIdInAndPaymentMethodAndStatusNotIn(
+                List.of(INVOICE_ID),
+                PaymentMethod.CRYPTO_ESCROW,
+                List.of(InvoiceStatus.PAID, InvoiceStatus.REFUNDED)))
+                .thenReturn(List.of(invoice));
+        when(chainHeadTracker.currentBlock()).thenReturn(Optional.of(DEPOSIT_BLOCK));
+        when(blockchainService.getEscrowSnapshots(List.of(INVOICE_ID)))
+                .thenThrow(new IllegalStateException("RPC unavailable"));
+
+        reconciliationJob.reconcileEscrowStatuses();
+
+        assertEquals(List.of(INVOICE_ID), schedule.pollDue(java.time.Instant.now().plusSeconds(31), 10));
+    }
+
     private void stubActiveInvoice(Invoice invoice, EscrowSnapshot snapshot, int confirmations) {
-        when(invoiceRepository.findSystemCryptoInvoicesByPaymentMethodAndStatusNotIn(
+        when(invoiceRepository.findSystemCryptoInvoiceIdsByPaymentMethodAndStatusNotIn(
+                PaymentMethod.CRYPTO_ESCROW,
+                List.of(InvoiceStatus.PAID, InvoiceStatus.REFUNDED)))
+                .thenReturn(List.of(INVOICE_ID));
+        when(invoiceRepository.findSystemCryptoInvoicesByIdInAndPaymentMethodAndStatusNotIn(
+                List.of(INVOICE_ID),
                 PaymentMethod.CRYPTO_ESCROW,
                 List.of(InvoiceStatus.PAID, InvoiceStatus.REFUNDED)))
                 .thenReturn(List.of(invoice));
-        when(blockchainService.getEscrowSnapshot(INVOICE_ID)).thenReturn(Optional.of(snapshot));
+        when(blockchainService.getEscrowSnapshots(List.of(INVOICE_ID))).thenReturn(Map.of(INVOICE_ID, snapshot));
+        when(chainHeadTracker.currentBlock())
+                .thenReturn(Optional.of(DEPOSIT_BLOCK.add(BigInteger.valueOf(confirmations - 1L))));
         when(escrowValidationService.validate(invoice, snapshot, EscrowStatus.DEPOSITED))
                 .thenReturn(EscrowValidationResult.success());
         when(blockchainService.findEventReference(EscrowContractEvents.DEPOSITED_TOPIC, INVOICE_ID))
                 .thenReturn(Optional.of(new BlockchainEventReference("0xdeposit", DEPOSIT_BLOCK)));
-        when(blockchainService.getConfirmationsSince(DEPOSIT_BLOCK)).thenReturn(confirmations);
     }
 
     private Invoice createInvoice() {
@@ -0,0 +1,151 @@
+package com.clienthub.web3.service;
+
+import com.clienthub.domain.entity.BlockchainCursor;
+import com.clienthub.domain.entity.EscrowEvent;
+import com.clienthub.domain.enums.EscrowStatus;
+import com.clienthub.domain.repository.BlockchainCursorRepository;
+import com.clienthub.domain.repository.EscrowEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.web3j.abi.TypeEncoder;
+import org.web3j.abi.datatypes.Address;
+import org.web3j.abi.datatypes.generated.Uint256;
+import org.web3j.abi.datatypes.generated.Uint8;
+import org.web3j.protocol.Web3j;
+import org.web3j.utils.Numeric;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BlockchainServiceTest {
+    private static final String CONTRACT_ADDRESS = "0x5FbDB2315678afecb367f032d93F642f64180aa3";
+    private static final String CLIENT_WALLET = "0x70997970c51812dc3a010c7d01b50e0d17dc79c8";
+    private static final String FREELANCER_WALLET = "0x3c44cdddb6a900fa2b585dd299e03d12fa4293bc";
+    private static final String TOKEN_ADDRESS = "0x9fe46736679d2d9a65f0992f2272de9f3c7fa6e0";
+
+    @Mock private EscrowEventRepository escrowEventRepository;
+    @Mock private BlockchainCursorRepository cursorRepository;
+
+    private final FakeJsonRpcService node = new FakeJsonRpcService();
+    private BlockchainService blockchainService;
+
+    @BeforeEach
+    void setUp() {
+        blockchainService = new BlockchainService(escrowEventRepository, cursorRepository, new RpcRateLimiter(0),
+                null);
+        ReflectionTestUtils.setField(blockchainService, "blockchainEnabled", true);
+        ReflectionTestUtils.setField(blockchainService, "contractAddress", CONTRACT_ADDRESS);
+        ReflectionTestUtils.setField(blockchainService, "rpcBatchSize", 2);
+        ReflectionTestUtils.setField(blockchainService, "liveLookupBlocks", 100);
+        ReflectionTestUtils.setField(blockchainService, "web3j", Web3j.build(node));
+    }
+
+    @Test
+    void getEscrowSnapshotsReadsInvoicesInBatchedRoundTrips() {
+        node.on("eth_call", params -> {
+            String data = params.get(0).path("data").asText();
+            long invoiceId = Numeric.decodeQuantity("0x" + data.substring(data.length() - 64)).longValue();
+            return invoiceId == 3 ? "0x" : escrow(invoiceId, invoiceId == 1 ? 1 : 2);
+        });
+
+        Map<Long, EscrowSnapshot> snapshots = blockchainService.getEscrowSnapshots(List.of(1L, 2L, 3L));
+
+        assertThat(node.roundTrips()).isEqualTo(2);
+        assertThat(node.calls("eth_call")).hasSize(3);
+        assertThat(snapshots).containsOnlyKeys(1L, 2L);
+        assertThat(snapshots.get(1L).status()).isEqualTo(EscrowStatus.DEPOSITED);
+        assertThat(snapshots.get(2L).status()).isEqualTo(EscrowStatus.RELEASED);
+        assertThat(snapshots.get(2L).amount()).isEqualTo(BigInteger.valueOf(2000));
+        assertThat(snapshots.get(1L).freelancerAddress()).isEqualTo(FREELANCER_WALLET);
+    }
+
+    @Test
+    void getTransactionBlockNumbersSkipsUnknownTransactionsInOneRoundTrip() {
+        node.on("eth_getTransactionReceipt", params -> "0xknown".equals(params.get(0).asText())
+                ? Map.of("transactionHash", "0xknown", "blockNumber", "0x14", "status", "0x1", "logs", List.of())
+                : null);
+
+        Map<String, BigInteger> blocks = blockchainService.getTransactionBlockNumbers(List.of("0xknown", "0xmissing"));
+
+        assertThat(node.roundTrips()).isEqualTo(1);
+        assertThat(blocks).containsExactly(Map.entry("0xknown", BigInteger.valueOf(20)));
+    }
+
+    @Test
+    void interruptedRateLimitWaitStopsReadingAndKeepsTheInterruptFlag() {
+        ReflectionTestUtils.setField(blockchainService, "rateLimiter", new RpcRateLimiter(1));
+        node.on("eth_call", params -> escrow(1, 1));
+
+        Thread.currentThread().interrupt();
+        Map<Long, EscrowSnapshot> snapshots = blockchainService.getEscrowSnapshots(List.of(1L, 2L, 3L, 4L));
+
+        assertThat(Thread.interrupted()).isTrue();
+        assertThat(snapshots).isEmpty();
+        assertThat(node.roundTrips()).isZero();
+    }
+
+    @Test
+    void indexedEventReferenceIsReadWithoutCallingTheNode() {
+        EscrowEvent event = new EscrowEvent(CONTRACT_ADDRESS.toLowerCase(), 7L, EscrowContractEvents.DEPOSITED_TOPIC,
+                BigInteger.valueOf(40), 0, "0xindexed", "0xblock");
+        when(escrowEventRepository.findFirstByContractAddressAndInvoiceIdAndTopicOrderByBlockNumberDescLogIndexDesc(
+                CONTRACT_ADDRESS.toLowerCase(), 7L, EscrowContractEvents.DEPOSITED_TOPIC)).thenReturn(Optional.of(event));
+
+        assertThat(blockchainService.findEventReference(EscrowContractEvents.DEPOSITED_TOPIC, 7L))
+                .contains(new BlockchainEventReference("0xindexed", BigInteger.valueOf(40)));
+        assertThat(node.roundTrips()).isZero();
+    }
+
+    @Test
+    void eventReferenceBeyondTheIndexedBlocksIsReadLive() {
+        String contract = CONTRACT_ADDRESS.toLowerCase();
+        when(cursorRepository.findById("escrow-events:" + contract))
+                .thenReturn(Optional.of(new BlockchainCursor("escrow-events:" + contract, BigInteger.valueOf(488))));
+        node.on("eth_blockNumber", params -> "0x1f4");
+        node.on("eth_getLogs", params -> List.of(Map.of(
+                "removed", false,
+                "logIndex", "0x0",
+                "transactionIndex", "0x0",
+                "transactionHash", "0xlive",
+                "blockHash", "0x" + "0".repeat(61) + "1f3",
+                "blockNumber", "0x1f3",
+                "address", contract,
+                "data", "0x",
+                "topics", List.of(EscrowContractEvents.DEPOSITED_TOPIC,
+                        Numeric.toHexStringWithPrefixZeroPadded(BigInteger.valueOf(7), 64)))));
+
+        assertThat(blockchainService.findEventReference(EscrowContractEvents.DEPOSITED_TOPIC, 7L))
+                .contains(new BlockchainEventReference("0xlive", BigInteger.valueOf(499)));
+        var filter = node.calls("eth_getLogs").getFirst().path("params").get(0);
+        assertThat(Numeric.decodeQuantity(filter.path("fromBlock").asText())).isEqualTo(BigInteger.valueOf(489));
+        assertThat(Numeric.decodeQuantity(filter.path("toBlock").asText())).isEqualTo(BigInteger.valueOf(500));
+        assertThat(filter.path("topics").get(1).asText())
+                .isEqualTo(Numeric.toHexStringWithPrefixZeroPadded(BigInteger.valueOf(7), 64));
+    }
+
+    @Test
+    void confirmationsCountTheBlockItself() {
+        assertThat(BlockchainService.confirmations(BigInteger.valueOf(20), BigInteger.valueOf(20))).isEqualTo(1);
+        assertThat(BlockchainService.confirmations(BigInteger.valueOf(31), BigInteger.valueOf(20))).isEqualTo(12);
+        assertThat(BlockchainService.confirmations(BigInteger.valueOf(19), BigInteger.valueOf(20))).isZero();
+        assertThat(BlockchainService.confirmations(null, BigInteger.valueOf(20))).isZero();
+    }
+
+    private static String escrow(long invoiceId, int status) {
+        return "0x" + TypeEncoder.encode(new Address(CLIENT_WALLET))
+                + TypeEncoder.encode(new Address(FREELANCER_WALLET))
+                + TypeEncoder.encode(new Address(TOKEN_ADDRESS))
+                + TypeEncoder.encode(new Uint256(BigInteger.valueOf(invoiceId * 1000)))
+                + TypeEncoder.encode(new Uint8(BigInteger.valueOf(status)));
+    }
+}
@@ -0,0 +1,66 @@
+package com.clienthub.web3.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigInteger;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ChainHeadTrackerTest {
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Mock private BlockchainService blockchainService;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private ChainHeadTracker tracker;
+    private ChainHeadHealthIndicator health;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new ChainHeadTracker(blockchainService, registry, Clock.fixed(NOW, ZoneOffset.UTC));
+        ReflectionTestUtils.setField(tracker, "blockchainEnabled", true);
+        health = new ChainHeadHealthIndicator(tracker);
+        ReflectionTestUtils.setField(health, "maxStalenessSeconds", 60L);
+    }
+
+    @Test
+    void confirmationsUseTheLastPolledHeadAndNeverMoveBackwards() {
+        when(blockchainService.getBlockNumber())
+                .thenReturn(Optional.of(BigInteger.valueOf(31)), Optional.of(BigInteger.valueOf(30)), Optional.empty());
+
+        tracker.poll();
+        tracker.poll();
+        tracker.poll();
+
+        assertThat(tracker.currentBlock()).contains(BigInteger.valueOf(31));
+        assertThat(tracker.confirmationsSince(BigInteger.valueOf(20))).isEqualTo(12);
+        assertThat(tracker.staleness()).contains(Duration.ZERO);
+        assertThat(registry.get("blockchain.head.block").gauge().value()).isEqualTo(31);
+        assertThat(health.health().getStatus()).isEqualTo(Status.UP);
+    }
+
+    @Test
+    void healthIsDownWhenHeadIsMissingOrStale() {
+        assertThat(health.health().getStatus()).isEqualTo(Status.DOWN);
+
+        ReflectionTestUtils.setField(tracker, "head", BigInteger.TEN);
+        ReflectionTestUtils.setField(tracker, "updatedAt", NOW.minusSeconds(120));
+
+        assertThat(health.health().getStatus()).isEqualTo(Status.DOWN);
+        assertThat(registry.get("blockchain.head.staleness").gauge().value()).isEqualTo(120);
+    }
+}
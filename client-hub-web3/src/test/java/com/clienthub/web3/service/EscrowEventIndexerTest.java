@@ -0,0 +1,149 @@
+package com.clienthub.web3.service;
+
+import com.clienthub.domain.entity.BlockchainCursor;
+import com.clienthub.domain.entity.EscrowEvent;
+import com.clienthub.domain.repository.BlockchainCursorRepository;
+import com.clienthub.domain.repository.EscrowEventRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.web3j.protocol.Web3j;
+import org.web3j.utils.Numeric;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EscrowEventIndexerTest {
+    private static final String CONTRACT_ADDRESS = "0x5FbDB2315678afecb367f032d93F642f64180aa3";
+    private static final String CONTRACT = CONTRACT_ADDRESS.toLowerCase();
+    private static final String CURSOR = "escrow-events:" + CONTRACT;
+
+    @Mock private BlockchainService blockchainService;
+    @Mock private EscrowEventRepository eventRepository;
+    @Mock private BlockchainCursorRepository cursorRepository;
+    @Mock private ChainHeadTracker chainHeadTracker;
+    @Mock private PlatformTransactionManager transactionManager;
+
+    private final FakeJsonRpcService node = new FakeJsonRpcService();
+    private EscrowEventIndexer indexer;
+
+    @BeforeEach
+    void setUp() {
+        indexer = new EscrowEventIndexer(blockchainService, eventRepository, cursorRepository, chainHeadTracker,
+                transactionManager);
+        ReflectionTestUtils.setField(indexer, "contractAddress", CONTRACT_ADDRESS);
+        ReflectionTestUtils.setField(indexer, "startBlock", 0L);
+        ReflectionTestUtils.setField(indexer, "blockRange", 4);
+        ReflectionTestUtils.setField(indexer, "maxRangesPerRun", 10);
+        when(blockchainService.getWeb3j()).thenReturn(Web3j.build(node));
+        when(chainHeadTracker.currentBlock()).thenReturn(Optional.of(BigInteger.valueOf(5)));
+    }
+
+    @Test
+    void indexesBoundedRangesFromStartAndHalvesRejectedRanges() throws Exception {
+        when(cursorRepository.findById(CURSOR)).thenReturn(Optional.empty());
+        node.on("eth_getLogs", params -> {
+            long from = block(params, "fromBlock");
+            long to = block(params, "toBlock");
+            if (to - from >= 3) return new FakeJsonRpcService.RpcError(-32005, "query returned more than 10000 results");
+            if (from == 0) return List.of(log(EscrowContractEvents.DEPOSITED_TOPIC, 10, 1, 0, "0xdeposit"));
+            if (from == 4) return List.of(log(EscrowContractEvents.RELEASED_TOPIC, 10, 5, 2, "0xrelease"));
+            return List.of();
+        });
+
+        int stored = indexer.indexNewBlocks();
+
+        assertThat(stored).isEqualTo(2);
+        assertThat(node.calls("eth_getLogs")).extracting(call -> block(call.path("params"), "fromBlock") + "-"
+                + block(call.path("params"), "toBlock"))
+                .containsExactly("0-3", "0-1", "2-3", "4-5");
+        ArgumentCaptor<EscrowEvent> events = ArgumentCaptor.forClass(EscrowEvent.class);
+        verify(eventRepository, times(2)).save(events.capture());
+        EscrowEvent released = events.getAllValues().get(1);
+        assertThat(released.getContractAddress()).isEqualTo(CONTRACT);
+        assertThat(released.getInvoiceId()).isEqualTo(10L);
+        assertThat(released.getTopic()).isEqualTo(EscrowContractEvents.RELEASED_TOPIC);
+        assertThat(released.getBlockNumber()).isEqualTo(BigInteger.valueOf(5));
+        assertThat(released.getLogIndex()).isEqualTo(2);
+        assertThat(released.getTransactionHash()).isEqualTo("0xrelease");
+
+        ArgumentCaptor<BlockchainCursor> cursors = ArgumentCaptor.forClass(BlockchainCursor.class);
+        verify(cursorRepository, times(3)).save(cursors.capture());
+        assertThat(cursors.getValue().getBlockNumber()).isEqualTo(BigInteger.valueOf(5));
+    }
+
+    @Test
+    void resumesAfterPersistedCursorAndSkipsAlreadyIndexedLogs() throws Exception {
+        when(cursorRepository.findById(CURSOR)).thenReturn(Optional.of(new BlockchainCursor(CURSOR, BigInteger.valueOf(3))));
+        when(eventRepository.existsByContractAddressAndInvoiceIdAndTopicAndBlockNumberAndLogIndex(
+                CONTRACT, 10L, EscrowContractEvents.DEPOSITED_TOPIC, BigInteger.valueOf(4), 0)).thenReturn(true);
+        node.on("eth_getLogs", params -> List.of(log(EscrowContractEvents.DEPOSITED_TOPIC, 10, 4, 0, "0xdeposit")));
+
+        int stored = indexer.indexNewBlocks();
+
+        assertThat(stored).isZero();
+        assertThat(node.calls("eth_getLogs")).hasSize(1);
+        assertThat(block(node.calls("eth_getLogs").get(0).path("params"), "fromBlock")).isEqualTo(4);
+        verify(eventRepository, never()).save(any());
+    }
+
+    @Test
+    void stopsConfirmationsBelowTheHeadSoUnsettledBlocksAreReadLater() throws Exception {
+        ReflectionTestUtils.setField(indexer, "confirmations", 2);
+        when(cursorRepository.findById(CURSOR)).thenReturn(Optional.of(new BlockchainCursor(CURSOR, BigInteger.ONE)));
+        node.on("eth_getLogs", params -> List.of());
+
+        indexer.indexNewBlocks();
+
+        assertThat(node.calls("eth_getLogs")).extracting(call -> block(call.path("params"), "fromBlock") + "-"
+                + block(call.path("params"), "toBlock"))
+                .containsExactly("2-3");
+        ArgumentCaptor<BlockchainCursor> cursor = ArgumentCaptor.forClass(BlockchainCursor.class);
+        verify(cursorRepository).save(cursor.capture());
+        assertThat(cursor.getValue().getBlockNumber()).isEqualTo(BigInteger.valueOf(3));
+    }
+
+    @Test
+    void startsABoundedWindowBelowTheHeadWhenNoDeploymentBlockIsConfigured() throws Exception {
+        ReflectionTestUtils.setField(indexer, "startBlock", -1L);
+        ReflectionTestUtils.setField(indexer, "initialLookbackBlocks", 2L);
+        when(cursorRepository.findById(CURSOR)).thenReturn(Optional.empty());
+        node.on("eth_getLogs", params -> List.of());
+
+        indexer.indexNewBlocks();
+
+        assertThat(node.calls("eth_getLogs")).extracting(call -> block(call.path("params"), "fromBlock") + "-"
+                + block(call.path("params"), "toBlock"))
+                .containsExactly("3-5");
+    }
+
+    private static long block(JsonNode params, String field) {
+        return Numeric.decodeQuantity(params.get(0).path(field).asText()).longValue();
+    }
+
+    private static Map<String, Object> log(String topic, long invoiceId, long block, int logIndex, String txHash) {
+        return Map.of(
+                "removed", false,
+                "logIndex", Numeric.toHexStringWithPrefix(BigInteger.valueOf(logIndex)),
+                "transactionIndex", "0x0",
+                "transactionHash", txHash,
+                "blockHash", "0x" + "0".repeat(63) + block,
+                "blockNumber", Numeric.toHexStringWithPrefix(BigInteger.valueOf(block)),
+                "address", CONTRACT,
+                "data", "0x",
+                "topics", List.of(topic, Numeric.toHexStringWithPrefixZeroPadded(BigInteger.valueOf(invoiceId), 64)));
+    }
+}
@@ -0,0 +1,72 @@
+package com.clienthub.web3.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EscrowReconciliationScheduleTest {
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    private final EscrowReconciliationSchedule schedule = new EscrowReconciliationSchedule();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(schedule, "minIntervalSeconds", 30L);
+        ReflectionTestUtils.setField(schedule, "maxIntervalSeconds", 100L);
+    }
+
+    @Test
+    void unchangedInvoicesBackOffExponentiallyUpToTheMaximum() {
+        schedule.sync(List.of(1L), NOW);
+        Instant at = NOW;
+        long[] expectedWaits = {60, 100, 100};
+        for (long wait : expectedWaits) {
+            assertThat(schedule.pollDue(at, 10)).containsExactly(1L);
+            schedule.reschedule(1L, false, at);
+            assertThat(schedule.pollDue(at.plusSeconds(wait - 1), 10)).isEmpty();
+            at = at.plusSeconds(wait);
+        }
+        assertThat(schedule.pollDue(at, 10)).containsExactly(1L);
+    }
+
+    @Test
+    void changesAndEventsBringInvoicesBackToTheMinimumInterval() {
+        schedule.sync(List.of(1L, 2L), NOW);
+        assertThat(schedule.pollDue(NOW, 10)).containsExactly(1L, 2L);
+        schedule.reschedule(1L, true, NOW);
+        schedule.reschedule(2L, false, NOW);
+
+        assertThat(schedule.pollDue(NOW.plusSeconds(30), 10)).containsExactly(1L);
+
+        schedule.expedite(2L, NOW.plusSeconds(31));
+        assertThat(schedule.pollDue(NOW.plusSeconds(31), 10)).containsExactly(2L);
+    }
+
+    @Test
+    void releaseRequeuesPolledInvoicesThatWereNeverRescheduled() {
+        schedule.sync(List.of(1L, 2L), NOW);
+        assertThat(schedule.pollDue(NOW, 10)).containsExactly(1L, 2L);
+        schedule.reschedule(1L, false, NOW);
+
+        schedule.release(List.of(1L, 2L), NOW);
+
+        assertThat(schedule.pollDue(NOW.plusSeconds(29), 10)).isEmpty();
+        assertThat(schedule.pollDue(NOW.plusSeconds(30), 10)).containsExactly(2L);
+        assertThat(schedule.pollDue(NOW.plusSeconds(60), 10)).containsExactly(1L);
+    }
+
+    @Test
+    void closedInvoicesAreDroppedAndPollingHonoursTheLimit() {
+        schedule.sync(List.of(1L, 2L, 3L), NOW);
+        schedule.sync(List.of(2L, 3L), NOW);
+
+        assertThat(schedule.pollDue(NOW, 1)).containsExactly(2L);
+        assertThat(schedule.pollDue(NOW, 10)).containsExactly(3L);
+        assertThat(schedule.size()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,120 @@
+package com.clienthub.web3.service;
+
+import com.clienthub.domain.enums.EscrowStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EscrowSnapshotCacheTest {
+    private static final String KEY = "escrow:snapshot:0xcontract:7";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final EscrowSnapshot deposited = snapshot(EscrowStatus.DEPOSITED);
+
+    @Mock private BlockchainService blockchainService;
+    @Mock private StringRedisTemplate redisTemplate;
+    @Mock private ValueOperations<String, String> valueOperations;
+
+    private EscrowSnapshotCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new EscrowSnapshotCache(blockchainService, redisTemplate, objectMapper);
+        ReflectionTestUtils.setField(cache, "contractAddress", "0xCONTRACT");
+        ReflectionTestUtils.setField(cache, "ttlSeconds", 300L);
+        ReflectionTestUtils.setField(cache, "maxEntries", 100);
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    void knownSnapshotIsReadFromChainOnceAndStoredWithTtl() {
+        when(blockchainService.getEscrowSnapshot(7L)).thenReturn(Optional.of(deposited));
+
+        assertThat(cache.get(7L)).contains(deposited);
+        assertThat(cache.get(7L)).contains(deposited);
+
+        verify(blockchainService, times(1)).getEscrowSnapshot(7L);
+        verify(valueOperations).set(eq(KEY), anyString(), eq(Duration.ofSeconds(300)));
+    }
+
+    @Test
+    void redisHitAvoidsChainRead() throws Exception {
+        when(valueOperations.get(KEY)).thenReturn(objectMapper.writeValueAsString(deposited));
+
+        assertThat(cache.get(7L)).contains(deposited);
+
+        verify(blockchainService, never()).getEscrowSnapshot(anyLong());
+    }
+
+    @Test
+    void verifyAlwaysReadsChainAndReplacesCachedSnapshot() {
+        EscrowSnapshot released = snapshot(EscrowStatus.RELEASED);
+        cache.put(7L, deposited);
+        when(blockchainService.getEscrowSnapshot(7L)).thenReturn(Optional.of(released));
+
+        assertThat(cache.verify(7L)).contains(released);
+        assertThat(cache.get(7L)).contains(released);
+
+        verify(blockchainService, times(1)).getEscrowSnapshot(7L);
+    }
+
+    @Test
+    void invalidateDropsLocalAndRedisEntries() {
+        cache.put(7L, deposited);
+        when(blockchainService.getEscrowSnapshot(7L)).thenReturn(Optional.empty());
+
+        cache.invalidate(7L);
+
+        assertThat(cache.get(7L)).isEmpty();
+        verify(redisTemplate, atLeastOnce()).delete(KEY);
+    }
+
+    @Test
+    void snapshotCopiedFromRedisExpiresLocallyWhenTheRedisKeyDoes() throws Exception {
+        when(valueOperations.get(KEY)).thenReturn(objectMapper.writeValueAsString(deposited));
+        when(redisTemplate.getExpire(KEY, TimeUnit.MILLISECONDS)).thenReturn(1L);
+
+        assertThat(cache.get(7L)).contains(deposited);
+        Thread.sleep(5);
+        assertThat(cache.get(7L)).contains(deposited);
+
+        verify(valueOperations, times(2)).get(KEY);
+    }
+
+    @Test
+    void fullLocalTierEvictsTheLeastRecentlyUsedSnapshot() {
+        ReflectionTestUtils.setField(cache, "maxEntries", 2);
+        cache.put(7L, deposited);
+        cache.put(8L, deposited);
+        cache.get(7L);
+
+        cache.put(9L, deposited);
+
+        assertThat(cache.get(9L)).contains(deposited);
+        assertThat(cache.get(7L)).contains(deposited);
+        verify(valueOperations, never()).get(anyString());
+        cache.get(8L);
+        verify(valueOperations).get("escrow:snapshot:0xcontract:8");
+    }
+
+    private static EscrowSnapshot snapshot(EscrowStatus status) {
+        return new EscrowSnapshot("0xclient", "0xfreelancer", "0xtoken", BigInteger.valueOf(1000), status);
+    }
+}
@@ -0,0 +1,86 @@
+package com.clienthub.web3.service;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.OkHttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.web3j.protocol.Web3j;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FailoverRpcServiceTest {
+    private final List<HttpServer> servers = new ArrayList<>();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Clock clock = Clock.fixed(Instant.parse("2026-01-01T00:00:00Z"), ZoneOffset.UTC);
+
+    @AfterEach
+    void tearDown() {
+        servers.forEach(server -> server.stop(0));
+    }
+
+    @Test
+    void failsOverToNextEndpointAndSkipsItOnceTheBreakerOpens() throws Exception {
+        AtomicInteger primaryHits = new AtomicInteger();
+        AtomicInteger fallbackHits = new AtomicInteger();
+        String primary = node(503, "{}", primaryHits);
+        String fallback = node(200, "{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":\"0x2a\"}", fallbackHits);
+        Web3j web3j = Web3j.build(service(List.of(primary, fallback), 2));
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(web3j.ethBlockNumber().send().getBlockNumber().longValue()).isEqualTo(42);
+        }
+
+        assertThat(primaryHits).hasValue(2);
+        assertThat(fallbackHits).hasValue(4);
+        assertThat(meterRegistry.get(FailoverRpcService.FAILOVER_METRIC).tag("endpoint", "0").counter().count())
+                .isEqualTo(2);
+        assertThat(meterRegistry.get(FailoverRpcService.LATENCY_METRIC)
+                .tag("method", "eth_blockNumber").tag("outcome", "success").timer().count()).isEqualTo(4);
+    }
+
+    @Test
+    void failsWhenEveryEndpointFails() throws Exception {
+        String primary = node(502, "bad gateway", new AtomicInteger());
+        Web3j web3j = Web3j.build(service(List.of(primary), 3));
+
+        assertThatThrownBy(() -> web3j.ethBlockNumber().send()).isInstanceOf(IOException.class);
+        assertThat(meterRegistry.get(FailoverRpcService.LATENCY_METRIC)
+                .tag("method", "eth_blockNumber").tag("outcome", "error").timer().count()).isEqualTo(1);
+    }
+
+    private FailoverRpcService service(List<String> urls, int failureThreshold) {
+        return new FailoverRpcService(new OkHttpClient(), urls, failureThreshold, Duration.ofSeconds(30),
+                meterRegistry, clock);
+    }
+
+    private String node(int status, String body, AtomicInteger hits) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            hits.incrementAndGet();
+            exchange.getRequestBody().readAllBytes();
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, bytes.length);
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(bytes);
+            }
+        });
+        server.start();
+        servers.add(server);
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/";
+    }
+}
@@ -0,0 +1,81 @@
+package com.clienthub.web3.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.web3j.protocol.Service;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/** In-process JSON-RPC node for tests: answers registered methods and records every round trip. */
+public class FakeJsonRpcService extends Service {
+    public record RpcError(int code, String message) {}
+
+    private final Map<String, Function<JsonNode, Object>> handlers = new HashMap<>();
+    private final List<JsonNode> calls = new ArrayList<>();
+    private int roundTrips;
+
+    public FakeJsonRpcService() {
+        super(false);
+    }
+
+    /** Registers a handler receiving the request params; it returns a result value or an {@link RpcError}. */
+    public FakeJsonRpcService on(String method, Function<JsonNode, Object> handler) {
+        handlers.put(method, handler);
+        return this;
+    }
+
+    public List<JsonNode> calls(String method) {
+        return calls.stream().filter(call -> method.equals(call.path("method").asText())).toList();
+    }
+
+    public int roundTrips() {
+        return roundTrips;
+    }
+
+    @Override
+    protected InputStream performIO(String payload) throws IOException {
+        roundTrips++;
+        JsonNode request = objectMapper.readTree(payload);
+        JsonNode response;
+        if (request.isArray()) {
+            ArrayNode responses = objectMapper.createArrayNode();
+            request.forEach(call -> responses.add(answer(call)));
+            response = responses;
+        } else {
+            response = answer(request);
+        }
+        return new ByteArrayInputStream(objectMapper.writeValueAsBytes(response));
+    }
+
+    private ObjectNode answer(JsonNode call) {
+        calls.add(call);
+        ObjectNode response = objectMapper.createObjectNode();
+        response.put("jsonrpc", "2.0");
+        response.set("id", call.get("id"));
+
+        Function<JsonNode, Object> handler = handlers.get(call.path("method").asText());
+        Object result = handler == null
+                ? new RpcError(-32601, "Method not found: " + call.path("method").asText())
+                : handler.apply(call.path("params"));
+        if (result instanceof RpcError error) {
+            ObjectNode errorNode = response.putObject("error");
+            errorNode.put("code", error.code());
+            errorNode.put("message", error.message());
+        } else {
+            response.set("result", objectMapper.valueToTree(result));
+        }
+        return response;
+    }
+
+    @Override
+    public void close() {
+    }
+}